@@ -1,16 +1,14 @@
 package growthcraft.api.bees;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.log.NullLogger;
 import growthcraft.api.core.item.ItemKey;
+import growthcraft.api.core.item.ItemKeyMap;
 import growthcraft.api.core.util.BlockKey;
+import growthcraft.api.core.util.BlockKeyMap;
 
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
@@ -20,10 +18,10 @@ public class BeesRegistry implements IBeesRegistry
 {
 	private static final BeesRegistry INSTANCE = new BeesRegistry();
 
-	private final List<ItemKey> beesList = new ArrayList<ItemKey>();
-	private final Map<ItemKey, ItemStack> emptyToFullHoneyComb = new HashMap<ItemKey, ItemStack>();
-	private final Map<ItemKey, ItemStack> fullToEmptyHoneyComb = new HashMap<ItemKey, ItemStack>();
-	private final Map<BlockKey, IFlowerBlockEntry> flowerEntries = new HashMap<BlockKey, IFlowerBlockEntry>();
+	private final ItemKeyMap<ItemKey> beesMap = new ItemKeyMap<ItemKey>();
+	private final ItemKeyMap<ItemStack> emptyToFullHoneyComb = new ItemKeyMap<ItemStack>();
+	private final ItemKeyMap<ItemStack> fullToEmptyHoneyComb = new ItemKeyMap<ItemStack>();
+	private final BlockKeyMap<IFlowerBlockEntry> flowerEntries = new BlockKeyMap<IFlowerBlockEntry>();
 	private ILogger logger = NullLogger.INSTANCE;
 
 	public static final BeesRegistry instance()
@@ -54,7 +52,8 @@ public class BeesRegistry implements IBeesRegistry
 	public void addBee(@Nonnull Item bee, int meta)
 	{
 		logger.info("Adding Bee {%s}:%d", bee, meta);
-		beesList.add(new ItemKey(bee, meta));
+		final ItemKey key = new ItemKey(bee, meta);
+		beesMap.put(key, key);
 	}
 
 	public void addBee(@Nonnull Block bee, int meta)
@@ -66,7 +65,7 @@ public class BeesRegistry implements IBeesRegistry
 	{
 		final ItemKey key = stackToKey(stack);
 		logger.info("Adding Bee {%s}", key);
-		beesList.add(key);
+		beesMap.put(key, key);
 	}
 
 	public void addBee(@Nonnull Item bee)
@@ -82,8 +81,8 @@ public class BeesRegistry implements IBeesRegistry
 	protected void addHoneyCombMapping(@Nonnull ItemStack empty, @Nonnull ItemStack full)
 	{
 		logger.info("Adding Honey Comb mapping {%s} - {%s}", empty, full);
-		emptyToFullHoneyComb.put(stackToKey(empty), full);
-		fullToEmptyHoneyComb.put(stackToKey(full), empty);
+		emptyToFullHoneyComb.put(empty, full);
+		fullToEmptyHoneyComb.put(full, empty);
 	}
 
 	public void addHoneyComb(@Nonnull ItemStack empty, @Nonnull ItemStack full)
@@ -93,12 +92,12 @@ public class BeesRegistry implements IBeesRegistry
 
 	public ItemStack getFilledHoneyComb(@Nonnull ItemStack itemstack)
 	{
-		return emptyToFullHoneyComb.get(stackToKey(itemstack));
+		return emptyToFullHoneyComb.get(itemstack);
 	}
 
 	public ItemStack getEmptyHoneyComb(@Nonnull ItemStack itemstack)
 	{
-		return fullToEmptyHoneyComb.get(stackToKey(itemstack));
+		return fullToEmptyHoneyComb.get(itemstack);
 	}
 
 	protected boolean isItemFilledHoneyComb(@Nonnull ItemKey key)
@@ -108,7 +107,7 @@ public class BeesRegistry implements IBeesRegistry
 
 	public boolean isItemFilledHoneyComb(@Nonnull ItemStack itemstack)
 	{
-		return isItemFilledHoneyComb(stackToKey(itemstack));
+		return fullToEmptyHoneyComb.containsKey(itemstack);
 	}
 
 	protected boolean isItemEmptyHoneyComb(@Nonnull ItemKey key)
@@ -118,13 +117,12 @@ public class BeesRegistry implements IBeesRegistry
 
 	public boolean isItemEmptyHoneyComb(@Nonnull ItemStack itemstack)
 	{
-		return isItemEmptyHoneyComb(stackToKey(itemstack));
+		return emptyToFullHoneyComb.containsKey(itemstack);
 	}
 
 	public boolean isItemHoneyComb(@Nonnull ItemStack itemstack)
 	{
-		final ItemKey key = stackToKey(itemstack);
-		return isItemFilledHoneyComb(key) || isItemEmptyHoneyComb(key);
+		return isItemFilledHoneyComb(itemstack) || isItemEmptyHoneyComb(itemstack);
 	}
 
 	public void addFlower(@Nonnull BlockKey key, @Nonnull IFlowerBlockEntry entry)
@@ -167,9 +165,10 @@ public class BeesRegistry implements IBeesRegistry
 	public boolean isItemBee(@Nullable ItemStack itemstack)
 	{
 		if (itemstack == null) return false;
-		return beesList.contains(new ItemKey(itemstack)) ||
-			beesList.contains(ItemKey.newWoNBT(itemstack)) ||
-			beesList.contains(new ItemKey(itemstack.getItem(), ItemKey.WILDCARD_VALUE));
+		final Item item = itemstack.getItem();
+		return beesMap.containsKey(itemstack) ||
+			beesMap.containsKey(item, itemstack.getItemDamage()) ||
+			beesMap.containsKey(item, ItemKey.WILDCARD_VALUE);
 	}
 
 	public IFlowerBlockEntry getFlowerBlockEntry(@Nonnull BlockKey key)
@@ -180,14 +179,14 @@ public class BeesRegistry implements IBeesRegistry
 	public IFlowerBlockEntry getFlowerBlockEntry(@Nullable Block block, int meta)
 	{
 		if (block == null) return null;
-		final IFlowerBlockEntry entry = getFlowerBlockEntry(new BlockKey(block, meta));
+		final IFlowerBlockEntry entry = flowerEntries.get(block, meta);
 		if (entry != null) return entry;
-		return getFlowerBlockEntry(new BlockKey(block, ItemKey.WILDCARD_VALUE));
+		return flowerEntries.get(block, ItemKey.WILDCARD_VALUE);
 	}
 
 	public boolean isBlockFlower(@Nullable Block block, int meta)
 	{
-		return flowerEntries.containsKey(new BlockKey(block, meta)) ||
-			flowerEntries.containsKey(new BlockKey(block, ItemKey.WILDCARD_VALUE));
+		return flowerEntries.containsKey(block, meta) ||
+			flowerEntries.containsKey(block, ItemKey.WILDCARD_VALUE);
 	}
 }
@@ -27,12 +27,15 @@ import java.util.List;
 import java.util.Random;
 import javax.annotation.Nonnull;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.cellar.booze.effect.EffectTipsy;
 import growthcraft.api.core.CoreRegistry;
 import growthcraft.api.core.effect.AbstractEffect;
 import growthcraft.api.core.effect.EffectAddPotionEffect;
 import growthcraft.api.core.effect.EffectList;
 import growthcraft.api.core.effect.IEffect;
+import growthcraft.api.core.stream.IStreamable;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
@@ -41,7 +44,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 
-public class BoozeEffect extends AbstractEffect
+public class BoozeEffect extends AbstractEffect implements IStreamable
 {
 	public static class BoozeEffectList extends EffectList
 	{
@@ -183,4 +186,28 @@ public class BoozeEffect extends AbstractEffect
 			data.setString("fluid.name", booze.getName());
 		}
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		this.tipsyEffect = null;
+		if (stream.readBoolean())
+		{
+			this.tipsyEffect = new EffectTipsy();
+			tipsyEffect.readFromStream(stream);
+		}
+		this.effects = new BoozeEffectList();
+		effects.readFromStream(stream);
+		final int fluidId = stream.readInt();
+		this.booze = fluidId > -1 ? FluidRegistry.getFluid(fluidId) : null;
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		stream.writeBoolean(tipsyEffect != null);
+		if (tipsyEffect != null) tipsyEffect.writeToStream(stream);
+		effects.writeToStream(stream);
+		stream.writeInt(booze != null ? booze.getID() : -1);
+	}
 }
@@ -29,11 +29,15 @@ import java.util.Collection;
 
 import javax.annotation.Nonnull;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.cellar.CellarRegistry;
 import growthcraft.api.core.CoreRegistry;
 import growthcraft.api.core.fluids.FluidTag;
 import growthcraft.api.core.description.Describer;
 import growthcraft.api.core.effect.IPotionEffectFactory;
+import growthcraft.api.core.stream.IStreamable;
+import growthcraft.api.core.stream.StreamUtils;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
@@ -42,7 +46,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 
-public class BoozePotionEffectFactory implements IPotionEffectFactory
+public class BoozePotionEffectFactory implements IPotionEffectFactory, IStreamable
 {
 	private int id;
 	private int time;
@@ -57,6 +61,8 @@ public class BoozePotionEffectFactory implements IPotionEffectFactory
 		this.level = lvl;
 	}
 
+	public BoozePotionEffectFactory() {}
+
 	public int getID()
 	{
 		return id;
@@ -148,4 +154,23 @@ public class BoozePotionEffectFactory implements IPotionEffectFactory
 
 		data.setTag(name, target);
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		this.id = StreamUtils.readVarInt(stream);
+		this.time = StreamUtils.readVarInt(stream);
+		this.level = StreamUtils.readVarInt(stream);
+		final int fluidId = stream.readInt();
+		this.booze = fluidId > -1 ? FluidRegistry.getFluid(fluidId) : null;
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		StreamUtils.writeVarInt(stream, id);
+		StreamUtils.writeVarInt(stream, time);
+		StreamUtils.writeVarInt(stream, level);
+		stream.writeInt(booze != null ? booze.getID() : -1);
+	}
 }
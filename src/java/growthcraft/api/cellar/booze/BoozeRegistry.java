@@ -21,6 +21,7 @@ public class BoozeRegistry implements IBoozeRegistry
 	private Map<Fluid, BoozeEntry> boozeMap = new HashMap<Fluid, BoozeEntry>();
 	private Map<Fluid, Fluid> altBoozeMap = new HashMap<Fluid, Fluid>();
 	private Map<FluidTag, IModifierFunction> tagModifierFunctions = new HashMap<FluidTag, IModifierFunction>();
+	private int revision;
 
 	@Override
 	public void setLogger(@Nonnull ILogger l)
@@ -36,6 +37,13 @@ public class BoozeRegistry implements IBoozeRegistry
 	public void setModifierFunction(@Nonnull FluidTag tag, IModifierFunction func)
 	{
 		tagModifierFunctions.put(tag, func);
+		revision++;
+	}
+
+	@Override
+	public int getRevision()
+	{
+		return revision;
 	}
 
 	public Collection<BoozeEntry> getBoozeEntries()
@@ -96,6 +104,7 @@ public class BoozeRegistry implements IBoozeRegistry
 	protected void registerBooze(@Nonnull Fluid fluid, @Nonnull BoozeEntry entry)
 	{
 		boozeMap.put(fluid, entry);
+		revision++;
 	}
 
 	/**
@@ -38,6 +38,11 @@ public interface IBoozeRegistry extends ILoggable
 	IModifierFunction getModifierFunction(@Nullable FluidTag fluid);
 	void setModifierFunction(@Nonnull FluidTag fluid, IModifierFunction func);
 
+	/**
+	 * @return a number that changes whenever a booze, booze alternative or modifier function is registered
+	 */
+	int getRevision();
+
 	Collection<BoozeEntry> getBoozeEntries();
 	void registerBooze(@Nonnull Fluid fluid);
 	BoozeEntry getBoozeEntry(@Nullable Fluid fluid);
@@ -26,9 +26,13 @@ package growthcraft.api.cellar.booze.effect;
 import java.util.Random;
 import java.util.List;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.effect.AbstractEffect;
 import growthcraft.api.core.i18n.GrcI18n;
 import growthcraft.api.core.stats.IAchievement;
+import growthcraft.api.core.stream.IStreamable;
+import growthcraft.api.core.stream.StreamUtils;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
@@ -40,7 +44,7 @@ import net.minecraft.util.EnumChatFormatting;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 
-public class EffectTipsy extends AbstractEffect
+public class EffectTipsy extends AbstractEffect implements IStreamable
 {
 	public static Potion potionTipsy;
 	public static IAchievement achievement;
@@ -148,4 +152,20 @@ public class EffectTipsy extends AbstractEffect
 		data.setFloat("tipsy_chance", tipsyChance);
 		data.setInteger("tipsy_time", tipsyTime);
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		this.hasTipsyEffect = stream.readBoolean();
+		this.tipsyChance = stream.readFloat();
+		this.tipsyTime = StreamUtils.readVarInt(stream);
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		stream.writeBoolean(hasTipsyEffect);
+		stream.writeFloat(tipsyChance);
+		StreamUtils.writeVarInt(stream, tipsyTime);
+	}
 }
@@ -1,6 +1,7 @@
 package growthcraft.api.cellar.brewing;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -20,7 +21,40 @@ import net.minecraftforge.fluids.FluidStack;
 
 public class BrewingRegistry implements IBrewingRegistry
 {
+	static class RecipeEntry
+	{
+		public final int order;
+		public final BrewingRecipe recipe;
+
+		public RecipeEntry(int pOrder, @Nonnull BrewingRecipe pRecipe)
+		{
+			this.order = pOrder;
+			this.recipe = pRecipe;
+		}
+	}
+
+	static class RecipeBucket extends ArrayList<RecipeEntry>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	static class ItemRecipeMap extends HashMap<ItemKey, RecipeBucket>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	static class FluidRecipeTree extends HashMap<Fluid, ItemRecipeMap>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
 	private List<BrewingRecipe> recipes = new ArrayList<BrewingRecipe>();
+	// Recipes are indexed by their (alternate resolved) input Fluid and then
+	// by their input Item, the candidates found are still checked with
+	// matchesRecipe, the index only narrows down the search.
+	// Each bucket is kept in registration order, so the first match in a
+	// bucket is the same recipe the linear search would have found.
+	private FluidRecipeTree recipeTree = new FluidRecipeTree();
 	private Set<ItemKey> itemIngredients = new HashSet<ItemKey>();
 	private ILogger logger = NullLogger.INSTANCE;
 
@@ -35,13 +69,51 @@ public class BrewingRegistry implements IBrewingRegistry
 		this.logger = l;
 	}
 
+	@Nonnull
+	private ItemKey stackToKey(@Nonnull ItemStack stack)
+	{
+		// brewing recipes match items by Item and damage only, the NBT is ignored
+		return ItemKey.newWoNBT(stack);
+	}
+
+	private void indexRecipe(@Nonnull BrewingRecipe recipe, int order)
+	{
+		final Fluid key = boozeToKey(recipe.getInputFluidStack().getFluid());
+		ItemRecipeMap map = recipeTree.get(key);
+		if (map == null)
+		{
+			map = new ItemRecipeMap();
+			recipeTree.put(key, map);
+		}
+		final ItemKey itemKey = stackToKey(recipe.getInputItemStack());
+		RecipeBucket bucket = map.get(itemKey);
+		if (bucket == null)
+		{
+			bucket = new RecipeBucket();
+			map.put(itemKey, bucket);
+		}
+		bucket.add(new RecipeEntry(order, recipe));
+	}
+
 	private void addRecipe(@Nonnull BrewingRecipe recipe)
 	{
 		final ItemStack is = recipe.getInputItemStack();
+		indexRecipe(recipe, recipes.size());
 		recipes.add(recipe);
 		itemIngredients.add(new ItemKey(is));
 	}
 
+	@Nullable
+	private RecipeEntry findInBucket(@Nullable RecipeBucket bucket, @Nonnull FluidStack fluidstack, @Nonnull ItemStack itemstack)
+	{
+		if (bucket == null) return null;
+		for (RecipeEntry entry : bucket)
+		{
+			if (entry.recipe.matchesRecipe(fluidstack, itemstack)) return entry;
+		}
+		return null;
+	}
+
 	@Override
 	public void addBrewing(@Nonnull FluidStack sourceFluid, @Nonnull ItemStack raw, @Nonnull FluidStack resultFluid, int time, @Nullable Residue residue)
 	{
@@ -52,12 +124,17 @@ public class BrewingRegistry implements IBrewingRegistry
 	public BrewingRecipe getBrewingRecipe(@Nullable FluidStack fluidstack, @Nullable ItemStack itemstack)
 	{
 		if (itemstack == null || fluidstack == null) return null;
+		if (fluidstack.getFluid() == null || itemstack.getItem() == null) return null;
 
-		for (BrewingRecipe recipe : recipes)
-		{
-			if (recipe.matchesRecipe(fluidstack, itemstack)) return recipe;
-		}
-		return null;
+		final ItemRecipeMap map = recipeTree.get(boozeToKey(fluidstack.getFluid()));
+		if (map == null) return null;
+
+		final RecipeEntry exact = findInBucket(map.get(stackToKey(itemstack)), fluidstack, itemstack);
+		final RecipeEntry wildcard = findInBucket(map.get(new ItemKey(itemstack.getItem(), ItemKey.WILDCARD_VALUE)), fluidstack, itemstack);
+		// preserve the first-match order of the registration list
+		if (exact == null) return wildcard != null ? wildcard.recipe : null;
+		if (wildcard == null || exact.order < wildcard.order) return exact.recipe;
+		return wildcard.recipe;
 	}
 
 	@Override
@@ -6,7 +6,7 @@ import javax.annotation.Nonnull;
 import growthcraft.api.cellar.CellarRegistry;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.log.NullLogger;
-import growthcraft.api.core.item.ItemKey;
+import growthcraft.api.core.item.ItemKeyMap;
 
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.Fluid;
@@ -14,9 +14,8 @@ import net.minecraftforge.fluids.FluidStack;
 
 public class FermentingRegistry implements IFermentingRegistry
 {
-	static class FluidModifierMap extends HashMap<ItemKey, FermentationRecipe>
+	static class FluidModifierMap extends ItemKeyMap<FermentationRecipe>
 	{
-		public static final long serialVersionUID = 1L;
 	}
 
 	static class FluidModifierTree extends HashMap<Fluid, FluidModifierMap>
@@ -24,7 +23,7 @@ public class FermentingRegistry implements IFermentingRegistry
 		public static final long serialVersionUID = 1L;
 	}
 
-	// This maps Fluids to Items (in a ItemKey) to FluidStacks
+	// This maps Fluids to Items (in a ItemKeyMap) to FluidStacks
 	// The lookup works like this: First you search for a Booze, then you
 	// look at its modifiers and return its resultant FluidStack
 	// Why didn't I use a List? The linear lookup and the lack of type safety
@@ -43,12 +42,6 @@ public class FermentingRegistry implements IFermentingRegistry
 		return CellarRegistry.instance().booze().maybeAlternateBooze(booze.getFluid());
 	}
 
-	@Nonnull
-	private ItemKey stackToKey(@Nonnull ItemStack stack)
-	{
-		return new ItemKey(stack);
-	}
-
 	@Override
 	public void addFermentingRecipe(@Nonnull FluidStack result, @Nonnull FluidStack booze, @Nonnull ItemStack fermenter, int time)
 	{
@@ -57,7 +50,7 @@ public class FermentingRegistry implements IFermentingRegistry
 		{
 			fermentTree.put(key, new FluidModifierMap());
 		}
-		fermentTree.get(key).put(stackToKey(fermenter), new FermentationRecipe(booze, fermenter, result, time, null));
+		fermentTree.get(key).put(fermenter, new FermentationRecipe(booze, fermenter, result, time, null));
 	}
 
 	@Override
@@ -68,7 +61,7 @@ public class FermentingRegistry implements IFermentingRegistry
 		final FluidModifierMap map = fermentTree.get(boozeToKey(booze));
 		if (map != null)
 		{
-			return map.get(stackToKey(fermenter));
+			return map.get(fermenter);
 		}
 		return null;
 	}
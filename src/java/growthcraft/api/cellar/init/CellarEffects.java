@@ -24,8 +24,10 @@
 package growthcraft.api.cellar.init;
 
 import growthcraft.api.cellar.booze.BoozeEffect;
+import growthcraft.api.cellar.booze.BoozePotionEffectFactory;
 import growthcraft.api.cellar.booze.effect.EffectTipsy;
 import growthcraft.api.core.CoreRegistry;
+import growthcraft.api.core.IClassFactory;
 import growthcraft.api.core.IEffectRegistry;
 
 public class CellarEffects
@@ -35,8 +37,37 @@ public class CellarEffects
 	public static void init()
 	{
 		final IEffectRegistry reg = CoreRegistry.instance().getEffectsRegistry();
-		reg.register("booze_effect", BoozeEffect.class);
-		reg.register("booze_effect_list", BoozeEffect.BoozeEffectList.class);
-		reg.register("tipsy", EffectTipsy.class);
+		reg.register("booze_effect", BoozeEffect.class, new IClassFactory<BoozeEffect>()
+		{
+			@Override
+			public BoozeEffect newInstance()
+			{
+				return new BoozeEffect();
+			}
+		});
+		reg.register("booze_effect_list", BoozeEffect.BoozeEffectList.class, new IClassFactory<BoozeEffect.BoozeEffectList>()
+		{
+			@Override
+			public BoozeEffect.BoozeEffectList newInstance()
+			{
+				return new BoozeEffect.BoozeEffectList();
+			}
+		});
+		reg.register("tipsy", EffectTipsy.class, new IClassFactory<EffectTipsy>()
+		{
+			@Override
+			public EffectTipsy newInstance()
+			{
+				return new EffectTipsy();
+			}
+		});
+		CoreRegistry.instance().getPotionEffectFactoryRegistry().register("booze", BoozePotionEffectFactory.class, new IClassFactory<BoozePotionEffectFactory>()
+		{
+			@Override
+			public BoozePotionEffectFactory newInstance()
+			{
+				return new BoozePotionEffectFactory();
+			}
+		});
 	}
 }
@@ -1,7 +1,5 @@
 package growthcraft.api.cellar.pressing;
 
-import java.util.HashMap;
-import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -9,6 +7,7 @@ import growthcraft.api.cellar.common.Residue;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.log.NullLogger;
 import growthcraft.api.core.item.ItemKey;
+import growthcraft.api.core.item.ItemKeyMap;
 
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
@@ -16,7 +15,7 @@ import net.minecraftforge.fluids.FluidStack;
 public class PressingRegistry implements IPressingRegistry
 {
 	private ILogger logger = NullLogger.INSTANCE;
-	private Map<ItemKey, PressingRecipe> pressingList = new HashMap<ItemKey, PressingRecipe>();
+	private ItemKeyMap<PressingRecipe> pressingList = new ItemKeyMap<PressingRecipe>();
 
 	@Override
 	public void setLogger(@Nonnull ILogger l)
@@ -38,10 +37,10 @@ public class PressingRegistry implements IPressingRegistry
 	{
 		if (itemstack == null) return null;
 
-		final PressingRecipe ret = pressingList.get(new ItemKey(itemstack));
+		final PressingRecipe ret = pressingList.get(itemstack);
 		if (ret != null) return ret;
 
-		return pressingList.get(new ItemKey(itemstack.getItem(), ItemKey.WILDCARD_VALUE));
+		return pressingList.getWildcard(itemstack);
 	}
 
 	@Override
@@ -33,6 +33,7 @@ import javax.annotation.Nullable;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.log.NullLogger;
 import growthcraft.api.core.item.ItemKey;
+import growthcraft.api.core.item.ItemKeyMap;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.biome.BiomeGenBase;
@@ -40,11 +41,11 @@ import net.minecraftforge.common.BiomeDictionary;
 
 public class YeastRegistry implements IYeastRegistry
 {
-	private Set<ItemKey> yeastList = new HashSet<ItemKey>();
+	private ItemKeyMap<ItemKey> yeastMap = new ItemKeyMap<ItemKey>();
 	private Map<BiomeDictionary.Type, Set<ItemStack>> biomeTypeToYeast = new HashMap<BiomeDictionary.Type, Set<ItemStack>>();
 	private Map<String, Set<ItemStack>> biomeNameToYeast = new HashMap<String, Set<ItemStack>>();
-	private Map<ItemKey, Set<BiomeDictionary.Type>> yeastToBiomeType = new HashMap<ItemKey, Set<BiomeDictionary.Type>>();
-	private Map<ItemKey, Set<String>> yeastToBiomeName = new HashMap<ItemKey, Set<String>>();
+	private ItemKeyMap<Set<BiomeDictionary.Type>> yeastToBiomeType = new ItemKeyMap<Set<BiomeDictionary.Type>>();
+	private ItemKeyMap<Set<String>> yeastToBiomeName = new ItemKeyMap<Set<String>>();
 	private ILogger logger = NullLogger.INSTANCE;
 
 	@Override
@@ -61,7 +62,8 @@ public class YeastRegistry implements IYeastRegistry
 	@Override
 	public void addYeast(@Nonnull ItemStack yeast)
 	{
-		yeastList.add(stackToKey(yeast));
+		final ItemKey key = stackToKey(yeast);
+		yeastMap.put(key, key);
 	}
 
 	@Override
@@ -69,7 +71,7 @@ public class YeastRegistry implements IYeastRegistry
 	{
 		if (yeast == null) return false;
 		if (yeast.getItem() == null) return false;
-		return yeastList.contains(stackToKey(yeast));
+		return yeastMap.containsKey(yeast);
 	}
 
 	@Override
@@ -126,14 +128,14 @@ public class YeastRegistry implements IYeastRegistry
 	public Set<String> getBiomeNamesForYeast(@Nullable ItemStack yeast)
 	{
 		if (yeast == null) return null;
-		return yeastToBiomeName.get(stackToKey(yeast));
+		return yeastToBiomeName.get(yeast);
 	}
 
 	@Override
 	public Set<BiomeDictionary.Type> getBiomeTypesForYeast(@Nullable ItemStack yeast)
 	{
 		if (yeast == null) return null;
-		return yeastToBiomeType.get(stackToKey(yeast));
+		return yeastToBiomeType.get(yeast);
 	}
 
 	@Override
@@ -23,9 +23,18 @@
  */
 package growthcraft.api.core;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
 
 import growthcraft.api.core.nbt.INBTSerializableContext;
+import growthcraft.api.core.stream.IStreamable;
+import growthcraft.api.core.stream.StreamUtils;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
@@ -52,7 +61,42 @@ public abstract class AbstractClassRegistry<T extends INBTSerializableContext> i
 		public ClassRegisteredException() {}
 	}
 
+	/**
+	 * Fallback factory for classes registered without one, it uses the
+	 * class' public no-arg constructor.
+	 */
+	public static class ReflectiveClassFactory<T> implements IClassFactory<T>
+	{
+		private final Class<? extends T> klass;
+
+		public ReflectiveClassFactory(@Nonnull Class<? extends T> pKlass)
+		{
+			this.klass = pKlass;
+		}
+
+		@Override
+		public T newInstance()
+		{
+			try
+			{
+				return klass.newInstance();
+			}
+			catch (InstantiationException e)
+			{
+				throw new IllegalStateException("Failed to create a new instance of an illegal class " + klass, e);
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new IllegalStateException("Failed to create a new instance of " + klass + ", because lack of permissions", e);
+			}
+		}
+	}
+
 	private BiMap<String, Class<? extends T>> effects = HashBiMap.create();
+	// ids are handed out in registration order, see writeObjectToStream
+	private final List<Class<? extends T>> classesById = new ArrayList<Class<? extends T>>();
+	private final Map<Class<?>, Integer> ids = new HashMap<Class<?>, Integer>();
+	private final Map<Class<?>, IClassFactory<? extends T>> factories = new HashMap<Class<?>, IClassFactory<? extends T>>();
 
 	public Class<? extends T> getClass(@Nonnull String name)
 	{
@@ -64,7 +108,27 @@ public abstract class AbstractClassRegistry<T extends INBTSerializableContext> i
 		return effects.inverse().get(klass);
 	}
 
-	public void register(@Nonnull String name, @Nonnull Class<? extends T> klass)
+	/**
+	 * @param klass - registered class
+	 * @return numeric id of the class, or -1 if it isn't registered
+	 */
+	public int getId(@Nonnull Class<?> klass)
+	{
+		final Integer id = ids.get(klass);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * @param id - numeric id
+	 * @return class registered under the id, or null
+	 */
+	public Class<? extends T> getClassById(int id)
+	{
+		if (id < 0 || id >= classesById.size()) return null;
+		return classesById.get(id);
+	}
+
+	public void register(@Nonnull String name, @Nonnull Class<? extends T> klass, @Nonnull IClassFactory<? extends T> factory)
 	{
 		if (effects.containsKey(name))
 		{
@@ -74,9 +138,31 @@ public abstract class AbstractClassRegistry<T extends INBTSerializableContext> i
 		else
 		{
 			effects.put(name, klass);
+			ids.put(klass, classesById.size());
+			classesById.add(klass);
+			factories.put(klass, factory);
 		}
 	}
 
+	public void register(@Nonnull String name, @Nonnull Class<? extends T> klass)
+	{
+		register(name, klass, new ReflectiveClassFactory<T>(klass));
+	}
+
+	/**
+	 * @param klass - registered class
+	 * @return a new blank instance of the class
+	 */
+	public T newInstance(@Nonnull Class<? extends T> klass)
+	{
+		final IClassFactory<? extends T> factory = factories.get(klass);
+		if (factory == null)
+		{
+			throw new IllegalStateException("Cannot create an instance of unregistered class " + klass);
+		}
+		return factory.newInstance();
+	}
+
 	/**
 	 * Mother of hacks batman!
 	 *
@@ -87,27 +173,78 @@ public abstract class AbstractClassRegistry<T extends INBTSerializableContext> i
 	public T loadObjectFromNBT(@Nonnull NBTTagCompound data, @Nonnull String name)
 	{
 		final NBTTagCompound effectData = data.getCompoundTag(name);
-		final String factoryName = data.getString("__name__");
+		final String factoryName = effectData.getString("__name__");
 		final Class<? extends T> klass = getClass(factoryName);
+		if (klass == null)
+		{
+			throw new IllegalStateException("No class is registered as '" + factoryName + "'");
+		}
 
-		T instance = null;
+		final T instance = newInstance(klass);
+		instance.readFromNBT(data, name);
 
-		// This should be a utility method in the future or something, its used so much now...
-		try
+		return instance;
+	}
+
+	/**
+	 * Writes the object as its numeric id followed by its data, objects that
+	 * implement IStreamable write their own data, the rest fall back to NBT.
+	 *
+	 * The ids depend on registration order, which is the same on the client
+	 * and server for the same set of mods, but can change between runs.
+	 * Use this for syncing and copying, and the name based NBT for saving.
+	 *
+	 * @param stream - stream to write to
+	 * @param obj - object to write, may be null
+	 */
+	public void writeObjectToStream(@Nonnull ByteBuf stream, @Nullable T obj)
+	{
+		if (obj == null)
 		{
-			instance = klass.newInstance();
+			StreamUtils.writeVarInt(stream, 0);
+			return;
 		}
-		catch (InstantiationException e)
+		final int id = getId(obj.getClass());
+		if (id < 0)
 		{
-			throw new IllegalStateException("Failed to create a new instance of an illegal class " + klass, e);
+			throw new IllegalArgumentException("Cannot write unregistered class " + obj.getClass());
 		}
-		catch (IllegalAccessException e)
+		StreamUtils.writeVarInt(stream, id + 1);
+		if (obj instanceof IStreamable)
 		{
-			throw new IllegalStateException("Failed to create a new instance of " + klass + ", because lack of permissions", e);
+			((IStreamable)obj).writeToStream(stream);
 		}
+		else
+		{
+			final NBTTagCompound tag = new NBTTagCompound();
+			obj.writeToNBT(tag, "value");
+			StreamUtils.writeNBT(stream, tag);
+		}
+	}
 
-		instance.readFromNBT(data, name);
-
+	/**
+	 * @param stream - stream to read from
+	 * @return object read, may be null
+	 */
+	@Nullable
+	public T readObjectFromStream(@Nonnull ByteBuf stream)
+	{
+		final int id = StreamUtils.readVarInt(stream) - 1;
+		if (id < 0) return null;
+		final Class<? extends T> klass = getClassById(id);
+		if (klass == null)
+		{
+			throw new IllegalStateException("No class is registered with id " + id);
+		}
+		final T instance = newInstance(klass);
+		if (instance instanceof IStreamable)
+		{
+			((IStreamable)instance).readFromStream(stream);
+		}
+		else
+		{
+			instance.readFromNBT(StreamUtils.readNBT(stream), "value");
+		}
 		return instance;
 	}
 }
@@ -20,7 +20,7 @@ public class CoreRegistry implements ILoggable
 	private final IFluidDictionary fluidDictionary = new FluidDictionary();
 	private final IFluidTagsRegistry fluidTagsRegistry = new FluidTagsRegistry();
 	private final IEffectRegistry effectRegistry = new EffectRegistry().initialize();
-	private final IPotionEffectFactoryRegistry potionEffectFactoryRegistry = new PotionEffectFactoryRegistry();
+	private final IPotionEffectFactoryRegistry potionEffectFactoryRegistry = new PotionEffectFactoryRegistry().initialize();
 	private final IVineDropRegistry vineDropRegistry = new VineDropRegistry();
 
 	public static final CoreRegistry instance()
@@ -24,6 +24,9 @@
 package growthcraft.api.core;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
 
 import growthcraft.api.core.effect.EffectAddPotionEffect;
 import growthcraft.api.core.effect.EffectChance;
@@ -44,13 +47,71 @@ public class EffectRegistry extends AbstractClassRegistry<IEffect> implements IE
 
 	public EffectRegistry initialize()
 	{
-		register("add_potion_effect", EffectAddPotionEffect.class);
-		register("chance", EffectChance.class);
-		register("list", EffectList.class);
-		register("null", EffectNull.class);
-		register("random_list", EffectRandomList.class);
-		register("remove_potion_effect", EffectRemovePotionEffect.class);
-		register("weighted_random_list", EffectWeightedRandomList.class);
+		register("add_potion_effect", EffectAddPotionEffect.class, new IClassFactory<EffectAddPotionEffect>()
+		{
+			@Override
+			public EffectAddPotionEffect newInstance()
+			{
+				return new EffectAddPotionEffect();
+			}
+		});
+		register("chance", EffectChance.class, new IClassFactory<EffectChance>()
+		{
+			@Override
+			public EffectChance newInstance()
+			{
+				return new EffectChance();
+			}
+		});
+		register("list", EffectList.class, new IClassFactory<EffectList>()
+		{
+			@Override
+			public EffectList newInstance()
+			{
+				return new EffectList();
+			}
+		});
+		register("null", EffectNull.class, new IClassFactory<EffectNull>()
+		{
+			@Override
+			public EffectNull newInstance()
+			{
+				return new EffectNull();
+			}
+		});
+		register("random_list", EffectRandomList.class, new IClassFactory<EffectRandomList>()
+		{
+			@Override
+			public EffectRandomList newInstance()
+			{
+				return new EffectRandomList();
+			}
+		});
+		register("remove_potion_effect", EffectRemovePotionEffect.class, new IClassFactory<EffectRemovePotionEffect>()
+		{
+			@Override
+			public EffectRemovePotionEffect newInstance()
+			{
+				return new EffectRemovePotionEffect();
+			}
+		});
+		register("weighted_random_list", EffectWeightedRandomList.class, new IClassFactory<EffectWeightedRandomList>()
+		{
+			@Override
+			public EffectWeightedRandomList newInstance()
+			{
+				return new EffectWeightedRandomList();
+			}
+		});
+		// entries of the weighted_random_list, they write their name like any other effect
+		register("weighted_effect", EffectWeightedRandomList.WeightedEffect.class, new IClassFactory<EffectWeightedRandomList.WeightedEffect>()
+		{
+			@Override
+			public EffectWeightedRandomList.WeightedEffect newInstance()
+			{
+				return new EffectWeightedRandomList.WeightedEffect();
+			}
+		});
 		return this;
 	}
 
@@ -65,4 +126,16 @@ public class EffectRegistry extends AbstractClassRegistry<IEffect> implements IE
 	{
 		return loadObjectFromNBT(data, name);
 	}
+
+	@Override
+	public void writeEffectToStream(@Nonnull ByteBuf stream, @Nullable IEffect effect)
+	{
+		writeObjectToStream(stream, effect);
+	}
+
+	@Override
+	public IEffect readEffectFromStream(@Nonnull ByteBuf stream)
+	{
+		return readObjectFromStream(stream);
+	}
 }
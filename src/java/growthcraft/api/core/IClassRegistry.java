@@ -34,6 +34,28 @@ public interface IClassRegistry<T>
 	 */
 	void register(@Nonnull String name, @Nonnull Class<? extends T> klass);
 
+	/**
+	 * Registers a class with a factory, use this for classes without a
+	 * public no-arg constructor or to avoid reflection when reloading.
+	 *
+	 * @param name - Name to register it under
+	 * @param klass - A class
+	 * @param factory - creates blank instances of the class
+	 */
+	void register(@Nonnull String name, @Nonnull Class<? extends T> klass, @Nonnull IClassFactory<? extends T> factory);
+
+	/**
+	 * @param klass - registered class
+	 * @return numeric id of the class, or -1 if it isn't registered
+	 */
+	int getId(@Nonnull Class<?> klass);
+
+	/**
+	 * @param id - numeric id
+	 * @return class registered under the id, or null
+	 */
+	Class<? extends T> getClassById(int id);
+
 	/**
 	 * @param name - name of factory class to fetch
 	 * @return factory class
@@ -24,6 +24,9 @@
 package growthcraft.api.core;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
 
 import growthcraft.api.core.effect.IEffect;
 import growthcraft.api.core.log.ILoggable;
@@ -38,4 +41,18 @@ public interface IEffectRegistry extends IClassRegistry<IEffect>, ILoggable
 	 * @return name
 	 */
 	IEffect loadEffectFromNBT(@Nonnull NBTTagCompound data, @Nonnull String name);
+
+	/**
+	 * Writes the effect by its numeric id, see AbstractClassRegistry#writeObjectToStream
+	 *
+	 * @param stream - stream to write to
+	 * @param effect - effect to write, may be null
+	 */
+	void writeEffectToStream(@Nonnull ByteBuf stream, @Nullable IEffect effect);
+
+	/**
+	 * @param stream - stream to read from
+	 * @return effect read, may be null
+	 */
+	IEffect readEffectFromStream(@Nonnull ByteBuf stream);
 }
@@ -24,6 +24,9 @@
 package growthcraft.api.core;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
 
 import growthcraft.api.core.effect.IPotionEffectFactory;
 import growthcraft.api.core.log.ILoggable;
@@ -38,4 +41,18 @@ public interface IPotionEffectFactoryRegistry extends IClassRegistry<IPotionEffe
 	 * @return name
 	 */
 	IPotionEffectFactory loadPotionEffectFactoryFromNBT(@Nonnull NBTTagCompound data, @Nonnull String name);
+
+	/**
+	 * Writes the factory by its numeric id, see AbstractClassRegistry#writeObjectToStream
+	 *
+	 * @param stream - stream to write to
+	 * @param factory - factory to write, may be null
+	 */
+	void writePotionEffectFactoryToStream(@Nonnull ByteBuf stream, @Nullable IPotionEffectFactory factory);
+
+	/**
+	 * @param stream - stream to read from
+	 * @return factory read, may be null
+	 */
+	IPotionEffectFactory readPotionEffectFactoryFromStream(@Nonnull ByteBuf stream);
 }
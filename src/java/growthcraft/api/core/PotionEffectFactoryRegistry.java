@@ -24,8 +24,12 @@
 package growthcraft.api.core;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
 
 import growthcraft.api.core.effect.IPotionEffectFactory;
+import growthcraft.api.core.effect.SimplePotionEffectFactory;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.log.NullLogger;
 
@@ -35,6 +39,19 @@ public class PotionEffectFactoryRegistry extends AbstractClassRegistry<IPotionEf
 {
 	private ILogger logger = NullLogger.INSTANCE;
 
+	public PotionEffectFactoryRegistry initialize()
+	{
+		register("simple", SimplePotionEffectFactory.class, new IClassFactory<SimplePotionEffectFactory>()
+		{
+			@Override
+			public SimplePotionEffectFactory newInstance()
+			{
+				return new SimplePotionEffectFactory(0, 0, 0);
+			}
+		});
+		return this;
+	}
+
 	public void setLogger(@Nonnull ILogger l)
 	{
 		this.logger = l;
@@ -44,4 +61,16 @@ public class PotionEffectFactoryRegistry extends AbstractClassRegistry<IPotionEf
 	{
 		return loadObjectFromNBT(data, name);
 	}
+
+	@Override
+	public void writePotionEffectFactoryToStream(@Nonnull ByteBuf stream, @Nullable IPotionEffectFactory factory)
+	{
+		writeObjectToStream(stream, factory);
+	}
+
+	@Override
+	public IPotionEffectFactory readPotionEffectFactoryFromStream(@Nonnull ByteBuf stream)
+	{
+		return readObjectFromStream(stream);
+	}
 }
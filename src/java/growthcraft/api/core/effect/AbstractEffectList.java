@@ -27,14 +27,18 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Nonnull;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.nbt.NBTHelper;
+import growthcraft.api.core.stream.IStreamable;
+import growthcraft.api.core.stream.StreamUtils;
 
 import net.minecraft.nbt.NBTTagCompound;
 
 /**
  * Base class for defining Effect lists
  */
-public abstract class AbstractEffectList extends AbstractEffect
+public abstract class AbstractEffectList extends AbstractEffect implements IStreamable
 {
 	protected List<IEffect> effects = new ArrayList<IEffect>();
 
@@ -131,4 +135,17 @@ public abstract class AbstractEffectList extends AbstractEffect
 	{
 		NBTHelper.writeEffectsList(data, effects);
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		effects.clear();
+		StreamUtils.readEffectsList(effects, stream);
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		StreamUtils.writeEffectsList(stream, effects);
+	}
 }
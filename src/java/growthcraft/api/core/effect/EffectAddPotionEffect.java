@@ -27,7 +27,10 @@ import java.util.List;
 import java.util.Random;
 import javax.annotation.Nonnull;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.CoreRegistry;
+import growthcraft.api.core.stream.IStreamable;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
@@ -38,7 +41,7 @@ import net.minecraft.world.World;
 /**
  * As its name implies, this Effect, will ADD a Potion Effect to the target.
  */
-public class EffectAddPotionEffect extends AbstractEffect
+public class EffectAddPotionEffect extends AbstractEffect implements IStreamable
 {
 	private IPotionEffectFactory potionFactory;
 
@@ -108,4 +111,16 @@ public class EffectAddPotionEffect extends AbstractEffect
 			potionFactory.writeToNBT(data, "potion_factory");
 		}
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		this.potionFactory = CoreRegistry.instance().getPotionEffectFactoryRegistry().readPotionEffectFactoryFromStream(stream);
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		CoreRegistry.instance().getPotionEffectFactoryRegistry().writePotionEffectFactoryToStream(stream, potionFactory);
+	}
 }
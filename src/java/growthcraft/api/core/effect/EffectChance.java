@@ -27,9 +27,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.CoreRegistry;
 import growthcraft.api.core.description.Describer;
 import growthcraft.api.core.i18n.GrcI18n;
+import growthcraft.api.core.stream.IStreamable;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
@@ -38,7 +41,7 @@ import net.minecraft.world.World;
 /**
  * Has a random chance of applying its sub effect to the target
  */
-public class EffectChance extends AbstractEffect
+public class EffectChance extends AbstractEffect implements IStreamable
 {
 	private float chance;
 	private IEffect effect;
@@ -121,4 +124,18 @@ public class EffectChance extends AbstractEffect
 			effect.writeToNBT(data, "effect");
 		}
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		this.chance = stream.readFloat();
+		this.effect = CoreRegistry.instance().getEffectsRegistry().readEffectFromStream(stream);
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		stream.writeFloat(chance);
+		CoreRegistry.instance().getEffectsRegistry().writeEffectToStream(stream, effect);
+	}
 }
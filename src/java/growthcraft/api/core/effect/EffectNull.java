@@ -26,7 +26,10 @@ package growthcraft.api.core.effect;
 import java.util.List;
 import java.util.Random;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.i18n.GrcI18n;
+import growthcraft.api.core.stream.IStreamable;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
@@ -35,7 +38,7 @@ import net.minecraft.world.World;
 /**
  * Because sometimes you want an Effect that does ABSOLUTELY NOTHING.
  */
-public class EffectNull extends AbstractEffect
+public class EffectNull extends AbstractEffect implements IStreamable
 {
 	@Override
 	public void apply(World world, Entity entity, Random random, Object data) {}
@@ -56,4 +59,14 @@ public class EffectNull extends AbstractEffect
 	protected void writeToNBT(NBTTagCompound data)
 	{
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+	}
 }
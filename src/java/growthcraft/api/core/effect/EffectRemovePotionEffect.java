@@ -26,7 +26,11 @@ package growthcraft.api.core.effect;
 import java.util.List;
 import java.util.Random;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.i18n.GrcI18n;
+import growthcraft.api.core.stream.IStreamable;
+import growthcraft.api.core.stream.StreamUtils;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
@@ -37,7 +41,7 @@ import net.minecraft.world.World;
 /**
  * As its name implies, this Effect will REMOVE a Potion Effect from the target.
  */
-public class EffectRemovePotionEffect extends AbstractEffect
+public class EffectRemovePotionEffect extends AbstractEffect implements IStreamable
 {
 	private int potionId;
 
@@ -97,4 +101,16 @@ public class EffectRemovePotionEffect extends AbstractEffect
 	{
 		data.setInteger("potion_id", potionId);
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		this.potionId = StreamUtils.readVarInt(stream);
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		StreamUtils.writeVarInt(stream, potionId);
+	}
 }
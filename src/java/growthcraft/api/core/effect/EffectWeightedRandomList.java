@@ -28,10 +28,14 @@ import java.util.List;
 import java.util.Random;
 import javax.annotation.Nonnull;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.CoreRegistry;
 import growthcraft.api.core.description.Describer;
 import growthcraft.api.core.i18n.GrcI18n;
 import growthcraft.api.core.nbt.NBTHelper;
+import growthcraft.api.core.stream.IStreamable;
+import growthcraft.api.core.stream.StreamUtils;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
@@ -42,9 +46,9 @@ import net.minecraft.world.World;
  * A variation of the EffectRandomList, this version uses weights instead
  * linear distribution.
  */
-public class EffectWeightedRandomList extends AbstractEffect
+public class EffectWeightedRandomList extends AbstractEffect implements IStreamable
 {
-	public static class WeightedEffect extends WeightedRandom.Item implements IEffect
+	public static class WeightedEffect extends WeightedRandom.Item implements IEffect, IStreamable
 	{
 		private IEffect effect;
 
@@ -124,6 +128,20 @@ public class EffectWeightedRandomList extends AbstractEffect
 
 			data.setTag(name, target);
 		}
+
+		@Override
+		public void readFromStream(ByteBuf stream)
+		{
+			this.itemWeight = StreamUtils.readVarInt(stream);
+			this.effect = CoreRegistry.instance().getEffectsRegistry().readEffectFromStream(stream);
+		}
+
+		@Override
+		public void writeToStream(ByteBuf stream)
+		{
+			StreamUtils.writeVarInt(stream, itemWeight);
+			CoreRegistry.instance().getEffectsRegistry().writeEffectToStream(stream, effect);
+		}
 	}
 
 	private List<WeightedEffect> effects = new ArrayList<WeightedEffect>();
@@ -296,4 +314,27 @@ public class EffectWeightedRandomList extends AbstractEffect
 		}
 		NBTHelper.writeEffectsList(data, list);
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		effects.clear();
+		final int size = StreamUtils.readVarInt(stream);
+		for (int i = 0; i < size; ++i)
+		{
+			final WeightedEffect effect = new WeightedEffect();
+			effect.readFromStream(stream);
+			effects.add(effect);
+		}
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		StreamUtils.writeVarInt(stream, effects.size());
+		for (WeightedEffect effect : effects)
+		{
+			effect.writeToStream(stream);
+		}
+	}
 }
@@ -26,15 +26,19 @@ package growthcraft.api.core.effect;
 import java.util.Random;
 import java.util.List;
 
+import io.netty.buffer.ByteBuf;
+
 import growthcraft.api.core.CoreRegistry;
 import growthcraft.api.core.description.Describer;
+import growthcraft.api.core.stream.IStreamable;
+import growthcraft.api.core.stream.StreamUtils;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.potion.PotionEffect;
 import net.minecraft.world.World;
 
-public class SimplePotionEffectFactory implements IPotionEffectFactory
+public class SimplePotionEffectFactory implements IPotionEffectFactory, IStreamable
 {
 	private int id;
 	private int time;
@@ -114,4 +118,20 @@ public class SimplePotionEffectFactory implements IPotionEffectFactory
 
 		data.setTag(name, target);
 	}
+
+	@Override
+	public void readFromStream(ByteBuf stream)
+	{
+		this.id = StreamUtils.readVarInt(stream);
+		this.time = StreamUtils.readVarInt(stream);
+		this.level = StreamUtils.readVarInt(stream);
+	}
+
+	@Override
+	public void writeToStream(ByteBuf stream)
+	{
+		StreamUtils.writeVarInt(stream, id);
+		StreamUtils.writeVarInt(stream, time);
+		StreamUtils.writeVarInt(stream, level);
+	}
 }
@@ -39,6 +39,8 @@ import growthcraft.api.core.log.NullLogger;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
+import org.apache.logging.log4j.Level;
+
 public class FluidDictionary implements IFluidDictionary
 {
 	private Map<Fluid, Set<FluidTag>> fluidToTagsMap = new HashMap<Fluid, Set<FluidTag>>();
@@ -61,9 +63,10 @@ public class FluidDictionary implements IFluidDictionary
 		}
 
 		final Set<FluidTag> tagSet = fluidToTagsMap.get(fluid);
+		final boolean logTags = logger.isEnabled(Level.INFO);
 		for (FluidTag tag : tags)
 		{
-			logger.info("Adding tag '%s' to fluid {%s}", tag, fluid);
+			if (logTags) logger.info("Adding tag '%s' to fluid {%s}", tag, fluid);
 			tagSet.add(tag);
 			if (!tagToFluidsMap.containsKey(tag))
 			{
@@ -23,6 +23,7 @@
  */
 package growthcraft.api.core.fluids;
 
+import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -66,6 +67,14 @@ public class FluidKey extends HashKey implements IFluidStackFactory
 		this.hash = 31 * hash + (compoundTag != null ? compoundTag.hashCode() : 0);
 	}
 
+	@Override
+	protected boolean isSameKey(HashKey other)
+	{
+		if (!(other instanceof FluidKey)) return false;
+		final FluidKey key = (FluidKey)other;
+		return fluid == key.fluid && Objects.equals(compoundTag, key.compoundTag);
+	}
+
 	@Override
 	public FluidStack asFluidStack(int size)
 	{
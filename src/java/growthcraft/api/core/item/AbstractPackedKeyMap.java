@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.item;
+
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Open addressing map keyed by an object (Item or Block), a metadata value and
+ * an optional NBTTagCompound.
+ *
+ * Each key is packed into a primitive long (identity hash of the object,
+ * the lower 16 bits of the meta and a 16 bit NBT fingerprint) which is used
+ * for probing, entries whose packed key matches are then compared exactly,
+ * so unlike HashKey lookups, a collision will never return the wrong entry.
+ * Lookups do not allocate any key objects.
+ *
+ * The object's identity hash is used in place of its registry id, since
+ * registry ids can be remapped by FML after the registries have been filled.
+ *
+ * @param <T> type of the key object
+ * @param <V> type of the values
+ */
+public abstract class AbstractPackedKeyMap<T, V>
+{
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private long[] packedKeys;
+	private Object[] keyObjects;
+	private int[] keyMetas;
+	private NBTTagCompound[] keyTags;
+	private Object[] values;
+	private int mask;
+	private int size;
+
+	public AbstractPackedKeyMap(int initialCapacity)
+	{
+		int capacity = DEFAULT_CAPACITY;
+		while (capacity < initialCapacity * 2) capacity <<= 1;
+		allocate(capacity);
+	}
+
+	public AbstractPackedKeyMap()
+	{
+		this(DEFAULT_CAPACITY / 2);
+	}
+
+	private void allocate(int capacity)
+	{
+		this.packedKeys = new long[capacity];
+		this.keyObjects = new Object[capacity];
+		this.keyMetas = new int[capacity];
+		this.keyTags = new NBTTagCompound[capacity];
+		this.values = new Object[capacity];
+		this.mask = capacity - 1;
+	}
+
+	public static int nbtFingerprint(@Nullable NBTTagCompound tag)
+	{
+		if (tag == null) return 0;
+		final int h = tag.hashCode();
+		return (h ^ (h >>> 16)) & 0xFFFF;
+	}
+
+	public static long packKey(Object obj, int meta, @Nullable NBTTagCompound tag)
+	{
+		return ((long)System.identityHashCode(obj) << 32) |
+			((long)(meta & 0xFFFF) << 16) |
+			nbtFingerprint(tag);
+	}
+
+	private static int slotFor(long packed, int slotMask)
+	{
+		long h = packed;
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		return (int)h & slotMask;
+	}
+
+	private int indexOf(long packed, Object obj, int meta, @Nullable NBTTagCompound tag)
+	{
+		int i = slotFor(packed, mask);
+		while (keyObjects[i] != null)
+		{
+			if (packedKeys[i] == packed &&
+				keyObjects[i] == obj &&
+				keyMetas[i] == meta &&
+				Objects.equals(keyTags[i], tag))
+			{
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void insert(long packed, Object obj, int meta, @Nullable NBTTagCompound tag, V value)
+	{
+		int i = slotFor(packed, mask);
+		while (keyObjects[i] != null) i = (i + 1) & mask;
+		packedKeys[i] = packed;
+		keyObjects[i] = obj;
+		keyMetas[i] = meta;
+		keyTags[i] = tag;
+		values[i] = value;
+		size++;
+	}
+
+	@SuppressWarnings({"unchecked"})
+	private void grow()
+	{
+		final long[] oldPacked = packedKeys;
+		final Object[] oldObjects = keyObjects;
+		final int[] oldMetas = keyMetas;
+		final NBTTagCompound[] oldTags = keyTags;
+		final Object[] oldValues = values;
+		allocate(oldObjects.length * 2);
+		this.size = 0;
+		for (int i = 0; i < oldObjects.length; ++i)
+		{
+			if (oldObjects[i] != null)
+			{
+				insert(oldPacked[i], oldObjects[i], oldMetas[i], oldTags[i], (V)oldValues[i]);
+			}
+		}
+	}
+
+	/**
+	 * @return the previous value for the key, or null if there was none
+	 */
+	@SuppressWarnings({"unchecked"})
+	protected V putEntry(T obj, int meta, @Nullable NBTTagCompound tag, V value)
+	{
+		if (obj == null) throw new IllegalArgumentException("Key object cannot be null");
+		// the tag is copied so that changes to the original cannot break the packed key
+		final NBTTagCompound keyTag = tag != null ? (NBTTagCompound)tag.copy() : null;
+		final long packed = packKey(obj, meta, keyTag);
+		final int index = indexOf(packed, obj, meta, keyTag);
+		if (index >= 0)
+		{
+			final V old = (V)values[index];
+			values[index] = value;
+			return old;
+		}
+		if ((size + 1) * 2 > keyObjects.length) grow();
+		insert(packed, obj, meta, keyTag, value);
+		return null;
+	}
+
+	@SuppressWarnings({"unchecked"})
+	protected V getEntry(@Nullable T obj, int meta, @Nullable NBTTagCompound tag)
+	{
+		if (obj == null) return null;
+		final int index = indexOf(packKey(obj, meta, tag), obj, meta, tag);
+		return index >= 0 ? (V)values[index] : null;
+	}
+
+	protected boolean containsEntry(@Nullable T obj, int meta, @Nullable NBTTagCompound tag)
+	{
+		if (obj == null) return false;
+		return indexOf(packKey(obj, meta, tag), obj, meta, tag) >= 0;
+	}
+
+	public int size()
+	{
+		return size;
+	}
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	public void clear()
+	{
+		allocate(DEFAULT_CAPACITY);
+		this.size = 0;
+	}
+}
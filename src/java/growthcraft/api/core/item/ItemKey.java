@@ -23,6 +23,7 @@
  */
 package growthcraft.api.core.item;
 
+import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -92,6 +93,14 @@ public class ItemKey extends HashKey implements IItemStackFactory
 		this.hash = 31 * hash + (compoundTag != null ? compoundTag.hashCode() : 0);
 	}
 
+	@Override
+	protected boolean isSameKey(HashKey other)
+	{
+		if (!(other instanceof ItemKey)) return false;
+		final ItemKey key = (ItemKey)other;
+		return item == key.item && meta == key.meta && Objects.equals(compoundTag, key.compoundTag);
+	}
+
 	@Override
 	public ItemStack asStack(int size)
 	{
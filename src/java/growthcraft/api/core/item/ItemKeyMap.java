@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.item;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Collision safe map for Item keys, use this in place of a Map<ItemKey, V>
+ * where lookups happen often (ie. from a TileEntity update).
+ *
+ * @param <V> type of the values
+ */
+public class ItemKeyMap<V> extends AbstractPackedKeyMap<Item, V>
+{
+	public ItemKeyMap(int initialCapacity)
+	{
+		super(initialCapacity);
+	}
+
+	public ItemKeyMap()
+	{
+		super();
+	}
+
+	public V put(@Nonnull Item item, int meta, @Nullable NBTTagCompound tag, V value)
+	{
+		return putEntry(item, meta, tag, value);
+	}
+
+	public V put(@Nonnull Item item, int meta, V value)
+	{
+		return put(item, meta, null, value);
+	}
+
+	public V put(@Nonnull ItemKey key, V value)
+	{
+		return put(key.item, key.meta, key.compoundTag, value);
+	}
+
+	public V put(@Nonnull ItemStack stack, V value)
+	{
+		return put(stack.getItem(), stack.getItemDamage(), stack.getTagCompound(), value);
+	}
+
+	public V get(@Nullable Item item, int meta, @Nullable NBTTagCompound tag)
+	{
+		return getEntry(item, meta, tag);
+	}
+
+	public V get(@Nullable Item item, int meta)
+	{
+		return get(item, meta, null);
+	}
+
+	public V get(@Nonnull ItemKey key)
+	{
+		return get(key.item, key.meta, key.compoundTag);
+	}
+
+	/**
+	 * Looks up the stack's exact key, including its NBT
+	 *
+	 * @param stack - stack to lookup
+	 * @return value or null
+	 */
+	public V get(@Nullable ItemStack stack)
+	{
+		if (stack == null) return null;
+		return get(stack.getItem(), stack.getItemDamage(), stack.getTagCompound());
+	}
+
+	/**
+	 * Looks up the stack's key, ignoring its NBT
+	 *
+	 * @param stack - stack to lookup
+	 * @return value or null
+	 */
+	public V getWoNBT(@Nullable ItemStack stack)
+	{
+		if (stack == null) return null;
+		return get(stack.getItem(), stack.getItemDamage(), null);
+	}
+
+	/**
+	 * Looks up the stack's item with a wildcard meta
+	 *
+	 * @param stack - stack to lookup
+	 * @return value or null
+	 */
+	public V getWildcard(@Nullable ItemStack stack)
+	{
+		if (stack == null) return null;
+		return get(stack.getItem(), ItemKey.WILDCARD_VALUE, null);
+	}
+
+	public boolean containsKey(@Nullable Item item, int meta, @Nullable NBTTagCompound tag)
+	{
+		return containsEntry(item, meta, tag);
+	}
+
+	public boolean containsKey(@Nullable Item item, int meta)
+	{
+		return containsKey(item, meta, null);
+	}
+
+	public boolean containsKey(@Nonnull ItemKey key)
+	{
+		return containsKey(key.item, key.meta, key.compoundTag);
+	}
+
+	public boolean containsKey(@Nullable ItemStack stack)
+	{
+		if (stack == null) return false;
+		return containsKey(stack.getItem(), stack.getItemDamage(), stack.getTagCompound());
+	}
+}
@@ -44,35 +44,41 @@ public abstract class AbstractLogger implements ILogger
 		this.enabled = false;
 	}
 
+	@Override
+	public boolean isEnabled(Level lv)
+	{
+		return enabled;
+	}
+
 	public abstract void log(Level lv, String str, Object... objs);
 
 	@Override
 	public void info(String str, Object... objs)
 	{
-		log(Level.INFO, str, objs);
+		if (isEnabled(Level.INFO)) log(Level.INFO, str, objs);
 	}
 
 	@Override
 	public void debug(String str, Object... objs)
 	{
-		log(Level.DEBUG, str, objs);
+		if (isEnabled(Level.DEBUG)) log(Level.DEBUG, str, objs);
 	}
 
 	@Override
 	public void warn(String str, Object... objs)
 	{
-		log(Level.WARN, str, objs);
+		if (isEnabled(Level.WARN)) log(Level.WARN, str, objs);
 	}
 
 	@Override
 	public void error(String str, Object... objs)
 	{
-		log(Level.ERROR, str, objs);
+		if (isEnabled(Level.ERROR)) log(Level.ERROR, str, objs);
 	}
 
 	@Override
 	public void fatal(String str, Object... objs)
 	{
-		log(Level.FATAL, str, objs);
+		if (isEnabled(Level.FATAL)) log(Level.FATAL, str, objs);
 	}
 }
@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.log;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import javax.annotation.Nonnull;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes already formatted messages from a background thread, so the thread
+ * logging (normally the one loading the mods) doesn't wait on console I/O.
+ *
+ * The buffer is bounded, when it is full the caller waits for space rather
+ * than dropping messages. Messages still queued when the game exits are
+ * written by a shutdown hook.
+ */
+public class AsyncLogSink implements Runnable
+{
+	private static class Entry
+	{
+		public final Logger target;
+		public final Level level;
+		public final String message;
+
+		public Entry(Logger pTarget, Level pLevel, String pMessage)
+		{
+			this.target = pTarget;
+			this.level = pLevel;
+			this.message = pMessage;
+		}
+	}
+
+	private final BlockingQueue<Entry> queue;
+	private volatile boolean running;
+	private Thread thread;
+
+	/**
+	 * @param capacity - number of messages that can be waiting to be written
+	 */
+	public AsyncLogSink(int capacity)
+	{
+		this.queue = new ArrayBlockingQueue<Entry>(Math.max(1, capacity));
+	}
+
+	public boolean isRunning()
+	{
+		return running;
+	}
+
+	/**
+	 * Starts the writer thread
+	 *
+	 * @return this
+	 */
+	public synchronized AsyncLogSink start()
+	{
+		if (running) return this;
+		this.running = true;
+		this.thread = new Thread(this, "Growthcraft Log Sink");
+		thread.setDaemon(true);
+		thread.start();
+		Runtime.getRuntime().addShutdownHook(new Thread("Growthcraft Log Sink Shutdown")
+		{
+			@Override
+			public void run()
+			{
+				AsyncLogSink.this.stop();
+			}
+		});
+		return this;
+	}
+
+	/**
+	 * Stops the writer thread and writes any messages left in the buffer on
+	 * the calling thread.
+	 */
+	public synchronized void stop()
+	{
+		if (!running) return;
+		this.running = false;
+		thread.interrupt();
+		try
+		{
+			thread.join();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+		}
+		this.thread = null;
+		drain();
+	}
+
+	/**
+	 * @param target - logger to write to
+	 * @param lv - level of the message
+	 * @param message - formatted message
+	 */
+	public void submit(@Nonnull Logger target, @Nonnull Level lv, @Nonnull String message)
+	{
+		if (running)
+		{
+			try
+			{
+				queue.put(new Entry(target, lv, message));
+				// the sink may have been stopped while this was waiting
+				if (!running) drain();
+				return;
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+		target.log(lv, message);
+	}
+
+	private void drain()
+	{
+		Entry entry;
+		while ((entry = queue.poll()) != null)
+		{
+			entry.target.log(entry.level, entry.message);
+		}
+	}
+
+	@Override
+	public void run()
+	{
+		while (running)
+		{
+			try
+			{
+				final Entry entry = queue.take();
+				entry.target.log(entry.level, entry.message);
+			}
+			catch (InterruptedException e)
+			{
+				break;
+			}
+		}
+	}
+}
@@ -23,24 +23,61 @@
  */
 package growthcraft.api.core.log;
 
-import cpw.mods.fml.common.FMLLog;
+import javax.annotation.Nullable;
+
 import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * Logger class used for Module level logging
+ *
+ * Writes to the same log4j logger FMLLog would use for the prefix, but only
+ * formats the message when the level is enabled.
  */
 public class GrcLogger extends AbstractLogger
 {
+	private static volatile AsyncLogSink sink;
+
 	private String prefix;
+	private Logger target;
 
 	public GrcLogger(String pfx)
 	{
 		this.prefix = pfx;
+		this.target = LogManager.getLogger(pfx);
+	}
+
+	/**
+	 * Sets the sink shared by all GrcLoggers, messages are written directly
+	 * when there is none.
+	 *
+	 * @param s - sink to use, or null to write directly
+	 */
+	public static void setSink(@Nullable AsyncLogSink s)
+	{
+		sink = s;
+	}
+
+	@Override
+	public boolean isEnabled(Level lv)
+	{
+		return enabled && target.isEnabled(lv);
 	}
 
 	@Override
 	public void log(Level lv, String str, Object... objs)
 	{
-		if (enabled) FMLLog.log(prefix, lv, prefix + " " + str, objs);
+		if (!isEnabled(lv)) return;
+		final String message = String.format(prefix + " " + str, objs);
+		final AsyncLogSink s = sink;
+		if (s != null)
+		{
+			s.submit(target, lv, message);
+		}
+		else
+		{
+			target.log(lv, message);
+		}
 	}
 }
@@ -29,6 +29,15 @@ public interface ILogger
 {
 	void enable();
 	void disable();
+
+	/**
+	 * Check this before building expensive log arguments, the log methods
+	 * skip formatting on their own when the level is off.
+	 *
+	 * @param lv - level to check
+	 * @return true, if messages at the level would be written
+	 */
+	boolean isEnabled(Level lv);
 	void log(Level lv, String str, Object... objs);
 	void info(String str, Object... objs);
 	void debug(String str, Object... objs);
@@ -32,6 +32,12 @@ public class NullLogger extends AbstractLogger
 {
 	public static final ILogger INSTANCE = new NullLogger();
 
+	@Override
+	public boolean isEnabled(Level lv)
+	{
+		return false;
+	}
+
 	@Override
 	public void log(Level lv, String str, Object... objs) {}
 }
@@ -23,10 +23,21 @@
  */
 package growthcraft.api.core.stream;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.List;
+import javax.annotation.Nonnull;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 
+import growthcraft.api.core.CoreRegistry;
+import growthcraft.api.core.effect.IEffect;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTSizeTracker;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fluids.FluidStack;
@@ -37,6 +48,9 @@ import net.minecraftforge.fluids.FluidTank;
  */
 public class StreamUtils
 {
+	// same limit vanilla uses for NBT in packets
+	private static final long NBT_SIZE_LIMIT = 2097152L;
+
 	private StreamUtils() {}
 
 	/**
@@ -94,4 +108,101 @@ public class StreamUtils
 		stream.writeInt(fluidId);
 		stream.writeInt(fluidAmount);
 	}
+
+	/**
+	 * Writes an int using 7 bits per byte, small positive values take a
+	 * single byte.
+	 *
+	 * @param stream - stream to write to
+	 * @param value - value to write
+	 */
+	public static void writeVarInt(ByteBuf stream, int value)
+	{
+		int v = value;
+		while ((v & ~0x7F) != 0)
+		{
+			stream.writeByte((v & 0x7F) | 0x80);
+			v >>>= 7;
+		}
+		stream.writeByte(v);
+	}
+
+	/**
+	 * @param stream - stream to read from
+	 * @return value written by writeVarInt
+	 */
+	public static int readVarInt(ByteBuf stream)
+	{
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7)
+		{
+			final int b = stream.readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) return value;
+		}
+		throw new IllegalStateException("VarInt is too big");
+	}
+
+	/**
+	 * Writes an uncompressed NBTTagCompound
+	 *
+	 * @param stream - stream to write to
+	 * @param tag - tag to write
+	 */
+	public static void writeNBT(ByteBuf stream, @Nonnull NBTTagCompound tag)
+	{
+		try
+		{
+			CompressedStreamTools.write(tag, new ByteBufOutputStream(stream));
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Failed to write NBT to stream", e);
+		}
+	}
+
+	/**
+	 * @param stream - stream to read from
+	 * @return tag written by writeNBT, at most NBT_SIZE_LIMIT bytes
+	 */
+	public static NBTTagCompound readNBT(ByteBuf stream)
+	{
+		try
+		{
+			return CompressedStreamTools.func_152456_a(new ByteBufInputStream(stream), new NBTSizeTracker(NBT_SIZE_LIMIT));
+		}
+		catch (IOException e)
+		{
+			throw new IllegalStateException("Failed to read NBT from stream", e);
+		}
+	}
+
+	/**
+	 * Stream counterpart of NBTHelper.writeEffectsList, effects are written
+	 * by their numeric ids.
+	 *
+	 * @param stream - stream to write to
+	 * @param list - effects to write
+	 */
+	public static void writeEffectsList(ByteBuf stream, @Nonnull List<? extends IEffect> list)
+	{
+		writeVarInt(stream, list.size());
+		for (IEffect effect : list)
+		{
+			CoreRegistry.instance().getEffectsRegistry().writeEffectToStream(stream, effect);
+		}
+	}
+
+	/**
+	 * @param list - list to add the effects to
+	 * @param stream - stream to read from
+	 */
+	public static void readEffectsList(@Nonnull List<IEffect> list, ByteBuf stream)
+	{
+		final int size = readVarInt(stream);
+		for (int i = 0; i < size; ++i)
+		{
+			list.add(CoreRegistry.instance().getEffectsRegistry().readEffectFromStream(stream));
+		}
+	}
 }
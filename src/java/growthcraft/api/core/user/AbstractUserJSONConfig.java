@@ -28,11 +28,17 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.common.io.Files;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.log.ILoggable;
@@ -44,6 +50,10 @@ import net.minecraftforge.common.config.Configuration.UnicodeInputStreamReader;
 /**
  * This is a base class for defining JSON config definitions, its purpose
  * is mostly to hide the dreaded File handling
+ *
+ * An existing user config is parsed in the background as soon as its file is
+ * set, so the configs of every module are parsed in parallel and
+ * loadUserConfig only has to wait for the result.
  */
 public abstract class AbstractUserJSONConfig implements ILoggable, IModule
 {
@@ -53,6 +63,14 @@ public abstract class AbstractUserJSONConfig implements ILoggable, IModule
 	protected final Gson gson = new GsonBuilder().setPrettyPrinting().create();
 	private File targetConfigFile;
 	private File targetDefaultConfigFile;
+	private Future<?> prefetch;
+	private long prefetchModified;
+	private long prefetchLength;
+
+	// Only needed while configs are loading, it is shut down once the last
+	// prefetch has been joined and recreated should another one start.
+	private static ExecutorService prefetchExecutor;
+	private static int pendingPrefetches;
 
 	@Override
 	public void setLogger(@Nonnull ILogger l)
@@ -109,9 +127,100 @@ public abstract class AbstractUserJSONConfig implements ILoggable, IModule
 		this.targetDefaultConfigFile = new File(dir, filename + ".default");
 		logger.debug("Config file `%s` was set for `%s`", targetConfigFile, this);
 		logger.debug("DEFAULT Config file `%s` was set for `%s`", targetDefaultConfigFile, this);
+		startPrefetch();
 		return this;
 	}
 
+	private static synchronized Future<?> submitPrefetch(Callable<Void> task)
+	{
+		if (prefetchExecutor == null)
+		{
+			prefetchExecutor = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())),
+				new ThreadFactoryBuilder().setNameFormat("Growthcraft Config Loader %d").setDaemon(true).build());
+		}
+		pendingPrefetches++;
+		return prefetchExecutor.submit(task);
+	}
+
+	private static synchronized void releasePrefetch()
+	{
+		pendingPrefetches--;
+		if (pendingPrefetches <= 0)
+		{
+			pendingPrefetches = 0;
+			if (prefetchExecutor != null)
+			{
+				prefetchExecutor.shutdown();
+				prefetchExecutor = null;
+			}
+		}
+	}
+
+	private void parseConfigFile(File file) throws IOException
+	{
+		try (BufferedReader buffer = new BufferedReader(new UnicodeInputStreamReader(new FileInputStream(file), DEFAULT_ENCODING)))
+		{
+			loadFromBuffer(buffer);
+		}
+	}
+
+	private void startPrefetch()
+	{
+		if (prefetch != null)
+		{
+			// the config file was changed before the previous prefetch was joined
+			prefetch.cancel(false);
+			this.prefetch = null;
+			releasePrefetch();
+		}
+		final File file = targetConfigFile;
+		if (!file.isFile() || !file.canRead()) return;
+		this.prefetchModified = file.lastModified();
+		this.prefetchLength = file.length();
+		this.prefetch = submitPrefetch(new Callable<Void>()
+		{
+			@Override
+			public Void call() throws IOException
+			{
+				parseConfigFile(file);
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Waits for the background parse of the user config.
+	 *
+	 * @return true, if it parsed without errors and the file has not changed since, false otherwise
+	 */
+	private boolean finishPrefetch()
+	{
+		final Future<?> task = prefetch;
+		this.prefetch = null;
+		if (task == null) return false;
+		try
+		{
+			task.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		catch (ExecutionException e)
+		{
+			// the config is read again on this thread, so its errors are reported as usual
+			logger.debug("Background parse of json-config %s failed: %s", targetConfigFile, e.getCause());
+			return false;
+		}
+		finally
+		{
+			releasePrefetch();
+		}
+		return targetConfigFile.lastModified() == prefetchModified && targetConfigFile.length() == prefetchLength;
+	}
+
 	private void prepareUserConfig() throws IOException
 	{
 		if (!targetConfigFile.exists())
@@ -138,9 +247,6 @@ public abstract class AbstractUserJSONConfig implements ILoggable, IModule
 
 	private void readUserConfigFile(File file)
 	{
-		BufferedReader buffer = null;
-		UnicodeInputStreamReader input = null;
-
 		try
 		{
 			logger.debug("Loading json-config %s", file);
@@ -148,9 +254,7 @@ public abstract class AbstractUserJSONConfig implements ILoggable, IModule
 			prepareUserConfig();
 			if (file.canRead())
 			{
-				input = new UnicodeInputStreamReader(new FileInputStream(file), DEFAULT_ENCODING);
-				buffer = new BufferedReader(input);
-				loadFromBuffer(buffer);
+				parseConfigFile(file);
 			}
 			else
 			{
@@ -161,30 +265,16 @@ public abstract class AbstractUserJSONConfig implements ILoggable, IModule
 		{
 			e.printStackTrace();
 		}
-		finally
-		{
-			if (buffer != null)
-			{
-				try
-				{
-					buffer.close();
-				}
-				catch (IOException e) {}
-			}
-			if (input != null)
-			{
-				try
-				{
-					input.close();
-				}
-				catch (IOException e) {}
-			}
-		}
 	}
 
 	public void loadUserConfig()
 	{
 		writeDefaultConfigTo(targetDefaultConfigFile);
+		if (finishPrefetch())
+		{
+			logger.debug("Loaded json-config %s", targetConfigFile);
+			return;
+		}
 		try
 		{
 			readUserConfigFile(targetConfigFile);
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nullable;
+
+/**
+ * Weighted random sampling in constant time (Vose's alias method).
+ *
+ * The table is built once from a list of items and their weights, each
+ * sample then costs two random numbers, no matter how many items there are.
+ * Items with a weight of 0 or less are never picked.
+ */
+public class AliasTable<T>
+{
+	private final List<T> items;
+	private final double[] probabilities;
+	private final int[] aliases;
+
+	/**
+	 * @param pItems - items to pick from
+	 * @param weights - weight of each item, same order as the items
+	 */
+	public AliasTable(List<T> pItems, int[] weights)
+	{
+		if (pItems.size() != weights.length)
+		{
+			throw new IllegalArgumentException("Expected one weight per item, got " + weights.length + " weights for " + pItems.size() + " items");
+		}
+		final List<T> kept = new ArrayList<T>();
+		final List<Integer> keptWeights = new ArrayList<Integer>();
+		long total = 0;
+		for (int i = 0; i < weights.length; ++i)
+		{
+			if (weights[i] > 0)
+			{
+				kept.add(pItems.get(i));
+				keptWeights.add(weights[i]);
+				total += weights[i];
+			}
+		}
+		final int size = kept.size();
+		this.items = kept;
+		this.probabilities = new double[size];
+		this.aliases = new int[size];
+		if (size == 0) return;
+
+		// scaled so the average column holds exactly 1.0
+		final double[] scaled = new double[size];
+		final int[] small = new int[size];
+		final int[] large = new int[size];
+		int smallCount = 0;
+		int largeCount = 0;
+		for (int i = 0; i < size; ++i)
+		{
+			scaled[i] = (double)keptWeights.get(i) * size / total;
+			if (scaled[i] < 1.0)
+			{
+				small[smallCount++] = i;
+			}
+			else
+			{
+				large[largeCount++] = i;
+			}
+		}
+
+		while (smallCount > 0 && largeCount > 0)
+		{
+			final int s = small[--smallCount];
+			final int l = large[--largeCount];
+			probabilities[s] = scaled[s];
+			aliases[s] = l;
+			scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+			if (scaled[l] < 1.0)
+			{
+				small[smallCount++] = l;
+			}
+			else
+			{
+				large[largeCount++] = l;
+			}
+		}
+
+		// whatever is left is full, up to rounding errors
+		while (largeCount > 0)
+		{
+			final int l = large[--largeCount];
+			probabilities[l] = 1.0;
+			aliases[l] = l;
+		}
+		while (smallCount > 0)
+		{
+			final int s = small[--smallCount];
+			probabilities[s] = 1.0;
+			aliases[s] = s;
+		}
+	}
+
+	public int size()
+	{
+		return items.size();
+	}
+
+	public boolean isEmpty()
+	{
+		return items.isEmpty();
+	}
+
+	/**
+	 * @param random - random number generator
+	 * @return a random item, or null if the table is empty
+	 */
+	@Nullable
+	public T sample(Random random)
+	{
+		if (items.isEmpty()) return null;
+		final int column = random.nextInt(items.size());
+		if (random.nextDouble() < probabilities[column])
+		{
+			return items.get(column);
+		}
+		return items.get(aliases[column]);
+	}
+}
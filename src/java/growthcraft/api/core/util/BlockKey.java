@@ -72,4 +72,12 @@ public class BlockKey extends HashKey
 		this.hash = block.hashCode();
 		this.hash = 31 * hash + meta;
 	}
+
+	@Override
+	protected boolean isSameKey(HashKey other)
+	{
+		if (!(other instanceof BlockKey)) return false;
+		final BlockKey key = (BlockKey)other;
+		return block == key.block && meta == key.meta;
+	}
 }
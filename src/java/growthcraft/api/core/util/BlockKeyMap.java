@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import growthcraft.api.core.item.AbstractPackedKeyMap;
+
+import net.minecraft.block.Block;
+
+/**
+ * Collision safe map for Block keys, use this in place of a Map<BlockKey, V>
+ * where lookups happen often (ie. from a random tick).
+ *
+ * @param <V> type of the values
+ */
+public class BlockKeyMap<V> extends AbstractPackedKeyMap<Block, V>
+{
+	public BlockKeyMap(int initialCapacity)
+	{
+		super(initialCapacity);
+	}
+
+	public BlockKeyMap()
+	{
+		super();
+	}
+
+	public V put(@Nonnull Block block, int meta, V value)
+	{
+		return putEntry(block, meta, null, value);
+	}
+
+	public V put(@Nonnull BlockKey key, V value)
+	{
+		return put(key.block, key.meta, value);
+	}
+
+	public V get(@Nullable Block block, int meta)
+	{
+		return getEntry(block, meta, null);
+	}
+
+	public V get(@Nonnull BlockKey key)
+	{
+		return get(key.block, key.meta);
+	}
+
+	public boolean containsKey(@Nullable Block block, int meta)
+	{
+		return containsEntry(block, meta, null);
+	}
+
+	public boolean containsKey(@Nonnull BlockKey key)
+	{
+		return containsKey(key.block, key.meta);
+	}
+}
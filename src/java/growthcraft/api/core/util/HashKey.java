@@ -23,10 +23,21 @@
  */
 package growthcraft.api.core.util;
 
+/**
+ * Base class for keys that cache their hash code.
+ * The hash is only used as a quick reject, subclasses decide if two keys with
+ * the same hash actually represent the same thing.
+ */
 public abstract class HashKey
 {
 	protected int hash;
 
+	/**
+	 * @param other - a key with the same hash code as this one
+	 * @return true if the keys are identical, false if they merely collided
+	 */
+	protected abstract boolean isSameKey(HashKey other);
+
 	@Override
 	public int hashCode()
 	{
@@ -36,7 +47,9 @@ public abstract class HashKey
 	@Override
 	public boolean equals(Object other)
 	{
+		if (this == other) return true;
 		if (!(other instanceof HashKey)) return false;
-		return hashCode() == other.hashCode();
+		if (hashCode() != other.hashCode()) return false;
+		return isSameKey((HashKey)other);
 	}
 }
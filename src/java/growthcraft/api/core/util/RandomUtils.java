@@ -44,4 +44,36 @@ public class RandomUtils
 	{
 		return list.get(random.nextInt(list.size()));
 	}
+
+	/**
+	 * Draws the number of successes out of `trials` independent attempts that
+	 * each succeed with the chance `p`, capped to `max`.
+	 * The draw walks the binomial distribution's cumulative probabilities,
+	 * so it costs at most `max` steps no matter how many trials there are.
+	 *
+	 * @param random - random to draw from
+	 * @param trials - number of attempts
+	 * @param p - chance of a single attempt succeeding, 0 to 1
+	 * @param max - highest count to return
+	 * @return number of successes, from 0 to max
+	 */
+	public static int binomial(Random random, long trials, double p, int max)
+	{
+		if (trials <= 0 || p <= 0.0 || max <= 0) return 0;
+		if (p >= 1.0) return (int)Math.min(trials, (long)max);
+		final int limit = (int)Math.min(trials, (long)max);
+		final double u = random.nextDouble();
+		final double ratio = p / (1.0 - p);
+		// chance of no successes at all, computed in log space to survive large trial counts
+		double pmf = Math.exp(trials * Math.log1p(-p));
+		double cdf = pmf;
+		int k = 0;
+		while (k < limit && u >= cdf)
+		{
+			pmf *= ratio * (trials - k) / (k + 1);
+			cdf += pmf;
+			k++;
+		}
+		return k;
+	}
 }
@@ -42,4 +42,10 @@ public interface IVineDropRegistry extends ILoggable
 	void addDropEntry(@Nonnull ItemStack item, int weight);
 	boolean hasVineDrops();
 	ItemStack getVineDropItem(@Nonnull World world);
+
+	/**
+	 * Drops the lookup tables built from the registered entries, they are
+	 * rebuilt on next use. Call this when block ids may have been remapped.
+	 */
+	void invalidate();
 }
@@ -30,19 +30,29 @@ import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import growthcraft.api.core.item.ItemKey;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.log.NullLogger;
+import growthcraft.api.core.util.AliasTable;
+import growthcraft.api.core.util.BlockKey;
 
 import net.minecraft.block.Block;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.WeightedRandom;
 import net.minecraft.world.World;
 
 public class VineDropRegistry implements IVineDropRegistry
 {
+	// set in a block's meta mask when it has entries that must be checked with matches
+	private static final int CUSTOM_ENTRY_BIT = 1 << 16;
+	private static final int ALL_META = 0xFFFF;
+
 	private final Set<IVineEntry> vines = new HashSet<IVineEntry>();
 	private final List<VineDropEntry> vineDrops = new ArrayList<VineDropEntry>();
 	private ILogger logger = NullLogger.INSTANCE;
+	// Frozen copies of the collections above, (re)built on first use after a change
+	private int[] vineMetaMasks;
+	private List<IVineEntry> customVines;
+	private AliasTable<VineDropEntry> dropTable;
 
 	@Override
 	public void setLogger(@Nonnull ILogger l)
@@ -62,6 +72,7 @@ public class VineDropRegistry implements IVineDropRegistry
 	public void addVineEntry(@Nonnull IVineEntry entry)
 	{
 		vines.add(entry);
+		this.vineMetaMasks = null;
 	}
 
 	@Override
@@ -70,20 +81,84 @@ public class VineDropRegistry implements IVineDropRegistry
 		addVineEntry(new VineEntry(block, meta));
 	}
 
+	/**
+	 * Indexes the vine entries by block id, each block gets a mask of the
+	 * metadata values that are vines. Entries that are not BlockKeys may have
+	 * their own idea of matching, those only mark their block and are checked
+	 * with matches.
+	 */
+	private void buildVineMasks()
+	{
+		int maxId = -1;
+		for (IVineEntry entry : vines)
+		{
+			maxId = Math.max(maxId, Block.getIdFromBlock(entry.getBlock()));
+		}
+		final int[] masks = new int[maxId + 1];
+		final List<IVineEntry> custom = new ArrayList<IVineEntry>();
+		for (IVineEntry entry : vines)
+		{
+			final int id = Block.getIdFromBlock(entry.getBlock());
+			if (id < 0)
+			{
+				logger.warn("Vine entry {%s} is not for a registered block, it will be ignored.", entry);
+				continue;
+			}
+			if (entry instanceof BlockKey)
+			{
+				final int meta = entry.getMetadata();
+				if (meta == ItemKey.WILDCARD_VALUE)
+				{
+					masks[id] |= ALL_META;
+				}
+				else if (meta >= 0 && meta < 16)
+				{
+					masks[id] |= 1 << meta;
+				}
+			}
+			else
+			{
+				masks[id] |= CUSTOM_ENTRY_BIT;
+				custom.add(entry);
+			}
+		}
+		this.customVines = custom;
+		this.vineMetaMasks = masks;
+	}
+
 	@Override
 	public boolean isVine(@Nullable Block block, int meta)
 	{
-		for (IVineEntry entry : vines)
+		if (block == null) return false;
+		if (vineMetaMasks == null) buildVineMasks();
+		final int id = Block.getIdFromBlock(block);
+		if (id < 0 || id >= vineMetaMasks.length) return false;
+		final int mask = vineMetaMasks[id];
+		if (mask == 0) return false;
+		if (meta >= 0 && meta < 16 && (mask & (1 << meta)) != 0) return true;
+		if ((mask & CUSTOM_ENTRY_BIT) != 0)
 		{
-			if (entry.matches(block, meta)) return true;
+			for (IVineEntry entry : customVines)
+			{
+				if (entry.matches(block, meta)) return true;
+			}
 		}
 		return false;
 	}
 
+	@Override
+	public void invalidate()
+	{
+		this.vineMetaMasks = null;
+		this.customVines = null;
+		this.dropTable = null;
+	}
+
 	@Override
 	public void addDropEntry(@Nonnull VineDropEntry entry)
 	{
 		vineDrops.add(entry);
+		this.dropTable = null;
 	}
 
 	/**
@@ -119,10 +194,17 @@ public class VineDropRegistry implements IVineDropRegistry
 	@Override
 	public ItemStack getVineDropItem(@Nonnull World world)
 	{
-		final List<VineDropEntry> vineEntries = getVineDropsList();
-		if (vineEntries.isEmpty()) return null;
+		if (dropTable == null)
+		{
+			final int[] weights = new int[vineDrops.size()];
+			for (int i = 0; i < weights.length; ++i)
+			{
+				weights[i] = vineDrops.get(i).itemWeight;
+			}
+			this.dropTable = new AliasTable<VineDropEntry>(new ArrayList<VineDropEntry>(vineDrops), weights);
+		}
 
-		final VineDropEntry entry = (VineDropEntry)WeightedRandom.getRandomItem(world.rand, vineEntries);
+		final VineDropEntry entry = dropTable.sample(world.rand);
 		if (entry == null || entry.getItemStack() == null) return null;
 
 		return entry.getItemStack().copy();
@@ -4,8 +4,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import growthcraft.api.core.util.AliasTable;
+
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.WeightedRandom;
 import net.minecraft.world.World;
 
 public class FishTrapRegistry
@@ -14,6 +15,10 @@ public class FishTrapRegistry
 	private final List<FishTrapEntry> fishList = new ArrayList<FishTrapEntry>();
 	private final List<FishTrapEntry> treasureList = new ArrayList<FishTrapEntry>();
 	private final List<FishTrapEntry> junkList = new ArrayList<FishTrapEntry>();
+	// Frozen copies of the lists above, (re)built on the first catch after a change
+	private AliasTable<FishTrapEntry> fishTable;
+	private AliasTable<FishTrapEntry> treasureTable;
+	private AliasTable<FishTrapEntry> junkTable;
 
 	public static final FishTrapRegistry instance()
 	{
@@ -45,38 +50,67 @@ public class FishTrapRegistry
 	public void addTrapFish(FishTrapEntry entry)
 	{
 		this.fishList.add(entry);
+		this.fishTable = null;
 	}
 
 	public void addTrapTreasure(FishTrapEntry entry)
 	{
 		this.treasureList.add(entry);
+		this.treasureTable = null;
 	}
 
 	public void addTrapJunk(FishTrapEntry entry)
 	{
 		this.junkList.add(entry);
+		this.junkTable = null;
 	}
 
 	/**
 	 * STUFF
 	 */
-	private ItemStack getFishableEntry(Random random, List<FishTrapEntry> list)
+	private static AliasTable<FishTrapEntry> buildTable(List<FishTrapEntry> list)
+	{
+		final int[] weights = new int[list.size()];
+		for (int i = 0; i < weights.length; ++i)
+		{
+			weights[i] = list.get(i).itemWeight;
+		}
+		return new AliasTable<FishTrapEntry>(new ArrayList<FishTrapEntry>(list), weights);
+	}
+
+	private ItemStack getFishableEntry(Random random, AliasTable<FishTrapEntry> table)
+	{
+		final FishTrapEntry entry = table.sample(random);
+		return entry != null ? entry.getFishable(random) : null;
+	}
+
+	/**
+	 * Builds the sampling tables for all lists, this is done automatically on
+	 * the first catch, but can be called once registration is done to avoid
+	 * doing it in game.
+	 */
+	public void freeze()
 	{
-		return ((FishTrapEntry)WeightedRandom.getRandomItem(random, list)).getFishable(random);
+		if (fishTable == null) this.fishTable = buildTable(fishList);
+		if (treasureTable == null) this.treasureTable = buildTable(treasureList);
+		if (junkTable == null) this.junkTable = buildTable(junkList);
 	}
 
 	public ItemStack getFishList(World world)
 	{
-		return this.getFishableEntry(world.rand, this.fishList);
+		if (fishTable == null) this.fishTable = buildTable(fishList);
+		return this.getFishableEntry(world.rand, this.fishTable);
 	}
 
 	public ItemStack getTreasureList(World world)
 	{
-		return this.getFishableEntry(world.rand, this.treasureList);
+		if (treasureTable == null) this.treasureTable = buildTable(treasureList);
+		return this.getFishableEntry(world.rand, this.treasureTable);
 	}
 
 	public ItemStack getJunkList(World world)
 	{
-		return this.getFishableEntry(world.rand, this.junkList);
+		if (junkTable == null) this.junkTable = buildTable(junkList);
+		return this.getFishableEntry(world.rand, this.junkTable);
 	}
 }
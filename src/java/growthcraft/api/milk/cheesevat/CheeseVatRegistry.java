@@ -24,6 +24,7 @@
 package growthcraft.api.milk.cheesevat;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -42,10 +43,73 @@ import net.minecraftforge.fluids.FluidStack;
 
 public class CheeseVatRegistry implements ICheeseVatRegistry
 {
+	/**
+	 * Recipes grouped by the fingerprint of their inputs, each list is kept
+	 * in registration order.
+	 */
+	static class RecipeIndex extends HashMap<Long, List<ICheeseVatRecipe>>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
 	private ILogger logger = NullLogger.INSTANCE;
 	private Set<FluidKey> fluidIngredients = new HashSet<FluidKey>();
 	private Set<ItemKey> itemIngredients = new HashSet<ItemKey>();
 	private List<ICheeseVatRecipe> recipes = new ArrayList<ICheeseVatRecipe>();
+	private RecipeIndex recipeIndex = new RecipeIndex();
+
+	private static long mix(long value)
+	{
+		long h = value;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * Only uses the parts of a stack that FluidStack.isFluidEqual compares
+	 */
+	private static long fluidHash(@Nullable FluidStack stack)
+	{
+		if (stack == null || stack.getFluid() == null) return 0;
+		return mix(31L * stack.getFluid().hashCode() + (stack.tag != null ? stack.tag.hashCode() : 0));
+	}
+
+	/**
+	 * Only uses the parts of a stack that ItemStack.isItemEqual compares
+	 */
+	private static long itemHash(@Nullable ItemStack stack)
+	{
+		if (stack == null || stack.getItem() == null) return 0;
+		return mix(31L * stack.getItem().hashCode() + stack.getItemDamage() + 1);
+	}
+
+	/**
+	 * A fingerprint of the fluids and items, which ignores their order and
+	 * amounts, two sets of inputs that can match each other will always have
+	 * the same fingerprint.
+	 *
+	 * @param fluids - fluids
+	 * @param items - items
+	 * @return fingerprint
+	 */
+	public static long fingerprint(@Nonnull List<FluidStack> fluids, @Nonnull List<ItemStack> items)
+	{
+		long fluidSum = 0;
+		for (FluidStack stack : fluids)
+		{
+			fluidSum += fluidHash(stack);
+		}
+		long itemSum = 0;
+		for (ItemStack stack : items)
+		{
+			itemSum += itemHash(stack);
+		}
+		return mix(fluidSum + fluids.size()) ^ (mix(itemSum + items.size()) * 31L);
+	}
 
 	@Override
 	public void setLogger(@Nonnull ILogger l)
@@ -58,6 +122,14 @@ public class CheeseVatRegistry implements ICheeseVatRegistry
 	{
 		final ICheeseVatRecipe recipe = new CheeseVatRecipe(outputFluids, outputItems, inputFluids, inputItems);
 		recipes.add(recipe);
+		final Long key = fingerprint(inputFluids, inputItems);
+		List<ICheeseVatRecipe> bucket = recipeIndex.get(key);
+		if (bucket == null)
+		{
+			bucket = new ArrayList<ICheeseVatRecipe>();
+			recipeIndex.put(key, bucket);
+		}
+		bucket.add(recipe);
 		logger.info("Adding Cheese Vat recipe {%s}", recipe);
 		for (FluidStack stack : inputFluids)
 		{
@@ -86,7 +158,9 @@ public class CheeseVatRegistry implements ICheeseVatRegistry
 	@Override
 	public ICheeseVatRecipe findRecipe(@Nonnull List<FluidStack> fluids, @Nonnull List<ItemStack> stacks)
 	{
-		for (ICheeseVatRecipe recipe : recipes)
+		final List<ICheeseVatRecipe> candidates = recipeIndex.get(fingerprint(fluids, stacks));
+		if (candidates == null) return null;
+		for (ICheeseVatRecipe recipe : candidates)
 		{
 			if (recipe.isMatchingRecipe(fluids, stacks))
 			{
@@ -3,7 +3,9 @@ package growthcraft.apples.common.block;
 import java.util.Random;
 
 import growthcraft.apples.GrowthCraftApples;
+import growthcraft.core.common.block.ICropCatchUpBlock;
 import growthcraft.core.common.block.ICropDataProvider;
+import growthcraft.core.common.world.CropCatchUp;
 import growthcraft.core.client.renderer.RenderBlockFruit;
 import growthcraft.core.integration.AppleCore;
 import growthcraft.api.core.util.BlockFlags;
@@ -24,7 +26,7 @@ import net.minecraft.util.IIcon;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 
-public class BlockApple extends Block implements IGrowable, ICropDataProvider
+public class BlockApple extends Block implements IGrowable, ICropDataProvider, ICropCatchUpBlock
 {
 	public static class AppleStage
 	{
@@ -104,6 +106,23 @@ public class BlockApple extends Block implements IGrowable, ICropDataProvider
 		world.setBlockToAir(x, y, z);
 	}
 
+	/**
+	 * Ripe apples are not dropped while catching up, only the growth stages
+	 * are.
+	 */
+	@Override
+	public void catchUpGrowth(World world, int x, int y, int z, long ticks, Random random)
+	{
+		if (!this.canBlockStay(world, x, y, z)) return;
+		final int meta = world.getBlockMetadata(x, y, z);
+		if (meta >= AppleStage.MATURE) return;
+		final int steps = CropCatchUp.drawGrowthSteps(random, ticks, 1.0f / this.growth, AppleStage.MATURE - meta);
+		for (int i = 0; i < steps; ++i)
+		{
+			incrementGrowth(world, x, y, z, meta + i);
+		}
+	}
+
 	/************
 	 * TICK
 	 ************/
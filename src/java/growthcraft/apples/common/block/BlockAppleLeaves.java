@@ -5,6 +5,8 @@ import java.util.Random;
 
 import growthcraft.apples.GrowthCraftApples;
 import growthcraft.api.core.util.BlockFlags;
+import growthcraft.core.common.block.ICropCatchUpBlock;
+import growthcraft.core.common.world.CropCatchUp;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -23,7 +25,7 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.IShearable;
 
-public class BlockAppleLeaves extends BlockLeavesBase implements IShearable, IGrowable
+public class BlockAppleLeaves extends BlockLeavesBase implements IShearable, IGrowable, ICropCatchUpBlock
 {
 	public static class LeavesStage
 	{
@@ -84,6 +86,16 @@ public class BlockAppleLeaves extends BlockLeavesBase implements IShearable, IGr
 		world.setBlockToAir(x, y, z);
 	}
 
+	@Override
+	public void catchUpGrowth(World world, int x, int y, int z, long ticks, Random random)
+	{
+		if ((world.getBlockMetadata(x, y, z) & 4) != 0) return;
+		if (CropCatchUp.drawGrowthSteps(random, ticks, 1.0f / this.growth, 1) > 0)
+		{
+			growApple(world, random, x, y, z);
+		}
+	}
+
 	/************
 	 * TICK
 	 ************/
@@ -63,6 +63,8 @@ public class ComponentVillageAppleFarm extends StructureVillagePieces.Village im
 		},
 	};
 
+	private static final SchemaToVillage.CompiledSchema appleFarmCompiled = SchemaToVillage.compile(appleFarmSchema);
+
 	// DO NOT REMOVE
 	public ComponentVillageAppleFarm() {}
 
@@ -92,14 +94,37 @@ public class ComponentVillageAppleFarm extends StructureVillagePieces.Village im
 		placeBlockAtCurrentPosition(world, block, meta, x, y, z, box);
 	}
 
-	protected void placeWorldGenAt(World world, Random random, int tx, int ty, int tz, StructureBoundingBox bb, WorldGenerator generator)
+	public int getXWithOffsetPub(int x, int z)
+	{
+		return getXWithOffset(x, z);
+	}
+
+	public int getYWithOffsetPub(int y)
+	{
+		return getYWithOffset(y);
+	}
+
+	public int getZWithOffsetPub(int x, int z)
+	{
+		return getZWithOffset(x, z);
+	}
+
+	/**
+	 * Generates a tree which is clipped to the box being built, the tree is
+	 * generated again for every box it reaches into, so each of them places
+	 * their part of it.
+	 */
+	protected void placeWorldGenAt(World world, int tx, int ty, int tz, StructureBoundingBox bb, WorldGenerator generator)
 	{
 		final int x = this.getXWithOffset(tx, tz);
 		final int y = this.getYWithOffset(ty);
 		final int z = this.getZWithOffset(tx, tz);
 
-		if (bb.isVecInside(x, y, z))
+		// the leaves reach 2 blocks out from the trunk
+		if (bb.intersectsWith(x - 2, z - 2, x + 2, z + 2))
 		{
+			// seeded from the position, so every box sees the same tree
+			final Random random = new Random(world.getSeed() + x * 341873128712L + z * 132897987541L);
 			generator.generate(world, random, x, y, z);
 		}
 	}
@@ -133,13 +158,13 @@ public class ComponentVillageAppleFarm extends StructureVillagePieces.Village im
 		map.put('g', new BlockEntry(Blocks.fence_gate, this.getMetadataWithOffset(Blocks.fence_gate, 0)));
 		map.put('t', new BlockEntry(Blocks.torch, 0));
 
-		SchemaToVillage.drawSchema(this, world, random, box, appleFarmSchema, map, 0, 1, 0);
+		appleFarmCompiled.draw(this, world, random, box, map, 0, 1, 0);
 
-		final WorldGenAppleTree genAppleTree = new WorldGenAppleTree(true);
-		placeWorldGenAt(world, random, 3, 1, 3, box, genAppleTree);
-		placeWorldGenAt(world, random, 7, 1, 3, box, genAppleTree);
-		placeWorldGenAt(world, random, 3, 1, 7, box, genAppleTree);
-		placeWorldGenAt(world, random, 7, 1, 7, box, genAppleTree);
+		final WorldGenAppleTree genAppleTree = new WorldGenAppleTree(false, box);
+		placeWorldGenAt(world, 3, 1, 3, box, genAppleTree);
+		placeWorldGenAt(world, 7, 1, 3, box, genAppleTree);
+		placeWorldGenAt(world, 3, 1, 7, box, genAppleTree);
+		placeWorldGenAt(world, 7, 1, 7, box, genAppleTree);
 
 		for (int row = 0; row < 11; ++row)
 		{
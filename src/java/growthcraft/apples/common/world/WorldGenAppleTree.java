@@ -10,6 +10,7 @@ import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraftforge.common.util.ForgeDirection;
 
 public class WorldGenAppleTree extends WorldGenerator
@@ -19,10 +20,32 @@ public class WorldGenAppleTree extends WorldGenerator
 	private final int metaLeaves    = 0;
 	private final Block log         = Blocks.log;
 	private final Block leaves      = GrowthCraftApples.appleLeaves.getBlock();
+	private final StructureBoundingBox clipBox;
 
 	public WorldGenAppleTree(boolean doblocknotify)
+	{
+		this(doblocknotify, null);
+	}
+
+	/**
+	 * @param doblocknotify - whether placed blocks notify their neighbours
+	 * @param pClipBox - only blocks inside this box are placed, null places all
+	 */
+	public WorldGenAppleTree(boolean doblocknotify, StructureBoundingBox pClipBox)
 	{
 		super(doblocknotify);
+		this.clipBox = pClipBox;
+	}
+
+	private boolean isInsideClip(int x, int y, int z)
+	{
+		return clipBox == null || clipBox.isVecInside(x, y, z);
+	}
+
+	@Override
+	protected void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
+	{
+		if (isInsideClip(x, y, z)) super.setBlockAndNotifyAdequately(world, x, y, z, block, meta);
 	}
 
 	public boolean generate(World world, Random random, int x, int y, int z)
@@ -82,7 +105,7 @@ public class WorldGenAppleTree extends WorldGenerator
 
 				if (isSoil && y < 256 - l - 1)
 				{
-					block2.onPlantGrow(world, x, y - 1, z, x, y, z);
+					if (isInsideClip(x, y - 1, z)) block2.onPlantGrow(world, x, y - 1, z, x, y, z);
 					b0 = 3;
 					final byte b1 = 0;
 					int l1;
@@ -5,8 +5,6 @@ import growthcraft.bamboo.common.block.BlockBambooWall;
 import cpw.mods.fml.client.registry.ISimpleBlockRenderingHandler;
 import cpw.mods.fml.client.registry.RenderingRegistry;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockDoor;
-import net.minecraft.block.BlockStairs;
 import net.minecraft.client.renderer.RenderBlocks;
 import net.minecraft.client.renderer.Tessellator;
 import net.minecraft.world.IBlockAccess;
@@ -72,251 +70,12 @@ public class RenderBambooWall implements ISimpleBlockRenderingHandler
 	{
 		if (modelId == id)
 		{
-			double x1 = 0.375D;
-			double x2 = 0.625D;
-			final double y1 = 0.0D;
-			final double y2 = 1.0D;
-			double z1 = 0.375D;
-			double z2 = 0.625D;
-			renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-			renderer.renderStandardBlock(block, x, y, z);
-
 			final BlockBambooWall blk = (BlockBambooWall) block;
-
-			int tm;
-
-			final Block idXneg = world.getBlock(x - 1, y, z);
-			final Block idXpos = world.getBlock(x + 1, y, z);
-			final Block idZneg = world.getBlock(x, y, z - 1);
-			final Block idZpos = world.getBlock(x, y, z + 1);
-
-			int metaXneg = world.getBlockMetadata(x - 1, y, z);
-			int metaXpos = world.getBlockMetadata(x + 1, y, z);
-			int metaZneg = world.getBlockMetadata(x, y, z - 1);
-			int metaZpos = world.getBlockMetadata(x, y, z + 1);
-
-			final boolean flagXneg = blk.canConnectWallTo(world, x - 1, y, z) || (idXneg instanceof BlockStairs && (metaXneg & 3) == 0);
-			final boolean flagXpos = blk.canConnectWallTo(world, x + 1, y, z) || (idXpos instanceof BlockStairs && (metaXpos & 3) == 1);
-			final boolean flagZneg = blk.canConnectWallTo(world, x, y, z - 1) || (idZneg instanceof BlockStairs && (metaZneg & 3) == 2);
-			final boolean flagZpos = blk.canConnectWallTo(world, x, y, z + 1) || (idZpos instanceof BlockStairs && (metaZpos & 3) == 3);
-
-			//XNEG
-			if (flagXneg)
-			{
-				x1 = 0.0D;
-				x2 = 0.375D;
-				z1 = 0.375D;
-				z2 = 0.625D;
-
-				renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-				renderer.renderStandardBlock(block, x, y, z);
-			}
-			else if (idXneg instanceof BlockDoor)
-			{
-				if ((metaXneg & 8) > 7)
-				{
-					metaXneg = world.getBlockMetadata(x - 1, y - 1, z);
-				}
-
-				tm = metaXneg & 3;
-
-				if (tm == 1 || tm == 3)
-				{
-					x1 = 0.0D;
-					x2 = 0.375D;
-					z1 = 0.375D;
-					z2 = 0.625D;
-
-					renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-					renderer.renderStandardBlock(block, x, y, z);
-
-					if (tm == 1)
-					{
-
-						x1 = 0.0D;
-						x2 = 0.25D;
-						z1 = 0.0D;
-						z2 = 0.375D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-
-					if (tm == 3)
-					{
-
-						x1 = 0.0D;
-						x2 = 0.25D;
-						z1 = 0.625D;
-						z2 = 1.0D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-				}
-			}
-
-			//XPOS
-			if (flagXpos)
-			{
-				x1 = 0.625D;
-				x2 = 1.0D;
-				z1 = 0.375D;
-				z2 = 0.625D;
-
-				renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-				renderer.renderStandardBlock(block, x, y, z);
-			}
-			else if (idXpos instanceof BlockDoor)
-			{
-				if ((metaXpos & 8) > 7)
-				{
-					metaXpos = world.getBlockMetadata(x + 1, y - 1, z);
-				}
-
-				tm = metaXpos & 3;
-
-				if (tm == 1 || tm == 3)
-				{
-					x1 = 0.625D;
-					x2 = 1.0D;
-					z1 = 0.375D;
-					z2 = 0.625D;
-
-					renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-					renderer.renderStandardBlock(block, x, y, z);
-
-					if (tm == 1)
-					{
-						x1 = 0.75D;
-						x2 = 1.0D;
-						z1 = 0.0D;
-						z2 = 0.375D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-
-					if (tm == 3)
-					{
-						x1 = 0.75D;
-						x2 = 1.0D;
-						z1 = 0.625D;
-						z2 = 1.0D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-				}
-			}
-
-			//ZNEG
-			if (flagZneg)
-			{
-				x1 = 0.375D;
-				x2 = 0.625D;
-				z1 = 0.0D;
-				z2 = 0.375D;
-
-				renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-				renderer.renderStandardBlock(block, x, y, z);
-			}
-			else if (idZneg instanceof BlockDoor)
-			{
-				if ((metaZneg & 8) > 7)
-				{
-					metaZneg = world.getBlockMetadata(x, y - 1, z - 1);
-				}
-
-				tm = metaZneg & 3;
-
-				if (tm == 0 || tm == 2)
-				{
-					x1 = 0.375D;
-					x2 = 0.625D;
-					z1 = 0.0D;
-					z2 = 0.375D;
-
-					renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-					renderer.renderStandardBlock(block, x, y, z);
-
-					if (tm == 0)
-					{
-						x1 = 0.0D;
-						x2 = 0.375D;
-						z1 = 0.0D;
-						z2 = 0.25D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-
-					if (tm == 2)
-					{
-						x1 = 0.625D;
-						x2 = 1.0D;
-						z1 = 0.0D;
-						z2 = 0.25D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-				}
-			}
-
-			//ZPOS
-			if (flagZpos)
+			for (float[] b : BlockBambooWall.getBoxesForState(blk.getConnectionState(world, x, y, z)))
 			{
-				x1 = 0.375D;
-				x2 = 0.625D;
-				z1 = 0.625D;
-				z2 = 1.0D;
-
-				renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
+				renderer.setRenderBounds(b[0], b[1], b[2], b[3], b[4], b[5]);
 				renderer.renderStandardBlock(block, x, y, z);
 			}
-			else if (idZpos instanceof BlockDoor)
-			{
-				if ((metaZpos & 8) > 7)
-				{
-					metaZpos = world.getBlockMetadata(x, y - 1, z + 1);
-				}
-
-				tm = metaZpos & 3;
-
-				if (tm == 0 || tm == 2)
-				{
-					x1 = 0.375D;
-					x2 = 0.625D;
-					z1 = 0.625D;
-					z2 = 1.0D;
-
-					renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-					renderer.renderStandardBlock(block, x, y, z);
-
-					if (tm == 0)
-					{
-						x1 = 0.0D;
-						x2 = 0.375D;
-						z1 = 0.75D;
-						z2 = 1.0D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-
-					if (tm == 2)
-					{
-						x1 = 0.625D;
-						x2 = 1.0D;
-						z1 = 0.75D;
-						z2 = 1.0D;
-
-						renderer.setRenderBounds(x1, y1, z1, x2, y2, z2);
-						renderer.renderStandardBlock(block, x, y, z);
-					}
-				}
-			}
 
 			blk.setBlockBoundsBasedOnState(world, x, y, z);
 		}
@@ -6,7 +6,7 @@ import java.util.Random;
 import growthcraft.bamboo.client.renderer.RenderBamboo;
 import growthcraft.bamboo.GrowthCraftBamboo;
 import growthcraft.core.util.BlockCheck;
-import growthcraft.core.util.RenderUtils;
+import growthcraft.core.util.ConnectionMask;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -28,6 +28,83 @@ import net.minecraftforge.common.util.ForgeDirection;
 
 public class BlockBambooStalk extends Block
 {
+	public static final int SIDE_NONE = 0;
+	public static final int SIDE_FENCE = 1;
+	public static final int SIDE_WALL = 2;
+	public static final int SIDE_DOOR = 3;
+	public static final int SIDE_DOOR_NEG = 4;
+	public static final int SIDE_DOOR_POS = 5;
+
+	private static final ForgeDirection[] HORIZONTALS = {
+		ForgeDirection.NORTH, ForgeDirection.SOUTH, ForgeDirection.WEST, ForgeDirection.EAST
+	};
+	private static final float[][] POST_BOXES = {
+		ConnectionMask.box(0.25F, 0.0F, 0.25F, 0.75F, 1.0F, 0.75F)
+	};
+	private static final float[][] NO_BOXES = {};
+	// boxes for each side state, indexed like HORIZONTALS
+	private static final float[][][][] SIDE_BOXES = {
+		{
+			NO_BOXES,
+			{
+				ConnectionMask.box(0.4375F, 0.75F, 0.0F, 0.5625F, 0.9375F, 0.25F),
+				ConnectionMask.box(0.4375F, 0.375F, 0.0F, 0.5625F, 0.5625F, 0.25F)
+			},
+			{ ConnectionMask.box(0.375F, 0.0F, 0.0F, 0.625F, 1.0F, 0.25F) },
+			NO_BOXES,
+			{ ConnectionMask.box(0.0F, 0.0F, 0.0F, 0.375F, 1.0F, 0.25F) },
+			{ ConnectionMask.box(0.625F, 0.0F, 0.0F, 1.0F, 1.0F, 0.25F) }
+		},
+		{
+			NO_BOXES,
+			{
+				ConnectionMask.box(0.4375F, 0.75F, 0.75F, 0.5625F, 0.9375F, 1.0F),
+				ConnectionMask.box(0.4375F, 0.375F, 0.75F, 0.5625F, 0.5625F, 1.0F)
+			},
+			{ ConnectionMask.box(0.375F, 0.0F, 0.75F, 0.625F, 1.0F, 1.0F) },
+			NO_BOXES,
+			{ ConnectionMask.box(0.0F, 0.0F, 0.75F, 0.375F, 1.0F, 1.0F) },
+			{ ConnectionMask.box(0.625F, 0.0F, 0.75F, 1.0F, 1.0F, 1.0F) }
+		},
+		{
+			NO_BOXES,
+			{
+				ConnectionMask.box(0.0F, 0.75F, 0.4375F, 0.25F, 0.9375F, 0.5625F),
+				ConnectionMask.box(0.0F, 0.375F, 0.4375F, 0.25F, 0.5625F, 0.5625F)
+			},
+			{ ConnectionMask.box(0.0F, 0.0F, 0.375F, 0.25F, 1.0F, 0.625F) },
+			NO_BOXES,
+			{ ConnectionMask.box(0.0F, 0.0F, 0.0F, 0.25F, 1.0F, 0.375F) },
+			{ ConnectionMask.box(0.0F, 0.0F, 0.625F, 0.25F, 1.0F, 1.0F) }
+		},
+		{
+			NO_BOXES,
+			{
+				ConnectionMask.box(0.75F, 0.75F, 0.4375F, 1.0F, 0.9375F, 0.5625F),
+				ConnectionMask.box(0.75F, 0.375F, 0.4375F, 1.0F, 0.5625F, 0.5625F)
+			},
+			{ ConnectionMask.box(0.75F, 0.0F, 0.375F, 1.0F, 1.0F, 0.625F) },
+			NO_BOXES,
+			{ ConnectionMask.box(0.75F, 0.0F, 0.0F, 1.0F, 1.0F, 0.375F) },
+			{ ConnectionMask.box(0.75F, 0.0F, 0.625F, 1.0F, 1.0F, 1.0F) }
+		}
+	};
+	private static final float[][] BOUNDS = new float[ConnectionMask.SIZE][];
+
+	static
+	{
+		for (int mask = 0; mask < ConnectionMask.SIZE; ++mask)
+		{
+			BOUNDS[mask] = ConnectionMask.box(
+				ConnectionMask.has(mask, ConnectionMask.WEST) ? 0.0F : 0.25F,
+				0.0F,
+				ConnectionMask.has(mask, ConnectionMask.NORTH) ? 0.0F : 0.25F,
+				ConnectionMask.has(mask, ConnectionMask.EAST) ? 1.0F : 0.75F,
+				1.0F,
+				ConnectionMask.has(mask, ConnectionMask.SOUTH) ? 1.0F : 0.75F);
+		}
+	}
+
 	@SideOnly(Side.CLIENT)
 	public static IIcon[] tex;
 
@@ -217,21 +294,55 @@ public class BlockBambooStalk extends Block
 		return false;
 	}
 
-	private boolean canFence(IBlockAccess world, int x, int y, int z)
+	private static int getSideShift(ForgeDirection dir)
 	{
-		return world.getBlock(x, y, z) == GrowthCraftBamboo.blocks.bambooFence.getBlock() ||
-			world.getBlock(x, y, z) == Blocks.fence_gate ||
-			world.getBlock(x, y, z) == GrowthCraftBamboo.blocks.bambooFenceGate.getBlock();
+		return (dir.ordinal() - ForgeDirection.NORTH.ordinal()) * 3;
+	}
+
+	private int getSideState(IBlockAccess world, int x, int y, int z, ForgeDirection dir)
+	{
+		final int nx = x + dir.offsetX;
+		final int nz = z + dir.offsetZ;
+		final Block block = world.getBlock(nx, y, nz);
+		if (block == GrowthCraftBamboo.blocks.bambooFence.getBlock() ||
+			block == Blocks.fence_gate ||
+			block == GrowthCraftBamboo.blocks.bambooFenceGate.getBlock()) return SIDE_FENCE;
+		if (block == GrowthCraftBamboo.blocks.bambooWall.getBlock()) return SIDE_WALL;
+		if (block instanceof BlockDoor)
+		{
+			final int facing = ConnectionMask.getDoorFacing(world, nx, y, nz);
+			final boolean alongX = dir.offsetX != 0;
+			if (facing == (alongX ? 1 : 0)) return SIDE_DOOR_NEG;
+			if (facing == (alongX ? 3 : 2)) return SIDE_DOOR_POS;
+			return SIDE_DOOR;
+		}
+		return SIDE_NONE;
 	}
 
-	private boolean canWall(IBlockAccess world, int x, int y, int z)
+	/**
+	 * Looks at the horizontal neighbours once, 3 bits per side.
+	 * Only bamboo with metadata other than 0 connects to anything.
+	 *
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @return connection state
+	 */
+	public int getConnectionState(IBlockAccess world, int x, int y, int z)
 	{
-		return world.getBlock(x, y, z) == GrowthCraftBamboo.blocks.bambooWall.getBlock();
+		if (world.getBlockMetadata(x, y, z) == 0) return 0;
+		int state = 0;
+		for (ForgeDirection dir : HORIZONTALS)
+		{
+			state |= getSideState(world, x, y, z, dir) << getSideShift(dir);
+		}
+		return state;
 	}
 
-	private boolean canDoor(IBlockAccess world, int x, int y, int z)
+	private static int getSide(int state, ForgeDirection dir)
 	{
-		return world.getBlock(x, y, z) instanceof BlockDoor;
+		return (state >> getSideShift(dir)) & 7;
 	}
 
 	/************
@@ -348,369 +459,33 @@ public class BlockBambooStalk extends Block
 	/************
 	 * BOXES
 	 ************/
-	@Override
-	public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
+	private void setBlockBoundsForState(int state)
 	{
-		float x1 = 0.25F;
-		float x2 = 0.75F;
-		float z1 = 0.25F;
-		float z2 = 0.75F;
-
-		if (world.getBlockMetadata(x, y, z) != 0)
+		int mask = 0;
+		for (ForgeDirection dir : HORIZONTALS)
 		{
-			if (this.canFence(world, x, y, z - 1) || this.canWall(world, x, y, z - 1) || this.canDoor(world, x, y, z - 1))
-			{
-				z1 = 0.0F;
-			}
-
-			if (this.canFence(world, x, y, z + 1) || this.canWall(world, x, y, z + 1) || this.canDoor(world, x, y, z + 1))
-			{
-				z2 = 1.0F;
-			}
-
-			if (this.canFence(world, x - 1, y, z) || this.canWall(world, x - 1, y, z) || this.canDoor(world, x - 1, y, z))
-			{
-				x1 = 0.0F;
-			}
-
-			if (this.canFence(world, x + 1, y, z) || this.canWall(world, x + 1, y, z) || this.canDoor(world, x + 1, y, z))
-			{
-				x2 = 1.0F;
-			}
+			if (getSide(state, dir) != SIDE_NONE) mask |= 1 << dir.ordinal();
 		}
-
-		this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
+		final float[] b = BOUNDS[mask];
+		this.setBlockBounds(b[0], b[1], b[2], b[3], b[4], b[5]);
 	}
 
 	@Override
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB axis, List list, Entity entity)
-	{
-		final float x1 = 0.25F;
-		final float x2 = 0.75F;
-		final float z1 = 0.25F;
-		final float z2 = 0.75F;
-
-		this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-		super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-
-		if (world.getBlockMetadata(x, y, z) != 0)
-		{
-			if (this.canFence(world, x, y, z - 1))
-			{
-				renderFence(world, axis, list, entity, x, y, z, RenderUtils.Face.ZNEG);
-			}
-			else if (this.canWall(world, x, y, z - 1))
-			{
-				renderWall(world, axis, list, entity, x, y, z, RenderUtils.Face.ZNEG);
-			}
-			else if (this.canDoor(world, x, y, z - 1))
-			{
-				renderDoor(world, axis, list, entity, x, y, z, RenderUtils.Face.ZNEG);
-			}
-
-			if (this.canFence(world, x, y, z + 1))
-			{
-				renderFence(world, axis, list, entity, x, y, z, RenderUtils.Face.ZPOS);
-			}
-			else if (this.canWall(world, x, y, z + 1))
-			{
-				renderWall(world, axis, list, entity, x, y, z, RenderUtils.Face.ZPOS);
-			}
-			else if (this.canDoor(world, x, y, z + 1))
-			{
-				renderDoor(world, axis, list, entity, x, y, z, RenderUtils.Face.ZPOS);
-			}
-
-			if (this.canFence(world, x - 1, y, z))
-			{
-				renderFence(world, axis, list, entity, x, y, z, RenderUtils.Face.XNEG);
-			}
-			else if (this.canWall(world, x - 1, y, z))
-			{
-				renderWall(world, axis, list, entity, x, y, z, RenderUtils.Face.XNEG);
-			}
-			else if (this.canDoor(world, x - 1, y, z))
-			{
-				renderDoor(world, axis, list, entity, x, y, z, RenderUtils.Face.XNEG);
-			}
-
-			if (this.canFence(world, x + 1, y, z))
-			{
-				renderFence(world, axis, list, entity, x, y, z, RenderUtils.Face.XPOS);
-			}
-			else if (this.canWall(world, x + 1, y, z))
-			{
-				renderWall(world, axis, list, entity, x, y, z, RenderUtils.Face.XPOS);
-			}
-			else if (this.canDoor(world, x + 1, y, z))
-			{
-				renderDoor(world, axis, list, entity, x, y, z, RenderUtils.Face.XPOS);
-			}
-		}
-
-		this.setBlockBoundsBasedOnState(world, x, y, z);
-	}
-
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	private void renderFence(World world, AxisAlignedBB axis, List list, Entity entity, int x, int y, int z, RenderUtils.Face m)
-	{
-		float x1 = x;
-		float x2 = x + 1.0F;
-		float z1 = z;
-		float z2 = z + 1.0F;
-
-		float y1 = 0.75F;
-		float y2 = 0.9375F;
-
-		if (m == RenderUtils.Face.ZNEG)
-		{
-			x1 = 0.4375F;
-			x2 = 0.5625F;
-			z1 = 0.0F;
-			z2 = 0.25F;
-		}
-		else if (m == RenderUtils.Face.ZPOS)
-		{
-			x1 = 0.4375F;
-			x2 = 0.5625F;
-			z1 = 0.75F;
-			z2 = 1.0F;
-		}
-		else if (m == RenderUtils.Face.XNEG)
-		{
-			z1 = 0.4375F;
-			z2 = 0.5625F;
-			x1 = 0.0F;
-			x2 = 0.25F;
-		}
-		else if (m == RenderUtils.Face.XPOS)
-		{
-			z1 = 0.4375F;
-			z2 = 0.5625F;
-			x1 = 0.75F;
-			x2 = 1.0F;
-		}
-
-		this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-		super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-
-		y1 = 0.375F;
-		y2 = 0.5625F;
-
-		if (m == RenderUtils.Face.ZNEG)
-		{
-			x1 = 0.4375F;
-			x2 = 0.5625F;
-			z1 = 0.0F;
-			z2 = 0.25F;
-		}
-		else if (m == RenderUtils.Face.ZPOS)
-		{
-			x1 = 0.4375F;
-			x2 = 0.5625F;
-			z1 = 0.75F;
-			z2 = 1.0F;
-		}
-		else if (m == RenderUtils.Face.XNEG)
-		{
-			z1 = 0.4375F;
-			z2 = 0.5625F;
-			x1 = 0.0F;
-			x2 = 0.25F;
-		}
-		else if (m == RenderUtils.Face.XPOS)
-		{
-			z1 = 0.4375F;
-			z2 = 0.5625F;
-			x1 = 0.75F;
-			x2 = 1.0F;
-		}
-
-		this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-		super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-	}
-
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	private void renderWall(World world, AxisAlignedBB axis, List list, Entity entity, int x, int y, int z, RenderUtils.Face m)
+	public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
 	{
-		float x1 = x;
-		float x2 = x + 1.0F;
-		float z1 = z;
-		float z2 = z + 1.0F;
-
-		final double y1 = 0.0F;
-		final double y2 = 1.0F;
-
-		if (m == RenderUtils.Face.ZNEG)
-		{
-			x1 = 0.375F;
-			x2 = 0.625F;
-			z1 = 0.0F;
-			z2 = 0.25F;
-		}
-		else if (m == RenderUtils.Face.ZPOS)
-		{
-			x1 = 0.375F;
-			x2 = 0.625F;
-			z1 = 0.75F;
-			z2 = 1.0F;
-		}
-		else if (m == RenderUtils.Face.XNEG)
-		{
-			z1 = 0.375F;
-			z2 = 0.625F;
-			x1 = 0.0F;
-			x2 = 0.25F;
-		}
-		else if (m == RenderUtils.Face.XPOS)
-		{
-			z1 = 0.375F;
-			z2 = 0.625F;
-			x1 = 0.75F;
-			x2 = 1.0F;
-		}
-
-		this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-		super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
+		setBlockBoundsForState(getConnectionState(world, x, y, z));
 	}
 
+	@Override
 	@SuppressWarnings({"rawtypes", "unchecked"})
-	private void renderDoor(World world, AxisAlignedBB axis, List list, Entity entity, int x, int y, int z, RenderUtils.Face m)
+	public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB axis, List list, Entity entity)
 	{
-		float x1 = x;
-		float x2 = x + 1.0F;
-		float z1 = z;
-		float z2 = z + 1.0F;
-
-		final float y1 = 0.0F;
-		final float y2 = 1.0F;
-
-		int tm0;
-		int tm;
-
-		if (m == RenderUtils.Face.ZNEG)
+		final int state = getConnectionState(world, x, y, z);
+		ConnectionMask.addCollisionBoxes(POST_BOXES, x, y, z, axis, list);
+		for (int i = 0; i < HORIZONTALS.length; ++i)
 		{
-			tm0 = world.getBlockMetadata(x, y, z - 1);
-			if ((tm0 & 8) > 7)
-			{
-				tm0 = world.getBlockMetadata(x, y - 1, z - 1);
-			}
-			tm = tm0 & 3;
-			if (tm == 0)
-			{
-				x1 = 0.0F;
-				x2 = 0.375F;
-				z1 = 0.0F;
-				z2 = 0.25F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
-
-			if (tm == 2)
-			{
-				x1 = 0.625F;
-				x2 = 1.0F;
-				z1 = 0.0F;
-				z2 = 0.25F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
-		}
-		else if (m == RenderUtils.Face.ZPOS)
-		{
-			tm0 = world.getBlockMetadata(x, y, z + 1);
-			if ((tm0 & 8) > 7)
-			{
-				tm0 = world.getBlockMetadata(x, y - 1, z + 1);
-			}
-
-			tm = tm0 & 3;
-			if (tm == 0)
-			{
-				x1 = 0.0F;
-				x2 = 0.375F;
-				z1 = 0.75F;
-				z2 = 1.0F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
-
-			if (tm == 2)
-			{
-				x1 = 0.625F;
-				x2 = 1.0F;
-				z1 = 0.75F;
-				z2 = 1.0F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
-		}
-		else if (m == RenderUtils.Face.XNEG)
-		{
-			tm0 = world.getBlockMetadata(x - 1, y, z);
-			if ((tm0 & 8) > 7)
-			{
-				tm0 = world.getBlockMetadata(x - 1, y - 1, z);
-			}
-			tm = tm0 & 3;
-			if (tm == 1)
-			{
-
-				x1 = 0.0F;
-				x2 = 0.25F;
-				z1 = 0.0F;
-				z2 = 0.375F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
-
-			if (tm == 3)
-			{
-
-				x1 = 0.0F;
-				x2 = 0.25F;
-				z1 = 0.625F;
-				z2 = 1.0F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
-		}
-		else if (m == RenderUtils.Face.XPOS)
-		{
-			tm0 = world.getBlockMetadata(x + 1, y, z);
-			if ((tm0 & 8) > 7)
-			{
-				tm0 = world.getBlockMetadata(x + 1, y - 1, z);
-			}
-			tm = tm0 & 3;
-			if (tm == 1)
-			{
-				x1 = 0.75F;
-				x2 = 1.0F;
-				z1 = 0.0F;
-				z2 = 0.375F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
-
-			if (tm == 3)
-			{
-				x1 = 0.75F;
-				x2 = 1.0F;
-				z1 = 0.625F;
-				z2 = 1.0F;
-
-				this.setBlockBounds(x1, y1, z1, x2, y2, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-			}
+			ConnectionMask.addCollisionBoxes(SIDE_BOXES[i][getSide(state, HORIZONTALS[i])], x, y, z, axis, list);
 		}
+		setBlockBoundsForState(state);
 	}
 }
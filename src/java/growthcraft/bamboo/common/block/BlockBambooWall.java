@@ -1,10 +1,12 @@
 package growthcraft.bamboo.common.block;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import growthcraft.bamboo.GrowthCraftBamboo;
 import growthcraft.bamboo.client.renderer.RenderBambooWall;
 import growthcraft.core.GrowthCraftCore;
+import growthcraft.core.util.ConnectionMask;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -21,9 +23,77 @@ import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.IIcon;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
 
 public class BlockBambooWall extends Block
 {
+	public static final int SIDE_NONE = 0;
+	public static final int SIDE_CONNECT = 1;
+	public static final int SIDE_DOOR_NEG = 2;
+	public static final int SIDE_DOOR_POS = 3;
+	public static final int STATE_SIZE = 1 << 8;
+
+	private static final ForgeDirection[] HORIZONTALS = {
+		ForgeDirection.NORTH, ForgeDirection.SOUTH, ForgeDirection.WEST, ForgeDirection.EAST
+	};
+	// stair facing that connects, indexed like HORIZONTALS
+	private static final int[] STAIR_FACING = { 2, 3, 0, 1 };
+	// {arm, negative door flank, positive door flank}, indexed like HORIZONTALS
+	private static final float[][][] SIDE_BOXES = {
+		{
+			ConnectionMask.box(0.375F, 0.0F, 0.0F, 0.625F, 1.0F, 0.375F),
+			ConnectionMask.box(0.0F, 0.0F, 0.0F, 0.375F, 1.0F, 0.25F),
+			ConnectionMask.box(0.625F, 0.0F, 0.0F, 1.0F, 1.0F, 0.25F)
+		},
+		{
+			ConnectionMask.box(0.375F, 0.0F, 0.625F, 0.625F, 1.0F, 1.0F),
+			ConnectionMask.box(0.0F, 0.0F, 0.75F, 0.375F, 1.0F, 1.0F),
+			ConnectionMask.box(0.625F, 0.0F, 0.75F, 1.0F, 1.0F, 1.0F)
+		},
+		{
+			ConnectionMask.box(0.0F, 0.0F, 0.375F, 0.375F, 1.0F, 0.625F),
+			ConnectionMask.box(0.0F, 0.0F, 0.0F, 0.25F, 1.0F, 0.375F),
+			ConnectionMask.box(0.0F, 0.0F, 0.625F, 0.25F, 1.0F, 1.0F)
+		},
+		{
+			ConnectionMask.box(0.625F, 0.0F, 0.375F, 1.0F, 1.0F, 0.625F),
+			ConnectionMask.box(0.75F, 0.0F, 0.0F, 1.0F, 1.0F, 0.375F),
+			ConnectionMask.box(0.75F, 0.0F, 0.625F, 1.0F, 1.0F, 1.0F)
+		}
+	};
+	private static final float[][] BOUNDS = new float[STATE_SIZE][];
+	private static final float[][][] BOXES = new float[STATE_SIZE][][];
+
+	static
+	{
+		// the boxes are listed in the same order the wall used to build them:
+		// post, west, east, north, south
+		final int[] order = { 2, 3, 0, 1 };
+		for (int state = 0; state < STATE_SIZE; ++state)
+		{
+			final float[] bounds = ConnectionMask.box(0.375F, 0.0F, 0.375F, 0.625F, 1.0F, 0.625F);
+			final List<float[]> boxes = new ArrayList<float[]>();
+			boxes.add(bounds.clone());
+			for (int i : order)
+			{
+				final int side = (state >> (i * 2)) & 3;
+				if (side == SIDE_NONE) continue;
+				boxes.add(SIDE_BOXES[i][0]);
+				if (side != SIDE_CONNECT) boxes.add(SIDE_BOXES[i][side - 1]);
+			}
+			for (float[] b : boxes)
+			{
+				// the bounds reach the edge on every side a box sticks out of the post
+				if (b[0] < bounds[0]) bounds[0] = 0.0F;
+				if (b[2] < bounds[2]) bounds[2] = 0.0F;
+				if (b[3] > bounds[3]) bounds[3] = 1.0F;
+				if (b[5] > bounds[5]) bounds[5] = 1.0F;
+			}
+			BOUNDS[state] = bounds;
+			BOXES[state] = boxes.toArray(new float[boxes.size()][]);
+		}
+	}
+
 	@SideOnly(Side.CLIENT)
 	public static IIcon[] tex;
 
@@ -49,9 +119,12 @@ public class BlockBambooWall extends Block
 
 	public boolean canConnectWallTo(IBlockAccess world, int x, int y, int z)
 	{
-		if (world.isAirBlock(x, y, z)) return false;
+		return canConnectWallTo(world, x, y, z, world.getBlock(x, y, z));
+	}
 
-		final Block block = world.getBlock(x, y, z);
+	private boolean canConnectWallTo(IBlockAccess world, int x, int y, int z, Block block)
+	{
+		if (block.isAir(world, x, y, z)) return false;
 
 		if (this == block ||
 			GrowthCraftBamboo.blocks.bambooStalk.getBlock() == block ||
@@ -114,402 +187,84 @@ public class BlockBambooWall extends Block
 	/************
 	 * BOXES
 	 ************/
-	@Override
-	public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
+	private static int getSideShift(ForgeDirection dir)
 	{
-		int tm;
-
-		final Block idXneg = world.getBlock(x - 1, y, z);
-		final Block idXpos = world.getBlock(x + 1, y, z);
-		final Block idZneg = world.getBlock(x, y, z - 1);
-		final Block idZpos = world.getBlock(x, y, z + 1);
-
-		int metaXneg = world.getBlockMetadata(x - 1, y, z);
-		int metaXpos = world.getBlockMetadata(x + 1, y, z);
-		int metaZneg = world.getBlockMetadata(x, y, z - 1);
-		int metaZpos = world.getBlockMetadata(x, y, z + 1);
-
-		final boolean flagXneg = this.canConnectWallTo(world, x - 1, y, z) || (idXneg instanceof BlockStairs && (metaXneg & 3) == 0);
-		final boolean flagXpos = this.canConnectWallTo(world, x + 1, y, z) || (idXpos instanceof BlockStairs && (metaXpos & 3) == 1);
-		final boolean flagZneg = this.canConnectWallTo(world, x, y, z - 1) || (idZneg instanceof BlockStairs && (metaZneg & 3) == 2);
-		final boolean flagZpos = this.canConnectWallTo(world, x, y, z + 1) || (idZpos instanceof BlockStairs && (metaZpos & 3) == 3);
-
-		float x1 = 0.375F;
-		float x2 = 0.625F;
-		float z1 = 0.375F;
-		float z2 = 0.625F;
-
-		//ZNEG
-		if (flagZneg)
-		{
-			z1 = 0.0F;
-		}
-		else if (idZneg instanceof BlockDoor)
-		{
-			if ((metaZneg & 8) > 7)
-			{
-				metaZneg = world.getBlockMetadata(x, y - 1, z - 1);
-			}
-
-			tm = metaZneg & 3;
-
-			if (tm == 0 || tm == 2)
-			{
-				z1 = 0.0F;
-
-				if (tm == 0)
-				{
-					x1 = 0.0F;
-				}
-
-				if (tm == 2)
-				{
-					x2 = 1.0F;
-				}
-			}
-		}
-
-		//ZPOS
-		if (flagZpos)
-		{
-			z2 = 1.0F;
-		}
-		else if (idZpos instanceof BlockDoor)
-		{
-			if ((metaZpos & 8) > 7)
-			{
-				metaZpos = world.getBlockMetadata(x, y - 1, z + 1);
-			}
-
-			tm = metaZpos & 3;
-
-			if (tm == 0 || tm == 2)
-			{
-				z2 = 1.0F;
-
-				if (tm == 0)
-				{
-					x1 = 0.0F;
-				}
-
-				if (tm == 2)
-				{
-					x2 = 1.0F;
-				}
-			}
-		}
+		return (dir.ordinal() - ForgeDirection.NORTH.ordinal()) * 2;
+	}
 
-		//XNEG
-		if (flagXneg)
+	/**
+	 * Door flanks run along the other axis, SIDE_DOOR_NEG towards the
+	 * negative end and SIDE_DOOR_POS towards the positive end.
+	 */
+	private int getSideState(IBlockAccess world, int x, int y, int z, ForgeDirection dir)
+	{
+		final int nx = x + dir.offsetX;
+		final int nz = z + dir.offsetZ;
+		final Block block = world.getBlock(nx, y, nz);
+		if (canConnectWallTo(world, nx, y, nz, block)) return SIDE_CONNECT;
+		if (block instanceof BlockStairs)
 		{
-			x1 = 0.0F;
+			// stairs only connect with their back to the wall
+			final int facing = world.getBlockMetadata(nx, y, nz) & 3;
+			if (facing == STAIR_FACING[dir.ordinal() - ForgeDirection.NORTH.ordinal()]) return SIDE_CONNECT;
 		}
-		else if (idXneg instanceof BlockDoor)
+		else if (block instanceof BlockDoor)
 		{
-			if ((metaXneg & 8) > 7)
-			{
-				metaXneg = world.getBlockMetadata(x - 1, y - 1, z);
-			}
-
-			tm = metaXneg & 3;
-
-			if (tm == 1 || tm == 3)
-			{
-				x1 = 0.0F;
-
-				if (tm == 1)
-				{
-					z1 = 0.0F;
-				}
-
-				if (tm == 3)
-				{
-					z2 = 1.0F;
-				}
-			}
+			final int facing = ConnectionMask.getDoorFacing(world, nx, y, nz);
+			final boolean alongX = dir.offsetX != 0;
+			if (facing == (alongX ? 1 : 0)) return SIDE_DOOR_NEG;
+			if (facing == (alongX ? 3 : 2)) return SIDE_DOOR_POS;
 		}
+		return SIDE_NONE;
+	}
 
-		//XPOS
-		if (flagXpos)
+	/**
+	 * Looks at the horizontal neighbours once, the result is an index into
+	 * the bounds and box tables, 2 bits per side.
+	 *
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @return connection state
+	 */
+	public int getConnectionState(IBlockAccess world, int x, int y, int z)
+	{
+		int state = 0;
+		for (ForgeDirection dir : HORIZONTALS)
 		{
-			x2 = 1.0F;
+			state |= getSideState(world, x, y, z, dir) << getSideShift(dir);
 		}
-		else if (idXpos instanceof BlockDoor)
-		{
-			if ((metaXpos & 8) > 7)
-			{
-				metaXpos = world.getBlockMetadata(x + 1, y - 1, z);
-			}
-
-			tm = metaXpos & 3;
-
-			if (tm == 1 || tm == 3)
-			{
-				x2 = 1.0F;
+		return state;
+	}
 
-				if (tm == 1)
-				{
-					z1 = 0.0F;
-				}
+	/**
+	 * @param state - connection state from getConnectionState
+	 * @return boxes making up the wall, used for both collision and rendering
+	 */
+	public static float[][] getBoxesForState(int state)
+	{
+		return BOXES[state];
+	}
 
-				if (tm == 3)
-				{
-					z2 = 1.0F;
-				}
-			}
-		}
+	private void setBlockBoundsForState(int state)
+	{
+		final float[] b = BOUNDS[state];
+		this.setBlockBounds(b[0], b[1], b[2], b[3], b[4], b[5]);
+	}
 
-		this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
+	@Override
+	public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
+	{
+		setBlockBoundsForState(getConnectionState(world, x, y, z));
 	}
 
 	@Override
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB axis, List list, Entity entity)
 	{
-		int tm;
-
-		final Block idXneg = world.getBlock(x - 1, y, z);
-		final Block idXpos = world.getBlock(x + 1, y, z);
-		final Block idZneg = world.getBlock(x, y, z - 1);
-		final Block idZpos = world.getBlock(x, y, z + 1);
-
-		int metaXneg = world.getBlockMetadata(x - 1, y, z);
-		int metaXpos = world.getBlockMetadata(x + 1, y, z);
-		int metaZneg = world.getBlockMetadata(x, y, z - 1);
-		int metaZpos = world.getBlockMetadata(x, y, z + 1);
-
-		final boolean flagXneg = this.canConnectWallTo(world, x - 1, y, z) || (idXneg instanceof BlockStairs && (metaXneg & 3) == 0);
-		final boolean flagXpos = this.canConnectWallTo(world, x + 1, y, z) || (idXpos instanceof BlockStairs && (metaXpos & 3) == 1);
-		final boolean flagZneg = this.canConnectWallTo(world, x, y, z - 1) || (idZneg instanceof BlockStairs && (metaZneg & 3) == 2);
-		final boolean flagZpos = this.canConnectWallTo(world, x, y, z + 1) || (idZpos instanceof BlockStairs && (metaZpos & 3) == 3);
-
-		float x1 = 0.375F;
-		float x2 = 0.625F;
-		float z1 = 0.375F;
-		float z2 = 0.625F;
-
-		this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-		super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-
-		//XNEG
-		if (flagXneg)
-		{
-			x1 = 0.0F;
-			x2 = 0.375F;
-			z1 = 0.375F;
-			z2 = 0.625F;
-
-			this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-			super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-		}
-		else if (idXneg instanceof BlockDoor)
-		{
-			if ((metaXneg & 8) > 7)
-			{
-				metaXneg = world.getBlockMetadata(x - 1, y - 1, z);
-			}
-
-			tm = metaXneg & 3;
-
-			if (tm == 1 || tm == 3)
-			{
-				x1 = 0.0F;
-				x2 = 0.375F;
-				z1 = 0.375F;
-				z2 = 0.625F;
-
-				this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-
-				if (tm == 1)
-				{
-
-					x1 = 0.0F;
-					x2 = 0.25F;
-					z1 = 0.0F;
-					z2 = 0.375F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-
-				if (tm == 3)
-				{
-
-					x1 = 0.0F;
-					x2 = 0.25F;
-					z1 = 0.625F;
-					z2 = 1.0F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-			}
-		}
-
-		//XPOS
-		if (flagXpos)
-		{
-			x1 = 0.625F;
-			x2 = 1.0F;
-			z1 = 0.375F;
-			z2 = 0.625F;
-
-			this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-			super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-		}
-		else if (idXpos instanceof BlockDoor)
-		{
-			if ((metaXpos & 8) > 7)
-			{
-				metaXpos = world.getBlockMetadata(x + 1, y - 1, z);
-			}
-
-			tm = metaXpos & 3;
-
-			if (tm == 1 || tm == 3)
-			{
-				x1 = 0.625F;
-				x2 = 1.0F;
-				z1 = 0.375F;
-				z2 = 0.625F;
-
-				this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-
-				if (tm == 1)
-				{
-					x1 = 0.75F;
-					x2 = 1.0F;
-					z1 = 0.0F;
-					z2 = 0.375F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-
-				if (tm == 3)
-				{
-					x1 = 0.75F;
-					x2 = 1.0F;
-					z1 = 0.625F;
-					z2 = 1.0F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-			}
-		}
-
-		//ZNEG
-		if (flagZneg)
-		{
-
-			x1 = 0.375F;
-			x2 = 0.625F;
-			z1 = 0.0F;
-			z2 = 0.375F;
-
-			this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-			super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-		}
-		else if (idZneg instanceof BlockDoor)
-		{
-			if ((metaZneg & 8) > 7)
-			{
-				metaZneg = world.getBlockMetadata(x, y - 1, z - 1);
-			}
-
-			tm = metaZneg & 3;
-
-			if (tm == 0 || tm == 2)
-			{
-				x1 = 0.375F;
-				x2 = 0.625F;
-				z1 = 0.0F;
-				z2 = 0.375F;
-
-				this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-
-				if (tm == 0)
-				{
-					x1 = 0.0F;
-					x2 = 0.375F;
-					z1 = 0.0F;
-					z2 = 0.25F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-
-				if (tm == 2)
-				{
-					x1 = 0.625F;
-					x2 = 1.0F;
-					z1 = 0.0F;
-					z2 = 0.25F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-			}
-		}
-
-		//ZPOS
-		if (flagZpos)
-		{
-			x1 = 0.375F;
-			x2 = 0.625F;
-			z1 = 0.625F;
-			z2 = 1.0F;
-
-			this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-			super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-		}
-		else if (idZpos instanceof BlockDoor)
-		{
-			if ((metaZpos & 8) > 7)
-			{
-				metaZpos = world.getBlockMetadata(x, y - 1, z + 1);
-			}
-
-			tm = metaZpos & 3;
-
-			if (tm == 0 || tm == 2)
-			{
-				x1 = 0.375F;
-				x2 = 0.625F;
-				z1 = 0.625F;
-				z2 = 1.0F;
-
-				this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-				super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-
-				if (tm == 0)
-				{
-					x1 = 0.0F;
-					x2 = 0.375F;
-					z1 = 0.75F;
-					z2 = 1.0F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-
-				if (tm == 2)
-				{
-					x1 = 0.625F;
-					x2 = 1.0F;
-					z1 = 0.75F;
-					z2 = 1.0F;
-
-					this.setBlockBounds(x1, 0.0F, z1, x2, 1.0F, z2);
-					super.addCollisionBoxesToList(world, x, y, z, axis, list, entity);
-				}
-			}
-		}
-
-		this.setBlockBoundsBasedOnState(world, x, y, z);
+		final int state = getConnectionState(world, x, y, z);
+		ConnectionMask.addCollisionBoxes(BOXES[state], x, y, z, axis, list);
+		setBlockBoundsForState(state);
 	}
 }
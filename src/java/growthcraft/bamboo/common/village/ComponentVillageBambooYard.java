@@ -85,6 +85,8 @@ public class ComponentVillageBambooYard extends StructureVillagePieces.Village i
 		},
 	};
 
+	private static final SchemaToVillage.CompiledSchema bambooYardCompiled = SchemaToVillage.compile(bambooYardSchema);
+
 	// DO NOT REMOVE
 	public ComponentVillageBambooYard() {}
 
@@ -113,14 +115,37 @@ public class ComponentVillageBambooYard extends StructureVillagePieces.Village i
 		placeBlockAtCurrentPosition(world, block, meta, x, y, z, box);
 	}
 
-	protected void placeWorldGenAt(World world, Random random, int tx, int ty, int tz, StructureBoundingBox bb, WorldGenerator generator)
+	public int getXWithOffsetPub(int x, int z)
+	{
+		return getXWithOffset(x, z);
+	}
+
+	public int getYWithOffsetPub(int y)
+	{
+		return getYWithOffset(y);
+	}
+
+	public int getZWithOffsetPub(int x, int z)
+	{
+		return getZWithOffset(x, z);
+	}
+
+	/**
+	 * Generates a tree which is clipped to the box being built, the tree is
+	 * generated again for every box it reaches into, so each of them places
+	 * their part of it.
+	 */
+	protected void placeWorldGenAt(World world, int tx, int ty, int tz, StructureBoundingBox bb, WorldGenerator generator)
 	{
 		final int x = this.getXWithOffset(tx, tz);
 		final int y = this.getYWithOffset(ty);
 		final int z = this.getZWithOffset(tx, tz);
 
-		if (bb.isVecInside(x, y, z))
+		// the leaves reach 2 blocks out from the trunk
+		if (bb.intersectsWith(x - 2, z - 2, x + 2, z + 2))
 		{
+			// seeded from the position, so every box sees the same tree
+			final Random random = new Random(world.getSeed() + x * 341873128712L + z * 132897987541L);
 			generator.generate(world, random, x, y, z);
 		}
 	}
@@ -156,18 +181,18 @@ public class ComponentVillageBambooYard extends StructureVillagePieces.Village i
 		map.put('~', new BlockEntry(Blocks.water, 0));
 		map.put('W', new BlockEntry(GrowthCraftBamboo.blocks.bambooWall.getBlock(), 0));
 
-		SchemaToVillage.drawSchema(this, world, random, box, bambooYardSchema, map);
+		bambooYardCompiled.draw(this, world, random, box, map);
 
 		// This places the bamboo trees to the best of its ability.
-		final WorldGenBamboo genBamboo = new WorldGenBamboo(true);
-		placeWorldGenAt(world, random, 4, 1, 4, box, genBamboo);
-		placeWorldGenAt(world, random, 6, 1, 4, box, genBamboo);
-		placeWorldGenAt(world, random, 3, 1, 5, box, genBamboo);
-		placeWorldGenAt(world, random, 7, 1, 5, box, genBamboo);
-		placeWorldGenAt(world, random, 3, 1, 7, box, genBamboo);
-		placeWorldGenAt(world, random, 7, 1, 7, box, genBamboo);
-		placeWorldGenAt(world, random, 4, 1, 8, box, genBamboo);
-		placeWorldGenAt(world, random, 6, 1, 8, box, genBamboo);
+		final WorldGenBamboo genBamboo = new WorldGenBamboo(false, box);
+		placeWorldGenAt(world, 4, 1, 4, box, genBamboo);
+		placeWorldGenAt(world, 6, 1, 4, box, genBamboo);
+		placeWorldGenAt(world, 3, 1, 5, box, genBamboo);
+		placeWorldGenAt(world, 7, 1, 5, box, genBamboo);
+		placeWorldGenAt(world, 3, 1, 7, box, genBamboo);
+		placeWorldGenAt(world, 7, 1, 7, box, genBamboo);
+		placeWorldGenAt(world, 4, 1, 8, box, genBamboo);
+		placeWorldGenAt(world, 6, 1, 8, box, genBamboo);
 
 		for (int row = 0; row < 12; ++row)
 		{
@@ -3,6 +3,7 @@ package growthcraft.bamboo.common.world;
 import java.util.Random;
 
 import growthcraft.bamboo.GrowthCraftBamboo;
+import growthcraft.core.common.world.DecorationArea;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSapling;
@@ -10,6 +11,7 @@ import net.minecraft.block.material.Material;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenAbstractTree;
+import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraftforge.common.util.ForgeDirection;
 
 public class WorldGenBamboo extends WorldGenAbstractTree
@@ -19,20 +21,52 @@ public class WorldGenBamboo extends WorldGenAbstractTree
 	private final int maxTreeHeight = GrowthCraftBamboo.getConfig().bambooTreeMaxHeight;
 	private final Block leaves = GrowthCraftBamboo.blocks.bambooLeaves.getBlock();
 	private final Block log = GrowthCraftBamboo.blocks.bambooStalk.getBlock();
+	private final StructureBoundingBox clipBox;
 
 	public WorldGenBamboo(boolean doblocknotify)
+	{
+		this(doblocknotify, null);
+	}
+
+	/**
+	 * @param doblocknotify - whether placed blocks notify their neighbours
+	 * @param pClipBox - only blocks inside this box are placed, null places all
+	 */
+	public WorldGenBamboo(boolean doblocknotify, StructureBoundingBox pClipBox)
 	{
 		super(doblocknotify);
+		this.clipBox = pClipBox;
+	}
+
+	private boolean isInsideClip(int x, int y, int z)
+	{
+		return clipBox == null || clipBox.isVecInside(x, y, z);
+	}
+
+	@Override
+	protected void setBlockAndNotifyAdequately(World world, int x, int y, int z, Block block, int meta)
+	{
+		if (isInsideClip(x, y, z)) super.setBlockAndNotifyAdequately(world, x, y, z, block, meta);
 	}
 
-	public boolean generateClumps(World world, Random rand, int i, int j, int k)
+	/**
+	 * @param world - world
+	 * @param rand - random
+	 * @param i - x coord of the clump's center
+	 * @param j - y coord of the clump's center
+	 * @param k - z coord of the clump's center
+	 * @param area - trees whose leaves would leave this area are skipped
+	 * @return true
+	 */
+	public boolean generateClumps(World world, Random rand, int i, int j, int k, DecorationArea area)
 	{
 		for (int loop = 0; loop < this.density; ++loop)
 		{
 			final int x = i + rand.nextInt(8) - rand.nextInt(8);
 			final int y = j + rand.nextInt(4) - rand.nextInt(4);
 			final int z = k + rand.nextInt(8) - rand.nextInt(8);
-			this.generate(world, rand, x, y, z);
+			// the leaves reach 2 blocks out from the stalk
+			if (area.contains(x, z, 2)) this.generate(world, rand, x, y, z);
 		}
 
 		return true;
@@ -97,7 +131,7 @@ public class WorldGenBamboo extends WorldGenAbstractTree
 
 				if (isSoil && j < maxTreeHeight - height - 1)
 				{
-					soil.onPlantGrow(world, i, j - 1, k, i, j, k);
+					if (isInsideClip(i, j - 1, k)) soil.onPlantGrow(world, i, j - 1, k, i, j, k);
 
 					for (it = 0; it <= 3; ++it)
 					{
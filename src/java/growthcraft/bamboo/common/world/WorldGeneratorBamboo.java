@@ -3,6 +3,8 @@ package growthcraft.bamboo.common.world;
 import java.util.Random;
 
 import growthcraft.bamboo.GrowthCraftBamboo;
+import growthcraft.core.common.world.BiomeEligibility;
+import growthcraft.core.common.world.DecorationArea;
 import growthcraft.core.Utils;
 
 import cpw.mods.fml.common.IWorldGenerator;
@@ -14,7 +16,28 @@ import net.minecraftforge.common.BiomeDictionary.Type;
 
 public class WorldGeneratorBamboo implements IWorldGenerator
 {
+	static class BambooBiomes extends BiomeEligibility
+	{
+		private final boolean useBiomeDict = GrowthCraftBamboo.getConfig().useBiomeDict;
+		private final String biomesList = GrowthCraftBamboo.getConfig().bambooBiomesList;
+
+		@Override
+		protected boolean isBiomeEligible(BiomeGenBase biome)
+		{
+			if (useBiomeDict)
+			{
+				return (BiomeDictionary.isBiomeOfType(biome, Type.FOREST) ||
+						BiomeDictionary.isBiomeOfType(biome, Type.JUNGLE) ||
+						BiomeDictionary.isBiomeOfType(biome, Type.WATER) ||
+						BiomeDictionary.isBiomeOfType(biome, Type.PLAINS))
+						&& !BiomeDictionary.isBiomeOfType(biome, Type.SNOWY);
+			}
+			return Utils.isIDInList(biome.biomeID, biomesList);
+		}
+	}
+
 	private final int rarity = GrowthCraftBamboo.getConfig().bambooWorldGenRarity;
+	private final BiomeEligibility biomes = new BambooBiomes();
 
 	@Override
 	public void generate(Random random, int chunkX, int chunkZ, World world, IChunkProvider chunkGenerator, IChunkProvider chunkProvider)
@@ -33,24 +56,10 @@ public class WorldGeneratorBamboo implements IWorldGenerator
 			final int j = random.nextInt(128);
 			final int k = chunkZ * 16 + random.nextInt(16) + 8;
 
-			boolean flag = true;
-			if (GrowthCraftBamboo.getConfig().useBiomeDict)
-			{
-				final BiomeGenBase biome = world.getBiomeGenForCoords(i, k);
-				flag = (BiomeDictionary.isBiomeOfType(biome, Type.FOREST) ||
-						BiomeDictionary.isBiomeOfType(biome, Type.JUNGLE) ||
-						BiomeDictionary.isBiomeOfType(biome, Type.WATER) ||
-						BiomeDictionary.isBiomeOfType(biome, Type.PLAINS))
-						&& !BiomeDictionary.isBiomeOfType(biome, Type.SNOWY);
-			}
-			else
-			{
-				flag = Utils.isIDInList(world.getBiomeGenForCoords(i, k).biomeID, GrowthCraftBamboo.getConfig().bambooBiomesList);
-			}
-
-			if (flag && random.nextInt(this.rarity) == 0)
+			if (biomes.contains(world.getBiomeGenForCoords(i, k)) && random.nextInt(this.rarity) == 0)
 			{
-				new WorldGenBamboo(true).generateClumps(world, random, i, j, k);
+				// no block notify, the neighbour updates would reach past the decoration area
+				new WorldGenBamboo(false).generateClumps(world, random, i, j, k, new DecorationArea(chunkX, chunkZ));
 			}
 		}
 	}
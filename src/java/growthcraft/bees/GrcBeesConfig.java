@@ -32,6 +32,9 @@ public class GrcBeesConfig extends ConfigBase
 	@ConfigOption(catergory="Bee Box", name="Flower spawn radius", desc="[Higher -> Larger]")
 	public int beeBoxFlowerRadius = 5;
 
+	@ConfigOption(catergory="Bee Box", name="Flower census budget", desc="How many columns around a bee box are re-checked per random tick for flower and soil changes? [Higher -> More accurate, Slower; 0 disables]")
+	public int beeBoxCensusBudget = 16;
+
 
 	@ConfigOption(catergory="Fluid/Honey", name="Enabled", desc="Should we enable honey fluid and its corresponding items?")
 	public boolean honeyEnabled = true;
@@ -25,6 +25,7 @@ import growthcraft.bees.init.GrcBeesRecipes;
 import growthcraft.cellar.GrowthCraftCellar;
 import growthcraft.core.common.definition.BlockDefinition;
 import growthcraft.core.common.definition.BlockTypeDefinition;
+import growthcraft.core.common.tileentity.GrcTileEntityBase;
 import growthcraft.core.integration.bop.BopPlatform;
 import growthcraft.core.util.MapGenHelper;
 
@@ -152,6 +153,7 @@ public class GrowthCraftBees
 		GameRegistry.registerBlock(beeHive.getBlock(), "grc.beeHive");
 		// TileEntities
 		GameRegistry.registerTileEntity(TileEntityBeeBox.class, "grc.tileentity.beeBox");
+		GrcTileEntityBase.registerHandlers(TileEntityBeeBox.class);
 		GameRegistry.registerWorldGenerator(new WorldGeneratorBees(), 0);
 		MapGenHelper.registerVillageStructure(ComponentVillageApiarist.class, "grc.apiarist");
 		modules.register();
@@ -9,15 +9,18 @@ import growthcraft.bees.GrowthCraftBees;
 import growthcraft.core.common.inventory.GrcInternalInventory;
 import growthcraft.core.common.tileentity.GrcTileEntityInventoryBase;
 import growthcraft.core.common.tileentity.IItemHandler;
+import growthcraft.core.common.tileentity.ITileNeighbourSensitive;
+import growthcraft.core.profiler.TickProfiler;
 import growthcraft.core.util.ItemUtils;
 
+import net.minecraft.block.Block;
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
 
-public class TileEntityBeeBox extends GrcTileEntityInventoryBase implements IItemHandler
+public class TileEntityBeeBox extends GrcTileEntityInventoryBase implements IItemHandler, ITileNeighbourSensitive
 {
 	public static enum HoneyCombExpect
 	{
@@ -47,7 +50,18 @@ public class TileEntityBeeBox extends GrcTileEntityInventoryBase implements IIte
 	public void updateEntity()
 	{
 		super.updateEntity();
-		if (!worldObj.isRemote) beeBox.update();
+		if (!worldObj.isRemote)
+		{
+			final long start = TickProfiler.begin();
+			beeBox.update();
+			TickProfiler.end(beeBox.getClass(), "update", this, start);
+		}
+	}
+
+	@Override
+	public void onNeighbourBlockChange(Block block)
+	{
+		beeBox.onNeighbourChange();
 	}
 
 	public void updateBlockTick()
@@ -58,7 +72,9 @@ public class TileEntityBeeBox extends GrcTileEntityInventoryBase implements IIte
 		}
 		else
 		{
+			final long start = TickProfiler.begin();
 			beeBox.updateTick();
+			TickProfiler.end(beeBox.getClass(), "updateTick", this, start);
 		}
 	}
 
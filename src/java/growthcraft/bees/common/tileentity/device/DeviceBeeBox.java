@@ -23,39 +23,34 @@
  */
 package growthcraft.bees.common.tileentity.device;
 
-import java.util.Arrays;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 import io.netty.buffer.ByteBuf;
 
 import growthcraft.api.bees.BeesRegistry;
 import growthcraft.api.bees.IFlowerBlockEntry;
-import growthcraft.api.core.util.RandomUtils;
 import growthcraft.api.core.util.BlockFlags;
 import growthcraft.bees.common.tileentity.TileEntityBeeBox;
 import growthcraft.bees.GrowthCraftBees;
 import growthcraft.core.common.tileentity.device.DeviceBase;
 
 import net.minecraft.block.Block;
-import net.minecraft.init.Blocks;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
 
 public class DeviceBeeBox extends DeviceBase
 {
-	// Temp variable used by BlockBeeBox for storing flower lists
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	public List<List> flowerList = new ArrayList<List>();
 	private final float honeyCombSpawnRate = GrowthCraftBees.getConfig().beeBoxHoneyCombSpawnRate;
 	private final float honeySpawnRate = GrowthCraftBees.getConfig().beeBoxHoneySpawnRate;
 	private final float beeSpawnRate = GrowthCraftBees.getConfig().beeBoxBeeSpawnRate;
 	private final float flowerSpawnRate = GrowthCraftBees.getConfig().beeBoxFlowerSpawnRate;
 	private final int flowerRadius = GrowthCraftBees.getConfig().beeBoxFlowerRadius;
 	private final float bonus = GrowthCraftBees.getConfig().beeBoxBonusMultiplier;
+	private final int censusBudget = GrowthCraftBees.getConfig().beeBoxCensusBudget;
 	private Random random = new Random();
 	private int bonusTime;
+	private FlowerCensus growthCensus;
+	private FlowerCensus flowerCensus;
 
 	public DeviceBeeBox(TileEntityBeeBox te)
 	{
@@ -95,86 +90,63 @@ public class DeviceBeeBox extends DeviceBase
 	}
 
 	/**
-	 * Is the provided block a flower?
+	 * Area used for the growth rate, 10x10 columns around the box
 	 *
-	 * @param block - block to check
-	 * @param meta - block's metadata
-	 * @return true, the block is a recognized flower, false otherwise
+	 * @return census of the growth area
 	 */
-	private boolean isBlockFlower(Block block, int meta)
+	private FlowerCensus getGrowthCensus()
 	{
-		return BeesRegistry.instance().isBlockFlower(block, meta);
+		if (growthCensus == null)
+		{
+			final int checkSize = 5;
+			final int i = parent.xCoord - ((checkSize - 1) / 2);
+			final int k = parent.zCoord - ((checkSize - 1) / 2);
+			this.growthCensus = new FlowerCensus(i - checkSize, parent.yCoord, k - checkSize, checkSize * 2, checkSize * 2);
+		}
+		return growthCensus;
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked"})
-	private List<List> gatherFlowersInRadius(World world, int x, int y, int z, int checkSize, List<List> list)
+	/**
+	 * Area the box looks for flowers to spread, sized by the flower radius
+	 *
+	 * @return census of the flower area
+	 */
+	private FlowerCensus getFlowerCensus()
 	{
-		final int i = x - ((checkSize - 1) / 2);
-		final int k = z - ((checkSize - 1) / 2);
-
-		for (int xLoop = -checkSize; xLoop < checkSize; xLoop++)
+		if (flowerCensus == null)
 		{
-			for (int yLoop = -checkSize; yLoop < checkSize; yLoop++)
-			{
-				final int fx = i + xLoop;
-				final int fy = y;
-				final int fz = k + yLoop;
-				if (!world.isAirBlock(fx, fy, fz))
-				{
-					final Block flower = world.getBlock(fx, y, fz);
-					final int fm = world.getBlockMetadata(fx, y, fz);
-					if (flower != null)
-					{
-						if (isBlockFlower(flower, fm))
-						{
-							list.add(Arrays.asList(flower, fm));
-						}
-					}
-				}
-			}
+			final int checkSize = flowerRadius;
+			final int i = parent.xCoord - ((checkSize - 1) / 2);
+			final int k = parent.zCoord - ((checkSize - 1) / 2);
+			this.flowerCensus = new FlowerCensus(i - checkSize, parent.yCoord, k - checkSize, checkSize * 2, checkSize * 2);
 		}
-		return list;
+		return flowerCensus;
 	}
 
-	private float calcGrowthRate(World world, int x, int y, int z)
+	private void refreshColumn(World world, int x, int z)
 	{
-		final int checkSize = 5;
-		final int i = x - ((checkSize - 1) / 2);
-		final int k = z - ((checkSize - 1) / 2);
-		float f = 1.0F;
+		getGrowthCensus().refreshColumn(world, x, z);
+		getFlowerCensus().refreshColumn(world, x, z);
+	}
 
-		for (int loopx = -checkSize; loopx < checkSize; loopx++)
+	/**
+	 * A block next to the box changed, refresh the columns around it.
+	 */
+	public void onNeighbourChange()
+	{
+		final World world = getWorld();
+		for (int x = parent.xCoord - 1; x <= parent.xCoord + 1; ++x)
 		{
-			for (int loopz = -checkSize; loopz < checkSize; loopz++)
+			for (int z = parent.zCoord - 1; z <= parent.zCoord + 1; ++z)
 			{
-				final Block flower = world.getBlock(i + loopx, y, k + loopz);
-				final int fm = world.getBlockMetadata(i + loopx, y, k + loopz);
-				final Block soil = world.getBlock(i + loopx, y - 1, k + loopz);
-				float f1 = 0.0F;
-
-				if (soil == Blocks.grass)
-				{
-					//f1 = 1.0F;
-					f1 = 0.36F;
-
-					if (isBlockFlower(flower, fm))
-					{
-						//f1 = 3.0F;
-						f1 = 1.08F;
-					}
-				}
-				else if (flower == Blocks.flower_pot && (world.getBlockMetadata(i + loopx, y, k + loopz) == 1 ||
-					world.getBlockMetadata(i + loopx, y, k + loopz) == 2))
-				{
-					//f1 = 2.0F;
-					f1 = 0.72F;
-				}
-
-				f1 /= 4.0F;
-
-				f += f1;
+				refreshColumn(world, x, z);
 			}
 		}
+	}
+
+	private float calcGrowthRate(World world)
+	{
+		float f = 1.0F + getGrowthCensus().getGrowth(world);
 
 		final TileEntityBeeBox te = getParentTile();
 
@@ -196,7 +168,7 @@ public class DeviceBeeBox extends DeviceBase
 
 	public float getGrowthRate()
 	{
-		return calcGrowthRate(getWorld(), parent.xCoord, parent.yCoord, parent.zCoord);
+		return calcGrowthRate(getWorld());
 	}
 
 	public void update()
@@ -204,12 +176,19 @@ public class DeviceBeeBox extends DeviceBase
 		if (bonusTime > 0) bonusTime--;
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void updateTick()
 	{
 		final TileEntityBeeBox te = getParentTile();
 		if (!canDoWork() || !te.hasBees()) return;
 
+		// re-validated on random ticks only, the same rate the old full scan ran at
+		if (censusBudget > 0)
+		{
+			final World world = getWorld();
+			getGrowthCensus().revalidate(world, censusBudget);
+			getFlowerCensus().revalidate(world, censusBudget);
+		}
+
 		final int x = te.xCoord;
 		final int y = te.yCoord;
 		final int z = te.zCoord;
@@ -275,26 +254,22 @@ public class DeviceBeeBox extends DeviceBase
 		if (random.nextInt(spawnRate) == 0)
 		{
 			final int checkSize = flowerRadius;
+			final FlowerCensus census = getFlowerCensus();
+			final int index = census.sampleFlower(getWorld(), random);
 
-			flowerList.clear();
-			gatherFlowersInRadius(getWorld(), x, y, z, checkSize, flowerList);
-
-			if (!flowerList.isEmpty())
+			if (index >= 0)
 			{
 				final int random_x = x + random.nextInt(checkSize * 2) - checkSize;
 				final int random_z = z + random.nextInt(checkSize * 2) - checkSize;
-				final List randomList = RandomUtils.sample(random, flowerList);
-				if (randomList != null)
+				final Block block = census.getFlower(index);
+				final int meta = census.getFlowerMeta(index);
+				final IFlowerBlockEntry entry = BeesRegistry.instance().getFlowerBlockEntry(block, meta);
+				if (entry != null)
 				{
-					final Block block = (Block)randomList.get(0);
-					final int meta = (int)randomList.get(1);
-					final IFlowerBlockEntry entry = BeesRegistry.instance().getFlowerBlockEntry(block, meta);
-					if (entry != null)
+					if (entry.canPlaceAt(getWorld(), random_x, y, random_z))
 					{
-						if (entry.canPlaceAt(getWorld(), random_x, y, random_z))
-						{
-							getWorld().setBlock(random_x, y, random_z, block, meta, BlockFlags.SYNC);
-						}
+						getWorld().setBlock(random_x, y, random_z, block, meta, BlockFlags.SYNC);
+						refreshColumn(getWorld(), random_x, random_z);
 					}
 				}
 			}
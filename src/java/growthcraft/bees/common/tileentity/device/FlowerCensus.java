@@ -0,0 +1,242 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.bees.common.tileentity.device;
+
+import java.util.Random;
+
+import growthcraft.api.bees.BeesRegistry;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+
+/**
+ * Keeps a record of the flowers and soil in a rectangle of columns around a
+ * bee box, so the box doesn't have to read the whole area every random tick.
+ *
+ * The census is taken once, then kept up to date by refreshing single columns
+ * when a change is known (neighbour updates, flowers placed by the box) and by
+ * re-validating a few columns per random tick to catch everything else.
+ */
+public class FlowerCensus
+{
+	private final int minX;
+	private final int minZ;
+	private final int width;
+	private final int depth;
+	private final int y;
+	private final Block[] flowers;
+	private final int[] flowerMetas;
+	private final float[] growth;
+	private float growthSum;
+	private int flowerCount;
+	private int cursor;
+	private boolean built;
+
+	/**
+	 * @param pMinX - lowest x of the area
+	 * @param pY - flower layer, soil is read from the layer below
+	 * @param pMinZ - lowest z of the area
+	 * @param pWidth - size of the area along x
+	 * @param pDepth - size of the area along z
+	 */
+	public FlowerCensus(int pMinX, int pY, int pMinZ, int pWidth, int pDepth)
+	{
+		this.minX = pMinX;
+		this.y = pY;
+		this.minZ = pMinZ;
+		this.width = pWidth;
+		this.depth = pDepth;
+		final int size = pWidth * pDepth;
+		this.flowers = new Block[size];
+		this.flowerMetas = new int[size];
+		this.growth = new float[size];
+	}
+
+	private static boolean isBlockFlower(Block block, int meta)
+	{
+		return BeesRegistry.instance().isBlockFlower(block, meta);
+	}
+
+	/**
+	 * How much does the column add to the bee box's growth rate?
+	 *
+	 * @param world - world to read from
+	 * @param x - column x
+	 * @param z - column z
+	 * @param flower - block in the flower layer
+	 * @param meta - metadata of the flower block
+	 * @return growth contribution
+	 */
+	private float calcColumnGrowth(World world, int x, int z, Block flower, int meta)
+	{
+		final Block soil = world.getBlock(x, y - 1, z);
+		float f = 0.0F;
+		if (soil == Blocks.grass)
+		{
+			f = isBlockFlower(flower, meta) ? 1.08F : 0.36F;
+		}
+		else if (flower == Blocks.flower_pot && (meta == 1 || meta == 2))
+		{
+			f = 0.72F;
+		}
+		return f / 4.0F;
+	}
+
+	private void updateColumn(World world, int index)
+	{
+		final int x = minX + index % width;
+		final int z = minZ + index / width;
+		final Block block = world.getBlock(x, y, z);
+		final int meta = world.getBlockMetadata(x, y, z);
+		final Block flower = isBlockFlower(block, meta) ? block : null;
+
+		if (flowers[index] != null) flowerCount--;
+		if (flower != null) flowerCount++;
+		flowers[index] = flower;
+		flowerMetas[index] = meta;
+
+		final float f = calcColumnGrowth(world, x, z, block, meta);
+		growthSum += f - growth[index];
+		growth[index] = f;
+	}
+
+	private void rebuild(World world)
+	{
+		growthSum = 0.0F;
+		flowerCount = 0;
+		for (int i = 0; i < growth.length; ++i)
+		{
+			flowers[i] = null;
+			growth[i] = 0.0F;
+			updateColumn(world, i);
+		}
+		this.cursor = 0;
+		this.built = true;
+	}
+
+	public boolean contains(int x, int z)
+	{
+		return x >= minX && x < minX + width && z >= minZ && z < minZ + depth;
+	}
+
+	/**
+	 * Forces the census to be taken again, on its next use.
+	 */
+	public void invalidate()
+	{
+		this.built = false;
+	}
+
+	/**
+	 * Call when the block at x, z (flower or soil layer) is known to have changed.
+	 *
+	 * @param world - world to read from
+	 * @param x - column x
+	 * @param z - column z
+	 */
+	public void refreshColumn(World world, int x, int z)
+	{
+		if (!built || !contains(x, z)) return;
+		updateColumn(world, (z - minZ) * width + (x - minX));
+	}
+
+	/**
+	 * Re-validates up to budget columns, continuing where the last call stopped.
+	 *
+	 * @param world - world to read from
+	 * @param budget - maximum number of columns to check
+	 */
+	public void revalidate(World world, int budget)
+	{
+		if (!built) return;
+		for (int n = 0; n < budget && n < growth.length; ++n)
+		{
+			updateColumn(world, cursor);
+			cursor++;
+			if (cursor >= growth.length)
+			{
+				cursor = 0;
+				// sum the column values again once per sweep, so float errors don't pile up
+				float sum = 0.0F;
+				for (float f : growth) sum += f;
+				this.growthSum = sum;
+			}
+		}
+	}
+
+	private void ensureBuilt(World world)
+	{
+		if (!built) rebuild(world);
+	}
+
+	/**
+	 * @param world - world to read from
+	 * @return sum of the growth contributions of every column
+	 */
+	public float getGrowth(World world)
+	{
+		ensureBuilt(world);
+		return growthSum;
+	}
+
+	public int getFlowerCount(World world)
+	{
+		ensureBuilt(world);
+		return flowerCount;
+	}
+
+	/**
+	 * Picks one of the recorded flowers, each flower has the same chance.
+	 *
+	 * @param world - world to read from
+	 * @param random - random number generator
+	 * @return column index of the flower, or -1 if there are none
+	 */
+	public int sampleFlower(World world, Random random)
+	{
+		ensureBuilt(world);
+		if (flowerCount <= 0) return -1;
+		int target = random.nextInt(flowerCount);
+		for (int i = 0; i < flowers.length; ++i)
+		{
+			if (flowers[i] != null)
+			{
+				if (target == 0) return i;
+				target--;
+			}
+		}
+		return -1;
+	}
+
+	public Block getFlower(int index)
+	{
+		return flowers[index];
+	}
+
+	public int getFlowerMeta(int index)
+	{
+		return flowerMetas[index];
+	}
+}
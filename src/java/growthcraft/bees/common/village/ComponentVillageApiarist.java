@@ -122,6 +122,8 @@ public class ComponentVillageApiarist extends StructureVillagePieces.Village imp
 		}
 	};
 
+	private static final SchemaToVillage.CompiledSchema apiaristExteriorCompiled = SchemaToVillage.compile(apiaristExteriorSchema);
+
 	private static final String[][] apiaristInteriorSchema = {
 		{
 			" 6    4",
@@ -149,6 +151,8 @@ public class ComponentVillageApiarist extends StructureVillagePieces.Village imp
 		}
 	};
 
+	private static final SchemaToVillage.CompiledSchema apiaristInteriorCompiled = SchemaToVillage.compile(apiaristInteriorSchema);
+
 	// That tree that appears behind the apiary, its a birch tree
 	// Since `x` is already used for Oak in the original schema, I've extracted
 	// here.
@@ -186,6 +190,8 @@ public class ComponentVillageApiarist extends StructureVillagePieces.Village imp
 		}
 	};
 
+	private static final SchemaToVillage.CompiledSchema apiaristBackyardTreeCompiled = SchemaToVillage.compile(apiaristBackyardTreeSchema);
+
 	private static final WeightedRandomChestContent[] apiaristChestContents = new WeightedRandomChestContent[] {
 		new WeightedRandomChestContent(GrowthCraftBees.items.bee.asStack(), 1, 2, 3),
 		new WeightedRandomChestContent(GrowthCraftBees.items.honeyCombEmpty.asStack(), 1, 3, 5),
@@ -221,6 +227,21 @@ public class ComponentVillageApiarist extends StructureVillagePieces.Village imp
 		placeBlockAtCurrentPosition(world, block, meta, x, y, z, box);
 	}
 
+	public int getXWithOffsetPub(int x, int z)
+	{
+		return getXWithOffset(x, z);
+	}
+
+	public int getYWithOffsetPub(int y)
+	{
+		return getYWithOffset(y);
+	}
+
+	public int getZWithOffsetPub(int x, int z)
+	{
+		return getZWithOffset(x, z);
+	}
+
 	public boolean addComponentParts(World world, Random random, StructureBoundingBox box)
 	{
 		if (this.field_143015_k < 0)
@@ -244,7 +265,7 @@ public class ComponentVillageApiarist extends StructureVillagePieces.Village imp
 		map.put('x', new BlockEntry(Blocks.log, 2));
 		map.put('l', new BlockEntry(Blocks.leaves, 2));
 
-		SchemaToVillage.drawSchema(this, world, random, box, apiaristBackyardTreeSchema, map, 3, 1, 10);
+		apiaristBackyardTreeCompiled.draw(this, world, random, box, map, 3, 1, 10);
 
 		map.clear();
 
@@ -286,7 +307,7 @@ public class ComponentVillageApiarist extends StructureVillagePieces.Village imp
 		map.put('H', new BlockEntry(GrowthCraftBees.beeHive.getBlock(), this.getMetadataWithOffset(GrowthCraftBees.beeHive.getBlock(), 3)));
 		map.put('+', new BlockEntry(GrowthCraftBees.beeBox.getBlock(), this.getMetadataWithOffset(GrowthCraftBees.beeBox.getBlock(), random.nextInt(6))));
 
-		SchemaToVillage.drawSchema(this, world, random, box, apiaristExteriorSchema, map, 0, 0, 0);
+		apiaristExteriorCompiled.draw(this, world, random, box, map, 0, 0, 0);
 
 		// Get ready to recycle for interior design
 		map.clear();
@@ -312,7 +333,7 @@ public class ComponentVillageApiarist extends StructureVillagePieces.Village imp
 		// metadata here is (1(spruce leaves) | 4(no decay))
 		map.put('l', new BlockEntry(Blocks.leaves, 1 | 4));
 
-		SchemaToVillage.drawSchema(this, world, random, box, apiaristInteriorSchema, map, 1, 1, 2);
+		apiaristInteriorCompiled.draw(this, world, random, box, map, 1, 1, 2);
 
 		// Place torches
 		this.placeBlockAtCurrentPosition(world, Blocks.torch, 0, 5, 3, 2, box);
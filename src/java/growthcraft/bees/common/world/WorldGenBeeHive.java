@@ -4,6 +4,7 @@ import java.util.Random;
 
 import growthcraft.bees.GrowthCraftBees;
 import growthcraft.bees.common.block.BlockBeeHive;
+import growthcraft.core.common.world.DecorationArea;
 
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
@@ -12,6 +13,15 @@ public class WorldGenBeeHive extends WorldGenerator
 {
 	//constants
 	private final int density = GrowthCraftBees.getConfig().beeWorldGenDensity;
+	private final DecorationArea area;
+
+	/**
+	 * @param pArea - hives outside of this area are skipped
+	 */
+	public WorldGenBeeHive(DecorationArea pArea)
+	{
+		this.area = pArea;
+	}
 
 	@Override
 	public boolean generate(World world, Random random, int x, int y, int z)
@@ -22,6 +32,8 @@ public class WorldGenBeeHive extends WorldGenerator
 			final int j = y + random.nextInt(4) - random.nextInt(4);
 			final int k = z + random.nextInt(8) - random.nextInt(8);
 
+			if (!area.contains(i, k, 0)) continue;
+
 			final BlockBeeHive beeHive = (BlockBeeHive)GrowthCraftBees.beeHive.getBlock();
 			if (world.isAirBlock(i, j, k) && beeHive.canBlockStay(world, i, j, k))
 			{
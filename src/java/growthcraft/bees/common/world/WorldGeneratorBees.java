@@ -3,6 +3,8 @@ package growthcraft.bees.common.world;
 import java.util.Random;
 
 import growthcraft.bees.GrowthCraftBees;
+import growthcraft.core.common.world.BiomeEligibility;
+import growthcraft.core.common.world.DecorationArea;
 import growthcraft.core.Utils;
 
 import cpw.mods.fml.common.IWorldGenerator;
@@ -14,8 +16,27 @@ import net.minecraftforge.common.BiomeDictionary.Type;
 
 public class WorldGeneratorBees implements IWorldGenerator
 {
+	static class BeeBiomes extends BiomeEligibility
+	{
+		private final boolean useBiomeDict = GrowthCraftBees.getConfig().useBiomeDict;
+		private final String biomesList = GrowthCraftBees.getConfig().beeBiomesList;
+
+		@Override
+		protected boolean isBiomeEligible(BiomeGenBase biome)
+		{
+			if (useBiomeDict)
+			{
+				return (BiomeDictionary.isBiomeOfType(biome, Type.FOREST) ||
+						BiomeDictionary.isBiomeOfType(biome, Type.PLAINS))
+						&& !BiomeDictionary.isBiomeOfType(biome, Type.SNOWY);
+			}
+			return Utils.isIDInList(biome.biomeID, biomesList);
+		}
+	}
+
 	//constants
 	//private final int rarity = 8;
+	private final BiomeEligibility biomes = new BeeBiomes();
 
 	@Override
 	public void generate(Random random, int chunkX, int chunkZ, World world, IChunkProvider chunkGenerator, IChunkProvider chunkProvider)
@@ -34,22 +55,9 @@ public class WorldGeneratorBees implements IWorldGenerator
 			final int j = random.nextInt(128);
 			final int k = chunkZ * 16 + random.nextInt(16) + 8;
 
-			boolean flag = true;
-			if (GrowthCraftBees.getConfig().useBiomeDict)
-			{
-				final BiomeGenBase biome = world.getBiomeGenForCoords(i, k);
-				flag = (BiomeDictionary.isBiomeOfType(biome, Type.FOREST) ||
-						BiomeDictionary.isBiomeOfType(biome, Type.PLAINS))
-						&& !BiomeDictionary.isBiomeOfType(biome, Type.SNOWY);
-			}
-			else
-			{
-				flag = Utils.isIDInList(world.getBiomeGenForCoords(i, k).biomeID, GrowthCraftBees.getConfig().beeBiomesList);
-			}
-
-			if (flag)
+			if (biomes.contains(world.getBiomeGenForCoords(i, k)))
 			{
-				new WorldGenBeeHive().generate(world, random, i, j, k);
+				new WorldGenBeeHive(new DecorationArea(chunkX, chunkZ)).generate(world, random, i, j, k);
 			}
 		}
 	}
@@ -7,6 +7,9 @@ public class GrcCellarConfig extends ConfigBase
 	@ConfigOption(catergory="Potions", name="Potion Tipsy ID")
 	public int potionTipsyID = 50;
 
+	@ConfigOption(catergory="Potions", name="Tipsy Effect Interval", desc="How often are nausea and blindness reapplied to very tipsy entities? (in ticks, at most 80)")
+	public int tipsyEffectInterval = 20;
+
 	@ConfigOption(catergory="Villager", name="Brewer ID")
 	public int villagerBrewerID = 10;
 
@@ -64,6 +67,9 @@ public class GrcCellarConfig extends ConfigBase
 	@ConfigOption(catergory="Heat Sources", name="Lava Heat", desc="How much heat does lava provide? (this is normally 0.0..1.0)")
 	public float lavaHeatValue = 0.7f;
 
+	@ConfigOption(catergory="Heat Sources", name="Heat Source Recheck Period", desc="Heated devices only look at their heat source when a neighbour block changes, how often (in ticks) should they check it anyway? This is needed for heat sources whose heat changes over time. (0 disables the recheck)")
+	public int heatSourceRecheckPeriod = 200;
+
 
 	@ConfigOption(catergory="Integration", name="Enable Waila Integration", desc="Should we integrate with Waila (if available)?")
 	public boolean enableWailaIntegration = true;
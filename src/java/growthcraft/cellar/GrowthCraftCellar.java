@@ -19,7 +19,7 @@ import growthcraft.cellar.common.CommonProxy;
 import growthcraft.cellar.common.item.ItemChievDummy;
 import growthcraft.cellar.common.item.ItemWaterBag;
 import growthcraft.cellar.common.item.ItemYeast;
-import growthcraft.cellar.common.potion.PotionCellar;
+import growthcraft.cellar.common.potion.PotionTipsy;
 import growthcraft.cellar.common.tileentity.TileEntityBrewKettle;
 import growthcraft.cellar.common.tileentity.TileEntityCultureJar;
 import growthcraft.cellar.common.tileentity.TileEntityFermentBarrel;
@@ -30,7 +30,7 @@ import growthcraft.cellar.common.village.VillageHandlerCellar;
 import growthcraft.cellar.creativetab.CreativeTabsCellar;
 import growthcraft.cellar.eventhandler.EventHandlerCauldronUseItem;
 import growthcraft.cellar.eventhandler.EventHandlerItemCraftedEventCellar;
-import growthcraft.cellar.eventhandler.EventHandlerLivingUpdateEventCellar;
+import growthcraft.cellar.eventhandler.EventHandlerServerTickTipsy;
 import growthcraft.cellar.handler.GuiHandlerCellar;
 import growthcraft.cellar.init.GrcCellarBlocks;
 import growthcraft.cellar.network.PacketPipeline;
@@ -40,6 +40,7 @@ import growthcraft.cellar.util.CellarBoozeBuilderFactory;
 import growthcraft.cellar.util.GrcCellarUserApis;
 import growthcraft.cellar.common.item.EnumYeast;
 import growthcraft.core.common.definition.ItemDefinition;
+import growthcraft.core.common.tileentity.GrcTileEntityBase;
 import growthcraft.core.integration.NEI;
 import growthcraft.core.util.MapGenHelper;
 
@@ -200,6 +201,10 @@ public class GrowthCraftCellar
 		GameRegistry.registerTileEntity(TileEntityBrewKettle.class, "grc.tileentity.brewKettle");
 		GameRegistry.registerTileEntity(TileEntityFermentBarrel.class, "grc.tileentity.fermentBarrel");
 		GameRegistry.registerTileEntity(TileEntityCultureJar.class, "grc.tileentity.fermentJar");
+		GrcTileEntityBase.registerHandlers(TileEntityFruitPress.class);
+		GrcTileEntityBase.registerHandlers(TileEntityBrewKettle.class);
+		GrcTileEntityBase.registerHandlers(TileEntityFermentBarrel.class);
+		GrcTileEntityBase.registerHandlers(TileEntityCultureJar.class);
 
 		MapGenHelper.registerVillageStructure(ComponentVillageTavern.class, "grc.tavern");
 
@@ -233,7 +238,7 @@ public class GrowthCraftCellar
 		// POTION
 		//====================
 		registerPotions();
-		potionTipsy = (new PotionCellar(config.potionTipsyID, false, 0)).setIconIndex(0, 0).setPotionName("grc.potion.tipsy");
+		potionTipsy = (new PotionTipsy(config.potionTipsyID, false, 0, config.tipsyEffectInterval)).setIconIndex(0, 0).setPotionName("grc.potion.tipsy");
 		EffectTipsy.potionTipsy = potionTipsy;
 		EffectTipsy.achievement = CellarAchievement.GET_DRUNK;
 
@@ -310,7 +315,7 @@ public class GrowthCraftCellar
 		userApis.loadConfigs();
 		packetPipeline.postInitialise();
 		FMLCommonHandler.instance().bus().register(new EventHandlerItemCraftedEventCellar());
-		MinecraftForge.EVENT_BUS.register(new EventHandlerLivingUpdateEventCellar());
+		FMLCommonHandler.instance().bus().register(new EventHandlerServerTickTipsy((PotionTipsy)potionTipsy));
 		MinecraftForge.EVENT_BUS.register(new EventHandlerCauldronUseItem());
 
 		modules.postInit();
@@ -8,6 +8,7 @@ import growthcraft.cellar.client.render.RenderFruitPresser;
 import growthcraft.cellar.client.render.item.ItemRenderCultureJar;
 import growthcraft.cellar.client.renderer.TileEntityCultureJarRenderer;
 import growthcraft.cellar.client.renderer.TileEntityFruitPresserRenderer;
+import growthcraft.cellar.client.resource.BoozeDescriptionReloadListener;
 import growthcraft.cellar.client.resource.GrcCellarResources;
 import growthcraft.cellar.common.CommonProxy;
 import growthcraft.cellar.common.tileentity.TileEntityCultureJar;
@@ -17,6 +18,8 @@ import growthcraft.cellar.GrowthCraftCellar;
 import cpw.mods.fml.client.registry.ClientRegistry;
 import cpw.mods.fml.client.registry.RenderingRegistry;
 import cpw.mods.fml.common.registry.VillagerRegistry;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.IReloadableResourceManager;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.client.MinecraftForgeClient;
 
@@ -44,6 +47,7 @@ public class ClientProxy extends CommonProxy
 	public void init()
 	{
 		new GrcCellarResources();
+		((IReloadableResourceManager)Minecraft.getMinecraft().getResourceManager()).registerReloadListener(new BoozeDescriptionReloadListener());
 
 		initRenders();
 		registerVillagerSkin();
@@ -132,6 +132,7 @@ public class BlockFruitPress extends BlockCellarContainer
 	@Override
 	public void onNeighborBlockChange(World world, int x, int y, int z, Block block)
 	{
+		super.onNeighborBlockChange(world, x, y, z, block);
 		if (!this.canBlockStay(world, x, y, z))
 		{
 			world.func_147480_a(x, y, z, true);
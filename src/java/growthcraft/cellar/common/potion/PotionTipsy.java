@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.cellar.common.potion;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.potion.Potion;
+import net.minecraft.potion.PotionEffect;
+import net.minecraft.util.MathHelper;
+
+/**
+ * Tipsy escalates into nausea (level 4+) and blindness (level 5), these are
+ * reapplied every few ticks from the tipsy effect's own update, so only
+ * entities that are actually tipsy do any work.
+ *
+ * performEffect is called by EntityLivingBase.updatePotionEffects while it
+ * is still iterating the entity's active effects, adding an effect there
+ * would modify that map mid iteration (ConcurrentModificationException).
+ * Instead the entity is queued here and the effects are added by
+ * applyPendingEffects, from the server tick handler once every world has
+ * finished updating its entities.
+ */
+public class PotionTipsy extends PotionCellar
+{
+	// the blindness applied lasts 100 ticks, it must be refreshed before it runs out
+	private static final int MAX_INTERVAL = 80;
+
+	private final int interval;
+	// entity => highest amplifier seen since the last applyPendingEffects, server thread only
+	private final Map<EntityLivingBase, Integer> pending = new HashMap<EntityLivingBase, Integer>();
+
+	public PotionTipsy(int pId, boolean pIsBad, int pColor, int pInterval)
+	{
+		super(pId, pIsBad, pColor);
+		this.interval = MathHelper.clamp_int(pInterval, 1, MAX_INTERVAL);
+	}
+
+	@Override
+	public boolean isReady(int duration, int amplifier)
+	{
+		return amplifier >= 3 && duration % interval == 0;
+	}
+
+	@Override
+	public void performEffect(EntityLivingBase entity, int amplifier)
+	{
+		if (entity.worldObj.isRemote) return;
+		if (amplifier >= 3)
+		{
+			final Integer existing = pending.get(entity);
+			if (existing == null || existing < amplifier)
+			{
+				pending.put(entity, amplifier);
+			}
+		}
+	}
+
+	/**
+	 * Adds the nausea and blindness queued by performEffect, must not be
+	 * called while any entity is updating its potion effects.
+	 */
+	public void applyPendingEffects()
+	{
+		if (pending.isEmpty()) return;
+		for (Map.Entry<EntityLivingBase, Integer> entry : pending.entrySet())
+		{
+			final EntityLivingBase entity = entry.getKey();
+			if (entity.isDead) continue;
+			entity.addPotionEffect(new PotionEffect(Potion.confusion.id, 200, 0));
+
+			if (entry.getValue() >= 4)
+			{
+				entity.addPotionEffect(new PotionEffect(Potion.blindness.id, 100, 0));
+			}
+		}
+		pending.clear();
+	}
+}
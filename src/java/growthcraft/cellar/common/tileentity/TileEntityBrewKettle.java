@@ -13,9 +13,12 @@ import growthcraft.cellar.GrowthCraftCellar;
 import growthcraft.core.common.inventory.GrcInternalInventory;
 import growthcraft.core.common.tileentity.event.EventHandler;
 import growthcraft.core.common.tileentity.ITileHeatedDevice;
+import growthcraft.core.common.tileentity.ITileNeighbourSensitive;
+import growthcraft.core.profiler.TickProfiler;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.block.Block;
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.ICrafting;
 import net.minecraft.item.ItemStack;
@@ -25,7 +28,7 @@ import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
-public class TileEntityBrewKettle extends TileEntityCellarDevice implements ITileHeatedDevice
+public class TileEntityBrewKettle extends TileEntityCellarDevice implements ITileHeatedDevice, ITileNeighbourSensitive
 {
 	public static enum BrewKettleDataID
 	{
@@ -79,7 +82,9 @@ public class TileEntityBrewKettle extends TileEntityCellarDevice implements ITil
 	@Override
 	protected void updateDevice()
 	{
+		final long start = TickProfiler.begin();
 		brewKettle.update();
+		TickProfiler.end(brewKettle.getClass(), "update", this, start);
 	}
 
 	@SideOnly(Side.CLIENT)
@@ -106,6 +111,12 @@ public class TileEntityBrewKettle extends TileEntityCellarDevice implements ITil
 		return brewKettle.getHeatMultiplier();
 	}
 
+	@Override
+	public void onNeighbourBlockChange(Block block)
+	{
+		brewKettle.invalidateHeatSource();
+	}
+
 	public boolean canBrew()
 	{
 		return brewKettle.canBrew();
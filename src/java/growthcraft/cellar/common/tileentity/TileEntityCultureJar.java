@@ -8,6 +8,7 @@ import growthcraft.cellar.common.tileentity.device.YeastGenerator;
 import growthcraft.cellar.GrowthCraftCellar;
 import growthcraft.core.common.inventory.GrcInternalInventory;
 import growthcraft.core.common.tileentity.event.EventHandler;
+import growthcraft.core.profiler.TickProfiler;
 
 import io.netty.buffer.ByteBuf;
 
@@ -118,7 +119,9 @@ public class TileEntityCultureJar extends TileEntityCellarDevice
 	@Override
 	protected void updateDevice()
 	{
+		final long start = TickProfiler.begin();
 		yeastGen.update();
+		TickProfiler.end(yeastGen.getClass(), "update", this, start);
 	}
 
 	@Override
@@ -6,6 +6,7 @@ import growthcraft.api.core.fluids.FluidUtils;
 import growthcraft.cellar.common.fluids.CellarTank;
 import growthcraft.cellar.GrowthCraftCellar;
 import growthcraft.core.common.inventory.GrcInternalInventory;
+import growthcraft.core.common.tileentity.device.DeviceRecipeCache;
 
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.ICrafting;
@@ -40,6 +41,7 @@ public class TileEntityFermentBarrel extends TileEntityCellarDevice
 	// Other Vars.
 	protected int time;
 	private int timemax = GrowthCraftCellar.getConfig().fermentTime;
+	private DeviceRecipeCache<FermentationRecipe> recipeCache = new DeviceRecipeCache<FermentationRecipe>(this);
 
 	@Override
 	protected FluidTank[] createTanks()
@@ -61,7 +63,11 @@ public class TileEntityFermentBarrel extends TileEntityCellarDevice
 
 	private FermentationRecipe getFermentation()
 	{
-		return CellarRegistry.instance().fermenting().getFermentationRecipe(getFluidStack(0), getStackInSlot(0));
+		if (recipeCache.isStale())
+		{
+			recipeCache.set(CellarRegistry.instance().fermenting().getFermentationRecipe(getFluidStack(0), getStackInSlot(0)));
+		}
+		return recipeCache.get();
 	}
 
 	public int getTime()
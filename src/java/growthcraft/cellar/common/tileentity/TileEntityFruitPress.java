@@ -5,6 +5,7 @@ import growthcraft.cellar.common.fluids.CellarTank;
 import growthcraft.cellar.common.tileentity.device.FruitPress;
 import growthcraft.cellar.GrowthCraftCellar;
 import growthcraft.core.common.inventory.GrcInternalInventory;
+import growthcraft.core.profiler.TickProfiler;
 
 import net.minecraft.inventory.Container;
 import net.minecraft.inventory.ICrafting;
@@ -58,7 +59,9 @@ public class TileEntityFruitPress extends TileEntityCellarDevice
 	@Override
 	protected void updateDevice()
 	{
+		final long start = TickProfiler.begin();
 		fruitPress.update();
+		TickProfiler.end(fruitPress.getClass(), "update", this, start);
 	}
 
 	@Override
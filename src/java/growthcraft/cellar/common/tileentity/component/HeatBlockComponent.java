@@ -25,6 +25,7 @@ package growthcraft.cellar.common.tileentity.component;
 
 import growthcraft.api.cellar.CellarRegistry;
 import growthcraft.api.cellar.heatsource.IHeatSourceBlock;
+import growthcraft.cellar.GrowthCraftCellar;
 
 import net.minecraft.block.Block;
 import net.minecraft.tileentity.TileEntity;
@@ -33,15 +34,46 @@ import net.minecraftforge.common.util.ForgeDirection;
 
 /**
  * Component for handling heat source blocks for a tile entity
+ *
+ * The heat source is only looked up again after invalidate() has been called
+ * (normally from a neighbour block change), or every recheckPeriod ticks
+ * to catch heat sources whose heat changes over time.
  */
 public class HeatBlockComponent
 {
 	private TileEntity tileEntity;
 	private ForgeDirection sourceDir = ForgeDirection.DOWN;
+	private boolean dirty = true;
+	private IHeatSourceBlock heatSource;
+	private float heat;
+	private int recheckPeriod;
+	private int recheckTimer;
 
-	public HeatBlockComponent(TileEntity te)
+	public HeatBlockComponent(TileEntity te, int period)
 	{
 		this.tileEntity = te;
+		this.recheckPeriod = period;
+	}
+
+	public HeatBlockComponent(TileEntity te)
+	{
+		this(te, GrowthCraftCellar.getConfig().heatSourceRecheckPeriod);
+	}
+
+	/**
+	 * @param period - how often the heat source should be checked, 0 to only check when invalidated
+	 */
+	public void setRecheckPeriod(int period)
+	{
+		this.recheckPeriod = period;
+	}
+
+	/**
+	 * Forces the heat source to be looked up again on the next call to getHeatMultiplier
+	 */
+	public void invalidate()
+	{
+		this.dirty = true;
 	}
 
 	private World getWorld()
@@ -49,7 +81,7 @@ public class HeatBlockComponent
 		return tileEntity.getWorldObj();
 	}
 
-	public float getHeatMultiplier()
+	private void refreshHeat()
 	{
 		final int x = tileEntity.xCoord + sourceDir.offsetX;
 		final int y = tileEntity.yCoord + sourceDir.offsetY;
@@ -58,9 +90,36 @@ public class HeatBlockComponent
 		final Block block = getWorld().getBlock(x, y, z);
 		final int meta = getWorld().getBlockMetadata(x, y, z);
 
-		final IHeatSourceBlock heatSource = CellarRegistry.instance().heatSource().getHeatSource(block, meta);
+		this.heatSource = CellarRegistry.instance().heatSource().getHeatSource(block, meta);
+
+		if (heatSource != null)
+		{
+			this.heat = heatSource.getHeat(getWorld(), x, y, z);
+		}
+		else
+		{
+			this.heat = 0.0f;
+		}
+	}
+
+	public IHeatSourceBlock getHeatSource()
+	{
+		return heatSource;
+	}
 
-		if (heatSource != null) return heatSource.getHeat(getWorld(), x, y, z);
-		return 0.0f;
+	public float getHeatMultiplier()
+	{
+		if (recheckPeriod > 0)
+		{
+			this.recheckTimer++;
+			if (recheckTimer >= recheckPeriod) this.dirty = true;
+		}
+		if (dirty)
+		{
+			this.dirty = false;
+			this.recheckTimer = 0;
+			refreshHeat();
+		}
+		return heat;
 	}
 }
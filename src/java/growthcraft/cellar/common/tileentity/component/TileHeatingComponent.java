@@ -46,6 +46,14 @@ public class TileHeatingComponent implements INBTSerializableContext, IStreamabl
 		this.heatBlockComponent = new HeatBlockComponent(tileEntity);
 	}
 
+	/**
+	 * Call this when the block providing heat may have changed
+	 */
+	public void invalidateHeatSource()
+	{
+		heatBlockComponent.invalidate();
+	}
+
 	public void update()
 	{
 		final float heatMul = heatBlockComponent.getHeatMultiplier();
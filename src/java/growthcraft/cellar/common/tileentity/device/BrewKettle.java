@@ -33,6 +33,7 @@ import growthcraft.cellar.common.tileentity.TileEntityCellarDevice;
 import growthcraft.core.common.tileentity.device.DeviceBase;
 import growthcraft.core.common.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.common.tileentity.device.DeviceInventorySlot;
+import growthcraft.core.common.tileentity.device.DeviceRecipeCache;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -48,6 +49,7 @@ public class BrewKettle extends DeviceBase
 	private DeviceFluidSlot inputFluidSlot;
 	private DeviceFluidSlot outputFluidSlot;
 	private TileHeatingComponent heatComponent;
+	private DeviceRecipeCache<BrewingRecipe> recipeCache;
 
 	public BrewKettle(TileEntityCellarDevice te, int brewSlotId, int residueSlotId, int inputFluidSlotId, int outputFluidSlotId)
 	{
@@ -57,6 +59,7 @@ public class BrewKettle extends DeviceBase
 		this.inputFluidSlot = new DeviceFluidSlot(te, inputFluidSlotId);
 		this.outputFluidSlot = new DeviceFluidSlot(te, outputFluidSlotId);
 		this.heatComponent = new TileHeatingComponent(te);
+		this.recipeCache = new DeviceRecipeCache<BrewingRecipe>(te);
 	}
 
 	public void setGrain(float g)
@@ -105,6 +108,11 @@ public class BrewKettle extends DeviceBase
 		return heatComponent.getHeatMultiplier();
 	}
 
+	public void invalidateHeatSource()
+	{
+		heatComponent.invalidateHeatSource();
+	}
+
 	public boolean isHeated()
 	{
 		return getHeatMultiplier() > 0;
@@ -112,7 +120,11 @@ public class BrewKettle extends DeviceBase
 
 	private BrewingRecipe getBrewingRecipe()
 	{
-		return CellarRegistry.instance().brewing().getBrewingRecipe(inputFluidSlot.get(), brewingSlot.get());
+		if (recipeCache.isStale())
+		{
+			recipeCache.set(CellarRegistry.instance().brewing().getBrewingRecipe(inputFluidSlot.get(), brewingSlot.get()));
+		}
+		return recipeCache.get();
 	}
 
 	public BrewingRecipe getWorkingRecipe()
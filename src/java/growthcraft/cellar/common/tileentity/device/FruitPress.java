@@ -30,6 +30,7 @@ import growthcraft.cellar.common.tileentity.TileEntityCellarDevice;
 import growthcraft.core.common.tileentity.device.DeviceFluidSlot;
 import growthcraft.core.common.tileentity.device.DeviceInventorySlot;
 import growthcraft.core.common.tileentity.device.DeviceProgressive;
+import growthcraft.core.common.tileentity.device.DeviceRecipeCache;
 import growthcraft.core.util.ItemUtils;
 
 import net.minecraft.item.ItemStack;
@@ -43,6 +44,7 @@ public class FruitPress extends DeviceProgressive
 	private DeviceInventorySlot inputSlot;
 	private DeviceInventorySlot residueSlot;
 	private PressingRecipe currentResult;
+	private DeviceRecipeCache<PressingRecipe> recipeCache;
 
 	/**
 	 * @param te - parent tile
@@ -56,6 +58,7 @@ public class FruitPress extends DeviceProgressive
 		this.fluidSlot = new DeviceFluidSlot(te, fs);
 		this.inputSlot = new DeviceInventorySlot(te, is);
 		this.residueSlot = new DeviceInventorySlot(te, rs);
+		this.recipeCache = new DeviceRecipeCache<PressingRecipe>(te);
 	}
 
 	/**
@@ -77,7 +80,11 @@ public class FruitPress extends DeviceProgressive
 
 		if (fluidSlot.isFull()) return false;
 
-		final PressingRecipe result = CellarRegistry.instance().pressing().getPressingRecipe(primarySlotItem);
+		if (recipeCache.isStale())
+		{
+			recipeCache.set(CellarRegistry.instance().pressing().getPressingRecipe(primarySlotItem));
+		}
+		final PressingRecipe result = recipeCache.get();
 		if (result == null) return false;
 		if (!inputSlot.hasEnough(result.getInput())) return false;
 		this.currentResult = result;
@@ -23,6 +23,8 @@
  */
 package growthcraft.cellar.util;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 import growthcraft.api.cellar.booze.BoozeEffect;
@@ -39,8 +41,69 @@ import net.minecraftforge.fluids.Fluid;
 
 public class BoozeUtils
 {
+	static class DescriptionMap extends HashMap<Fluid, List<String>>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	// finished tooltip lines per booze, for the active language
+	private static final DescriptionMap INFORMATION_CACHE = new DescriptionMap();
+	private static final DescriptionMap EFFECT_INFORMATION_CACHE = new DescriptionMap();
+	private static int cachedRevision = -1;
+
 	private BoozeUtils() {}
 
+	/**
+	 * Drops the cached tooltip lines, call this when the translations change
+	 * (resource reload or language change).
+	 */
+	public static void invalidateDescriptions()
+	{
+		INFORMATION_CACHE.clear();
+		EFFECT_INFORMATION_CACHE.clear();
+	}
+
+	private static void buildInformation(Fluid booze, List<String> lines)
+	{
+		final String s = UnitFormatter.fluidModifier(booze);
+		if (s != null) lines.add(s);
+		Describer.getDescription(lines, booze);
+	}
+
+	private static void buildEffectInformation(Fluid booze, List<String> lines)
+	{
+		final BoozeEffect effect = CellarRegistry.instance().booze().getEffect(booze);
+		if (effect != null)
+		{
+			effect.getDescription(lines);
+		}
+	}
+
+	private static List<String> getCachedLines(DescriptionMap cache, Fluid booze, boolean effects)
+	{
+		final int revision = CellarRegistry.instance().booze().getRevision();
+		if (revision != cachedRevision)
+		{
+			invalidateDescriptions();
+			cachedRevision = revision;
+		}
+		List<String> lines = cache.get(booze);
+		if (lines == null)
+		{
+			lines = new ArrayList<String>();
+			if (effects)
+			{
+				buildEffectInformation(booze, lines);
+			}
+			else
+			{
+				buildInformation(booze, lines);
+			}
+			cache.put(booze, lines);
+		}
+		return lines;
+	}
+
 	public static float alcoholToTipsy(float alcoholRate)
 	{
 		return alcoholRate * 4;
@@ -66,20 +129,14 @@ public class BoozeUtils
 	public static void addInformation(Fluid booze, ItemStack stack, EntityPlayer player, List list, boolean bool)
 	{
 		if (booze == null) return;
-		final String s = UnitFormatter.fluidModifier(booze);
-		if (s != null) list.add(s);
-		Describer.getDescription((List<String>)list, booze);
+		list.addAll(getCachedLines(INFORMATION_CACHE, booze, false));
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public static void addEffectInformation(Fluid booze, ItemStack stack, EntityPlayer player, List list, boolean bool)
 	{
 		if (booze == null) return;
-		final BoozeEffect effect = CellarRegistry.instance().booze().getEffect(booze);
-		if (effect != null)
-		{
-			effect.getDescription((List<String>)list);
-		}
+		list.addAll(getCachedLines(EFFECT_INFORMATION_CACHE, booze, true));
 	}
 
 	@SuppressWarnings({"rawtypes", "unchecked"})
@@ -5,6 +5,21 @@ public class GrcCoreConfig extends ConfigBase
 	@ConfigOption(catergory="Minecraft/Debug", name="Enable Game Registry Dump", desc="Should Growthcraft dump the GameRegistry and FluidRegistry to text files?")
 	public boolean dumpGameRegistry;
 
+	@ConfigOption(catergory="Debug/Profiler", name="Enable Tick Profiler", desc="Should Growthcraft time its tile entities from startup? (can also be started with /grcprofile start)")
+	public boolean tickProfilerEnabled;
+
+	@ConfigOption(catergory="Debug/Profiler", name="Dump Interval", desc="How many ticks between tick profiler reports in the log? (0 disables the reports)")
+	public int tickProfilerDumpInterval = 6000;
+
+	@ConfigOption(catergory="Debug/Profiler", name="Report Size", desc="How many entries should a tick profiler report list?")
+	public int tickProfilerReportSize = 10;
+
+	@ConfigOption(catergory="Debug/Logging", name="Async Logging", desc="Should Growthcraft write its log messages from a background thread?")
+	public boolean asyncLogging;
+
+	@ConfigOption(catergory="Debug/Logging", name="Async Log Buffer Size", desc="How many log messages may be waiting to be written before logging waits for the writer?")
+	public int asyncLogBufferSize = 4096;
+
 	// In case you don't have a wrench you can enable the amazing stick.
 	@ConfigOption(name="Use Amazing Stick", desc="So, I heard you didn't have a wrench, we got you covered")
 	public boolean useAmazingStick;
@@ -22,6 +37,23 @@ public class GrcCoreConfig extends ConfigBase
 	public boolean hidePoisonedBooze = true;
 
 
+	@ConfigOption(catergory="Crops", name="Cache Growth Rates", desc="Should crop growth rates be cached and only recomputed when a block near the crop changes?")
+	public boolean cropEnvironmentCache = true;
+
+	@ConfigOption(catergory="Crops", name="Growth Rate Max Age", desc="How many ticks may a cached growth rate be used for before it is recomputed anyway?")
+	public int cropEnvironmentMaxAge = 1200;
+
+	@ConfigOption(catergory="Crops", name="Catch Up Growth", desc="Should crops in a chunk that was unloaded grow by the time they missed when it is loaded again?")
+	public boolean cropCatchUp;
+
+	@ConfigOption(catergory="Crops", name="Catch Up Max Ticks", desc="Most unloaded ticks a chunk's crops will catch up on (168000 is 7 days)")
+	public int cropCatchUpMaxTicks = 168000;
+
+
+	@ConfigOption(catergory="Network", name="Tile Delta Sync", desc="Should tile entities only send the parts of their state that changed to players already watching them?")
+	public boolean tileDeltaSync = true;
+
+
 	@ConfigOption(catergory="Integration", name="Enable Apple Core Integration", desc="Should we integrate with Apple Core (if available)?")
 	public boolean enableAppleCoreIntegration = true;
 
@@ -3,31 +3,42 @@ package growthcraft.core;
 import growthcraft.api.core.CoreRegistry;
 import growthcraft.api.core.fluids.user.UserFluidDictionaryConfig;
 import growthcraft.api.core.item.ItemKey;
+import growthcraft.api.core.log.AsyncLogSink;
 import growthcraft.api.core.log.GrcLogger;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.module.ModuleContainer;
 import growthcraft.api.core.schema.BlockKeySchema;
 import growthcraft.api.core.vines.user.UserVinesConfig;
+import growthcraft.core.command.CommandTickProfiler;
 import growthcraft.core.common.AchievementPageGrowthcraft;
 import growthcraft.core.common.CommonProxy;
 import growthcraft.core.common.item.crafting.ShapelessItemComparableRecipe;
+import growthcraft.core.common.world.CropCatchUp;
+import growthcraft.core.common.world.CropEnvironment;
 import growthcraft.core.creativetab.CreativeTabsGrowthcraft;
+import growthcraft.core.eventhandler.ChunkDataEventCropCatchUp;
 import growthcraft.core.eventhandler.EventHandlerBucketFill;
 import growthcraft.core.eventhandler.EventHandlerSpecialBucketFill;
 import growthcraft.core.eventhandler.HarvestDropsEventCore;
 import growthcraft.core.eventhandler.PlayerInteractEventAmazingStick;
 import growthcraft.core.eventhandler.PlayerInteractEventPaddy;
+import growthcraft.core.eventhandler.ServerTickEventProfiler;
 import growthcraft.core.eventhandler.TextureStitchEventCore;
+import growthcraft.core.eventhandler.WorldEventCropEnvironment;
 import growthcraft.core.init.GrcCoreBlocks;
 import growthcraft.core.init.GrcCoreFluids;
 import growthcraft.core.init.GrcCoreItems;
 import growthcraft.core.init.GrcCoreRecipes;
 import growthcraft.core.integration.bop.BopPlatform;
+import growthcraft.core.network.GuiPropertyChannel;
+import growthcraft.core.profiler.TickProfiler;
 import growthcraft.core.util.ItemUtils;
 
 import cpw.mods.fml.common.event.FMLInitializationEvent;
 import cpw.mods.fml.common.event.FMLPostInitializationEvent;
 import cpw.mods.fml.common.event.FMLPreInitializationEvent;
+import cpw.mods.fml.common.event.FMLServerStartingEvent;
+import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.Mod.EventHandler;
 import cpw.mods.fml.common.Mod.Instance;
 import cpw.mods.fml.common.Mod;
@@ -70,6 +81,7 @@ public class GrowthCraftCore
 	public static final GrcCoreItems items = new GrcCoreItems();
 	public static final GrcCoreFluids fluids = new GrcCoreFluids();
 	public static final GrcCoreRecipes recipes = new GrcCoreRecipes();
+	public static final GuiPropertyChannel guiPropertyChannel = new GuiPropertyChannel();
 
 	// Constants
 	public static ItemStack EMPTY_BOTTLE;
@@ -95,6 +107,7 @@ public class GrowthCraftCore
 	{
 		config.setLogger(logger);
 		config.load(event.getModConfigurationDirectory(), "growthcraft/core.conf");
+		if (config.asyncLogging) GrcLogger.setSink(new AsyncLogSink(config.asyncLogBufferSize).start());
 		if (config.debugEnabled) logger.info("Pre-Initializing %s", MOD_ID);
 
 		modules.add(blocks);
@@ -138,6 +151,7 @@ public class GrowthCraftCore
 	public void load(FMLInitializationEvent event)
 	{
 		userFluidDictionary.loadUserConfig();
+		guiPropertyChannel.register();
 		CommonProxy.instance.initRenders();
 		AchievementPageGrowthcraft.init();
 
@@ -160,12 +174,36 @@ public class GrowthCraftCore
 		MinecraftForge.EVENT_BUS.register(EventHandlerSpecialBucketFill.instance());
 		MinecraftForge.EVENT_BUS.register(new HarvestDropsEventCore());
 		MinecraftForge.EVENT_BUS.register(new PlayerInteractEventPaddy());
+		CropEnvironment.instance().setEnabled(config.cropEnvironmentCache);
+		CropEnvironment.instance().setMaxAge(config.cropEnvironmentMaxAge);
+		if (config.cropEnvironmentCache)
+		{
+			MinecraftForge.EVENT_BUS.register(new WorldEventCropEnvironment());
+		}
+		if (config.cropCatchUp)
+		{
+			CropCatchUp.instance().setMaxTicks(config.cropCatchUpMaxTicks);
+			final ChunkDataEventCropCatchUp cropCatchUpHandler = new ChunkDataEventCropCatchUp();
+			MinecraftForge.EVENT_BUS.register(cropCatchUpHandler);
+			FMLCommonHandler.instance().bus().register(cropCatchUpHandler);
+		}
 		if (config.useAmazingStick)
 		{
 			MinecraftForge.EVENT_BUS.register(new PlayerInteractEventAmazingStick());
 		}
 
+		TickProfiler.setEnabled(config.tickProfilerEnabled);
+		FMLCommonHandler.instance().bus().register(new ServerTickEventProfiler(config.tickProfilerDumpInterval, config.tickProfilerReportSize));
+
 		modules.postInit();
 		if (config.dumpGameRegistry) growthcraft.core.util.GameRegistryDumper.run();
 	}
+
+	@EventHandler
+	public void serverStarting(FMLServerStartingEvent event)
+	{
+		event.registerServerCommand(new CommandTickProfiler());
+		// the world's block ids are known by now, the vine index is keyed by them
+		CoreRegistry.instance().vineDrops().invalidate();
+	}
 }
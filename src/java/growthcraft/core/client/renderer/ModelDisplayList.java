@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.client.renderer;
+
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.renderer.GLAllocation;
+import org.lwjgl.opengl.GL11;
+
+/**
+ * Records the static geometry of a model once and replays it with a single
+ * glCallList afterwards.
+ *
+ * Usage:
+ *   if (list.begin())
+ *   {
+ *     drawStaticParts();
+ *     list.end();
+ *   }
+ *
+ * The first draw is not recorded, ModelRenderers compile their own display
+ * lists on their first render and lists cannot be compiled while another
+ * one is being recorded.
+ */
+@SideOnly(Side.CLIENT)
+public class ModelDisplayList
+{
+	private static enum State
+	{
+		NEW,
+		WARM,
+		RECORDING,
+		COMPILED;
+	}
+
+	private State state = State.NEW;
+	private int listId;
+
+	/**
+	 * @return true, if the caller has to draw the geometry and call end, false if it was replayed
+	 */
+	public boolean begin()
+	{
+		switch (state)
+		{
+			case COMPILED:
+				GL11.glCallList(listId);
+				return false;
+			case WARM:
+				this.listId = GLAllocation.generateDisplayLists(1);
+				GL11.glNewList(listId, GL11.GL_COMPILE_AND_EXECUTE);
+				this.state = State.RECORDING;
+				return true;
+			default:
+				this.state = State.WARM;
+				return true;
+		}
+	}
+
+	public void end()
+	{
+		if (state == State.RECORDING)
+		{
+			GL11.glEndList();
+			this.state = State.COMPILED;
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package growthcraft.core.client.renderer;
 
 import growthcraft.core.common.block.BlockFenceRope;
+import growthcraft.core.util.ConnectionMask;
 import growthcraft.core.util.RenderUtils;
 
 import cpw.mods.fml.client.registry.ISimpleBlockRenderingHandler;
@@ -248,10 +249,11 @@ public class RenderFenceRope implements ISimpleBlockRenderingHandler
 
 			// Branches
 
-			final boolean flag = ((BlockFenceRope)block).canConnectRopeTo(world, x, y, z - 1);
-			final boolean flag1 = ((BlockFenceRope)block).canConnectRopeTo(world, x, y, z + 1);
-			final boolean flag2 = ((BlockFenceRope)block).canConnectRopeTo(world, x - 1, y, z);
-			final boolean flag3 = ((BlockFenceRope)block).canConnectRopeTo(world, x + 1, y, z);
+			final int mask = fenceRope.getConnectionMask(world, x, y, z);
+			final boolean flag = ConnectionMask.has(mask, ConnectionMask.NORTH);
+			final boolean flag1 = ConnectionMask.has(mask, ConnectionMask.SOUTH);
+			final boolean flag2 = ConnectionMask.has(mask, ConnectionMask.WEST);
+			final boolean flag3 = ConnectionMask.has(mask, ConnectionMask.EAST);
 
 			minV = (double)icon.getInterpolatedV(14);
 			maxV = (double)icon.getMaxV();
@@ -1,5 +1,6 @@
 package growthcraft.core.client.renderer;
 
+import growthcraft.core.util.ConnectionMask;
 import growthcraft.core.util.RenderUtils;
 import growthcraft.core.common.block.BlockRope;
 
@@ -30,12 +31,13 @@ public class RenderRope implements ISimpleBlockRenderingHandler
 			tessellator.setColorOpaque_F(1.0F, 1.0F, 1.0F);
 			final IIcon icon = blockRope.getIconByIndex(0);
 
-			final boolean flag = ((BlockRope)block).canConnectRopeTo(world, x, y, z - 1);
-			final boolean flag1 = ((BlockRope)block).canConnectRopeTo(world, x, y, z + 1);
-			final boolean flag2 = ((BlockRope)block).canConnectRopeTo(world, x - 1, y, z);
-			final boolean flag3 = ((BlockRope)block).canConnectRopeTo(world, x + 1, y, z);
-			final boolean flag4 = ((BlockRope)block).canConnectRopeTo(world, x, y - 1, z);
-			final boolean flag5 = ((BlockRope)block).canConnectRopeTo(world, x, y + 1, z);
+			final int mask = blockRope.getConnectionMask(world, x, y, z);
+			final boolean flag = ConnectionMask.has(mask, ConnectionMask.NORTH);
+			final boolean flag1 = ConnectionMask.has(mask, ConnectionMask.SOUTH);
+			final boolean flag2 = ConnectionMask.has(mask, ConnectionMask.WEST);
+			final boolean flag3 = ConnectionMask.has(mask, ConnectionMask.EAST);
+			final boolean flag4 = ConnectionMask.has(mask, ConnectionMask.DOWN);
+			final boolean flag5 = ConnectionMask.has(mask, ConnectionMask.UP);
 
 			double minX;
 			double maxX;
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.command;
+
+import java.util.List;
+
+import growthcraft.core.profiler.TickProfiler;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+
+/**
+ * /grcprofile start|stop|reset|report [count]
+ */
+public class CommandTickProfiler extends CommandBase
+{
+	private static final String[] SUBCOMMANDS = new String[] { "start", "stop", "reset", "report" };
+
+	@Override
+	public String getCommandName()
+	{
+		return "grcprofile";
+	}
+
+	@Override
+	public String getCommandUsage(ICommandSender sender)
+	{
+		return "/grcprofile <start|stop|reset|report> [count]";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel()
+	{
+		return 2;
+	}
+
+	private void send(ICommandSender sender, String msg)
+	{
+		sender.addChatMessage(new ChatComponentText(msg));
+	}
+
+	@Override
+	public void processCommand(ICommandSender sender, String[] args)
+	{
+		if (args.length < 1) throw new WrongUsageException(getCommandUsage(sender));
+
+		if ("start".equals(args[0]))
+		{
+			TickProfiler.reset();
+			TickProfiler.setEnabled(true);
+			send(sender, "Growthcraft tick profiler started");
+		}
+		else if ("stop".equals(args[0]))
+		{
+			TickProfiler.setEnabled(false);
+			send(sender, "Growthcraft tick profiler stopped");
+		}
+		else if ("reset".equals(args[0]))
+		{
+			TickProfiler.reset();
+			send(sender, "Growthcraft tick profiler reset");
+		}
+		else if ("report".equals(args[0]))
+		{
+			final int count = args.length > 1 ? parseIntBounded(sender, args[1], 1, 100) : 10;
+			for (String line : TickProfiler.report(count))
+			{
+				send(sender, line);
+			}
+		}
+		else
+		{
+			throw new WrongUsageException(getCommandUsage(sender));
+		}
+	}
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public List addTabCompletionOptions(ICommandSender sender, String[] args)
+	{
+		if (args.length == 1) return getListOfStringsMatchingLastWord(args, SUBCOMMANDS);
+		return null;
+	}
+}
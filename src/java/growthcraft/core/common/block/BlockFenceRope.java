@@ -8,6 +8,7 @@ import growthcraft.api.core.util.BlockFlags;
 import growthcraft.api.core.util.BlockKey;
 import growthcraft.core.client.renderer.RenderFenceRope;
 import growthcraft.core.GrowthCraftCore;
+import growthcraft.core.util.ConnectionMask;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -24,6 +25,38 @@ import net.minecraft.world.World;
 
 public class BlockFenceRope extends Block implements IBlockRope
 {
+	private static final float[][] BOUNDS = new float[ConnectionMask.SIZE][];
+	private static final float[][][] COLLISION_BOXES = new float[ConnectionMask.SIZE][][];
+
+	static
+	{
+		for (int mask = 0; mask < ConnectionMask.SIZE; ++mask)
+		{
+			final boolean north = ConnectionMask.has(mask, ConnectionMask.NORTH);
+			final boolean south = ConnectionMask.has(mask, ConnectionMask.SOUTH);
+			final boolean west = ConnectionMask.has(mask, ConnectionMask.WEST);
+			final boolean east = ConnectionMask.has(mask, ConnectionMask.EAST);
+			final float minX = west ? 0.0F : 0.375F;
+			final float maxX = east ? 1.0F : 0.625F;
+			final float minZ = north ? 0.0F : 0.375F;
+			final float maxZ = south ? 1.0F : 0.625F;
+
+			BOUNDS[mask] = ConnectionMask.box(minX, 0.0F, minZ, maxX, 1.0F, maxZ);
+
+			final List<float[]> boxes = new ArrayList<float[]>();
+			if (north || south)
+			{
+				boxes.add(ConnectionMask.box(0.375F, 0.4375F, minZ, 0.625F, 0.5625F, maxZ));
+			}
+			// a lone fence rope still gets a collision box along the x axis
+			if (west || east || !north && !south)
+			{
+				boxes.add(ConnectionMask.box(minX, 0.4375F, 0.375F, maxX, 0.5625F, 0.625F));
+			}
+			COLLISION_BOXES[mask] = boxes.toArray(new float[boxes.size()][]);
+		}
+	}
+
 	@SideOnly(Side.CLIENT)
 	private IIcon[] icons;
 
@@ -117,100 +150,37 @@ public class BlockFenceRope extends Block implements IBlockRope
 		return ret;
 	}
 
-	@Override
-	public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
+	/**
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @return mask of the horizontal sides the rope connects to
+	 */
+	public int getConnectionMask(IBlockAccess world, int x, int y, int z)
 	{
-		final boolean flag = this.canConnectRopeTo(world, x, y, z - 1);
-		final boolean flag1 = this.canConnectRopeTo(world, x, y, z + 1);
-		final boolean flag2 = this.canConnectRopeTo(world, x - 1, y, z);
-		final boolean flag3 = this.canConnectRopeTo(world, x + 1, y, z);
-		float f = 0.375F;
-		float f1 = 0.625F;
-		float f2 = 0.375F;
-		float f3 = 0.625F;
-
-		if (flag)
-		{
-			f2 = 0.0F;
-		}
-
-		if (flag1)
-		{
-			f3 = 1.0F;
-		}
-
-		if (flag2)
-		{
-			f = 0.0F;
-		}
+		return ConnectionMask.getRopeMask(this, world, x, y, z, ConnectionMask.HORIZONTAL);
+	}
 
-		if (flag3)
-		{
-			f1 = 1.0F;
-		}
+	private void setBlockBoundsForMask(int mask)
+	{
+		final float[] b = BOUNDS[mask];
+		this.setBlockBounds(b[0], b[1], b[2], b[3], b[4], b[5]);
+	}
 
-		this.setBlockBounds(f, 0.0F, f2, f1, 1.0F, f3);
+	@Override
+	public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
+	{
+		setBlockBoundsForMask(getConnectionMask(world, x, y, z));
 	}
 
 	@Override
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB aabb, List list, Entity entity)
 	{
-		final boolean flag = this.canConnectRopeTo(world, x, y, z - 1);
-		final boolean flag1 = this.canConnectRopeTo(world, x, y, z + 1);
-		final boolean flag2 = this.canConnectRopeTo(world, x - 1, y, z);
-		final boolean flag3 = this.canConnectRopeTo(world, x + 1, y, z);
-		float f = 0.375F;
-		float f1 = 0.625F;
-		float f2 = 0.375F;
-		float f3 = 0.625F;
-
-		if (flag)
-		{
-			f2 = 0.0F;
-		}
-
-		if (flag1)
-		{
-			f3 = 1.0F;
-		}
-
-		if (flag || flag1)
-		{
-			this.setBlockBounds(f, 0.4375F, f2, f1, 0.5625F, f3);
-			super.addCollisionBoxesToList(world, x, y, z, aabb, list, entity);
-		}
-
-		f2 = 0.375F;
-		f3 = 0.625F;
-
-		if (flag2)
-		{
-			f = 0.0F;
-		}
-
-		if (flag3)
-		{
-			f1 = 1.0F;
-		}
-
-		if (flag2 || flag3 || !flag && !flag1)
-		{
-			this.setBlockBounds(f, 0.4375F, f2, f1, 0.5625F, f3);
-			super.addCollisionBoxesToList(world, x, y, z, aabb, list, entity);
-		}
-
-		if (flag)
-		{
-			f2 = 0.0F;
-		}
-
-		if (flag1)
-		{
-			f3 = 1.0F;
-		}
-
-		this.setBlockBoundsBasedOnState(world, x, y, z);
+		final int mask = getConnectionMask(world, x, y, z);
+		ConnectionMask.addCollisionBoxes(COLLISION_BOXES[mask], x, y, z, aabb, list);
+		setBlockBoundsForMask(mask);
 	}
 
 	@Override
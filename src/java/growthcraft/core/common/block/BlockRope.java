@@ -1,10 +1,12 @@
 package growthcraft.core.common.block;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 import growthcraft.core.GrowthCraftCore;
 import growthcraft.core.client.renderer.RenderRope;
+import growthcraft.core.util.ConnectionMask;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -20,6 +22,39 @@ import net.minecraft.world.World;
 
 public class BlockRope extends Block implements IBlockRope
 {
+	private static final float[][] BOUNDS = new float[ConnectionMask.SIZE][];
+	private static final float[][][] COLLISION_BOXES = new float[ConnectionMask.SIZE][][];
+
+	static
+	{
+		for (int mask = 0; mask < ConnectionMask.SIZE; ++mask)
+		{
+			final float minX = ConnectionMask.has(mask, ConnectionMask.WEST) ? 0.0F : 0.4375F;
+			final float maxX = ConnectionMask.has(mask, ConnectionMask.EAST) ? 1.0F : 0.5625F;
+			final float minY = ConnectionMask.has(mask, ConnectionMask.DOWN) ? 0.0F : 0.4375F;
+			final float maxY = ConnectionMask.has(mask, ConnectionMask.UP) ? 1.0F : 0.5625F;
+			final float minZ = ConnectionMask.has(mask, ConnectionMask.NORTH) ? 0.0F : 0.4375F;
+			final float maxZ = ConnectionMask.has(mask, ConnectionMask.SOUTH) ? 1.0F : 0.5625F;
+
+			BOUNDS[mask] = ConnectionMask.box(minX, minY, minZ, maxX, maxY, maxZ);
+
+			final List<float[]> boxes = new ArrayList<float[]>();
+			if (ConnectionMask.has(mask, ConnectionMask.NORTH | ConnectionMask.SOUTH))
+			{
+				boxes.add(ConnectionMask.box(0.4375F, 0.4375F, minZ, 0.5625F, 0.5625F, maxZ));
+			}
+			if (ConnectionMask.has(mask, ConnectionMask.WEST | ConnectionMask.EAST))
+			{
+				boxes.add(ConnectionMask.box(minX, 0.4375F, 0.4375F, maxX, 0.5625F, 0.5625F));
+			}
+			if (ConnectionMask.has(mask, ConnectionMask.DOWN | ConnectionMask.UP))
+			{
+				boxes.add(ConnectionMask.box(0.4375F, minY, 0.4375F, 0.5625F, maxY, 0.5625F));
+			}
+			COLLISION_BOXES[mask] = boxes.toArray(new float[boxes.size()][]);
+		}
+	}
+
 	@SideOnly(Side.CLIENT)
 	private IIcon[] icons;
 
@@ -56,13 +91,7 @@ public class BlockRope extends Block implements IBlockRope
 	@Override
 	public boolean canPlaceBlockAt(World world, int x, int y, int z)
 	{
-		if (this.canConnectRopeTo(world, x, y, z - 1)) return true;
-		if (this.canConnectRopeTo(world, x, y, z + 1)) return true;
-		if (this.canConnectRopeTo(world, x - 1, y, z)) return true;
-		if (this.canConnectRopeTo(world, x + 1, y, z)) return true;
-		if (this.canConnectRopeTo(world, x, y - 1, z)) return true;
-		if (this.canConnectRopeTo(world, x, y + 1, z)) return true;
-		return false;
+		return getConnectionMask(world, x, y, z) != 0;
 	}
 
 	@Override
@@ -159,127 +188,36 @@ public class BlockRope extends Block implements IBlockRope
 	/************
 	 * BOXES
 	 ************/
+	/**
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @return mask of the sides the rope connects to
+	 */
+	public int getConnectionMask(IBlockAccess world, int x, int y, int z)
+	{
+		return ConnectionMask.getRopeMask(this, world, x, y, z, ConnectionMask.ALL);
+	}
+
+	private void setBlockBoundsForMask(int mask)
+	{
+		final float[] b = BOUNDS[mask];
+		this.setBlockBounds(b[0], b[1], b[2], b[3], b[4], b[5]);
+	}
+
 	@Override
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB aabb, List list, Entity entity)
 	{
-		final boolean flag = this.canConnectRopeTo(world, x, y, z - 1);
-		final boolean flag1 = this.canConnectRopeTo(world, x, y, z + 1);
-		final boolean flag2 = this.canConnectRopeTo(world, x - 1, y, z);
-		final boolean flag3 = this.canConnectRopeTo(world, x + 1, y, z);
-		final boolean flag4 = this.canConnectRopeTo(world, x, y - 1, z);
-		final boolean flag5 = this.canConnectRopeTo(world, x, y + 1, z);
-		float f = 0.4375F;
-		float f1 = 0.5625F;
-		float f2 = 0.4375F;
-		float f3 = 0.5625F;
-		float f4 = 0.4375F;
-		float f5 = 0.5625F;
-
-		if (flag)
-		{
-			f2 = 0.0F;
-		}
-
-		if (flag1)
-		{
-			f3 = 1.0F;
-		}
-
-		if (flag || flag1)
-		{
-			this.setBlockBounds(f, f4, f2, f1, f5, f3);
-			super.addCollisionBoxesToList(world, x, y, z, aabb, list, entity);
-		}
-
-		f2 = 0.4375F;
-		f3 = 0.5625F;
-
-		if (flag2)
-		{
-			f = 0.0F;
-		}
-
-		if (flag3)
-		{
-			f1 = 1.0F;
-		}
-
-		if (flag2 || flag3)
-		{
-			this.setBlockBounds(f, f4, f2, f1, f5, f3);
-			super.addCollisionBoxesToList(world, x, y, z, aabb, list, entity);
-		}
-
-		f = 0.4375F;
-		f1 = 0.5625F;
-
-		if (flag4)
-		{
-			f4 = 0.0F;
-		}
-
-		if (flag5)
-		{
-			f5 = 1.0F;
-		}
-
-		if (flag4 || flag5)
-		{
-			this.setBlockBounds(f, f4, f2, f1, f5, f3);
-			super.addCollisionBoxesToList(world, x, y, z, aabb, list, entity);
-		}
-
-		this.setBlockBoundsBasedOnState(world, x, y, z);
+		final int mask = getConnectionMask(world, x, y, z);
+		ConnectionMask.addCollisionBoxes(COLLISION_BOXES[mask], x, y, z, aabb, list);
+		setBlockBoundsForMask(mask);
 	}
 
 	@Override
 	public void setBlockBoundsBasedOnState(IBlockAccess world, int x, int y, int z)
 	{
-		final boolean flag = this.canConnectRopeTo(world, x, y, z - 1);
-		final boolean flag1 = this.canConnectRopeTo(world, x, y, z + 1);
-		final boolean flag2 = this.canConnectRopeTo(world, x - 1, y, z);
-		final boolean flag3 = this.canConnectRopeTo(world, x + 1, y, z);
-		final boolean flag4 = this.canConnectRopeTo(world, x, y - 1, z);
-		final boolean flag5 = this.canConnectRopeTo(world, x, y + 1, z);
-		float f = 0.4375F;
-		float f1 = 0.5625F;
-		float f2 = 0.4375F;
-		float f3 = 0.5625F;
-		float f4 = 0.4375F;
-		float f5 = 0.5625F;
-
-		if (flag)
-		{
-			f2 = 0.0F;
-		}
-
-		if (flag1)
-		{
-			f3 = 1.0F;
-		}
-
-		if (flag2)
-		{
-			f = 0.0F;
-		}
-
-		if (flag3)
-		{
-			f1 = 1.0F;
-		}
-
-		if (flag4)
-		{
-			f4 = 0.0F;
-		}
-
-		if (flag5)
-		{
-			f5 = 1.0F;
-		}
-
-		this.setBlockBounds(f, f4, f2, f1, f5, f3);
+		setBlockBoundsForMask(getConnectionMask(world, x, y, z));
 	}
-
 }
@@ -28,6 +28,7 @@ import javax.annotation.Nonnull;
 
 import growthcraft.core.common.tileentity.ICustomDisplayName;
 import growthcraft.core.common.tileentity.IItemHandler;
+import growthcraft.core.common.tileentity.ITileNeighbourSensitive;
 import growthcraft.api.core.util.BlockFlags;
 import growthcraft.core.util.ItemUtils;
 import growthcraft.core.Utils;
@@ -79,6 +80,17 @@ public abstract class GrcBlockContainer extends BlockContainer implements IDropp
 		world.setBlockToAir(x, y, z);
 	}
 
+	@Override
+	public void onNeighborBlockChange(World world, int x, int y, int z, Block block)
+	{
+		super.onNeighborBlockChange(world, x, y, z, block);
+		final TileEntity te = world.getTileEntity(x, y, z);
+		if (te instanceof ITileNeighbourSensitive)
+		{
+			((ITileNeighbourSensitive)te).onNeighbourBlockChange(block);
+		}
+	}
+
 	/* IRotatableBlock */
 	public boolean isRotatable(IBlockAccess world, int x, int y, int z, ForgeDirection side)
 	{
@@ -0,0 +1,51 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.block;
+
+import java.util.Random;
+
+import net.minecraft.world.World;
+
+/**
+ * Crops that can catch up on the growth they missed while their chunk was
+ * unloaded, see CropCatchUp.
+ */
+public interface ICropCatchUpBlock
+{
+	/**
+	 * Applies, in one go, the growth the crop would have made over the given
+	 * number of ticks in its current surroundings.
+	 * Implementations normally draw their step count with
+	 * CropCatchUp.drawGrowthSteps and may leave growth that places new blocks
+	 * to the regular random ticks.
+	 *
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @param ticks - world ticks the chunk was unloaded for
+	 * @param random - random to draw from
+	 */
+	void catchUpGrowth(World world, int x, int y, int z, long ticks, Random random);
+}
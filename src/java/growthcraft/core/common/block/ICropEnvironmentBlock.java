@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.block;
+
+import net.minecraft.world.World;
+
+/**
+ * Crops whose growth rate depends on their surroundings (soil and
+ * neighbouring crops), the rate is cached by CropEnvironment.
+ *
+ * Metadata changes of these blocks are assumed not to affect their
+ * neighbours' rates (they are growth stages), placing or removing one must be
+ * reported with CropEnvironment.onBlockChanged (from onBlockAdded and
+ * breakBlock).
+ */
+public interface ICropEnvironmentBlock
+{
+	/**
+	 * Computes the growth rate from the block's surroundings, without caching.
+	 * Should only look at the columns within 1 block of x and z.
+	 *
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @return growth rate
+	 */
+	float computeGrowthRate(World world, int x, int y, int z);
+}
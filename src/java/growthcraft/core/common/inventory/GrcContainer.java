@@ -46,6 +46,7 @@ public class GrcContainer extends Container
 	protected static final int SLOT_H = 18;
 
 	protected TileEntity tileEntity;
+	protected final GuiPropertySync propertySync = new GuiPropertySync();
 
 	public GrcContainer(TileEntity te)
 	{
@@ -222,7 +223,7 @@ public class GrcContainer extends Container
 		super.addCraftingToCrafters(iCrafting);
 		if (tileEntity instanceof IGuiNetworkSync)
 		{
-			((IGuiNetworkSync)tileEntity).sendGUINetworkData(this, iCrafting);
+			propertySync.sync(this, (IGuiNetworkSync)tileEntity, iCrafting, true);
 		}
 	}
 
@@ -236,7 +237,7 @@ public class GrcContainer extends Container
 			final IGuiNetworkSync sync = (IGuiNetworkSync)tileEntity;
 			for (int i = 0; i < crafters.size(); i++)
 			{
-				sync.sendGUINetworkData(this, (ICrafting) crafters.get(i));
+				propertySync.sync(this, sync, (ICrafting)crafters.get(i), false);
 			}
 		}
 	}
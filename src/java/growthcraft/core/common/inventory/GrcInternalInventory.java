@@ -41,6 +41,8 @@ public class GrcInternalInventory implements IInventory, INBTSerializableContext
 	protected int maxSize;
 	protected int maxStackSize;
 	protected Object parent;
+	// Changes whenever the contents of the inventory change, see getModifiedCount
+	protected int modifiedCount;
 
 	public GrcInternalInventory(Object par, int size, int maxStack)
 	{
@@ -60,8 +62,28 @@ public class GrcInternalInventory implements IInventory, INBTSerializableContext
 		return maxSize;
 	}
 
+	public void markModified()
+	{
+		modifiedCount++;
+	}
+
+	/**
+	 * Returns a counter which changes whenever the contents of the inventory
+	 * change, it can be used to tell if anything derived from the inventory
+	 * needs to be recalculated.
+	 * Stacks modified in place (ie. by a Container merging stacks) are only
+	 * caught once the inventory, or its parent, is marked dirty.
+	 *
+	 * @return modification counter
+	 */
+	public int getModifiedCount()
+	{
+		return modifiedCount;
+	}
+
 	protected void onSlotChanged(int index)
 	{
+		markModified();
 		if (parent instanceof IInventoryWatcher)
 		{
 			((IInventoryWatcher)parent).onInventoryChanged(this, index);
@@ -178,6 +200,8 @@ public class GrcInternalInventory implements IInventory, INBTSerializableContext
 	{
 		final ItemStack oldStack = items[index];
 		items[index] = stack;
+		// the stack may have been modified in place before being set again
+		markModified();
 		if (stack != null)
 		{
 			if (stack.stackSize > getInventoryStackLimit())
@@ -0,0 +1,141 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.inventory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import growthcraft.core.common.tileentity.IGuiNetworkSync;
+import growthcraft.core.GrowthCraftCore;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.inventory.Container;
+import net.minecraft.inventory.ICrafting;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Sends the GUI properties of an IGuiNetworkSync to a container's crafters,
+ * remembering the last value each crafter was sent so that only changed
+ * properties go out. Players get them batched over the GuiPropertyChannel
+ * as full ints.
+ *
+ * The properties are collected by passing this object as the ICrafting to
+ * sendGUINetworkData, so existing implementations need no changes. State is
+ * kept per container, and so dropped along with it when the GUI is closed.
+ */
+public class GuiPropertySync implements ICrafting
+{
+	static class SentValues extends HashMap<Integer, Integer>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	static class CrafterValues extends HashMap<ICrafting, SentValues>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	private final Map<ICrafting, SentValues> sentValues = new CrafterValues();
+	private int[] ids = new int[8];
+	private int[] values = new int[8];
+	private int count;
+
+	@Override
+	@SuppressWarnings("rawtypes")
+	public void sendContainerAndContentsToPlayer(Container container, List list)
+	{
+	}
+
+	@Override
+	public void sendSlotContents(Container container, int index, ItemStack stack)
+	{
+	}
+
+	/**
+	 * Records a property instead of sending it
+	 */
+	@Override
+	public void sendProgressBarUpdate(Container container, int id, int value)
+	{
+		if (count >= ids.length)
+		{
+			final int[] newIds = new int[ids.length * 2];
+			final int[] newValues = new int[values.length * 2];
+			System.arraycopy(ids, 0, newIds, 0, count);
+			System.arraycopy(values, 0, newValues, 0, count);
+			this.ids = newIds;
+			this.values = newValues;
+		}
+		ids[count] = id;
+		values[count] = value;
+		count++;
+	}
+
+	/**
+	 * @param container - container the crafter is watching
+	 * @param source - source of the properties
+	 * @param crafter - crafter to send to
+	 * @param force - send every property, even if the crafter already has it
+	 */
+	public void sync(Container container, IGuiNetworkSync source, ICrafting crafter, boolean force)
+	{
+		this.count = 0;
+		source.sendGUINetworkData(container, this);
+
+		SentValues sent = sentValues.get(crafter);
+		if (sent == null)
+		{
+			sent = new SentValues();
+			sentValues.put(crafter, sent);
+		}
+
+		// compact the changed properties to the front of the arrays
+		int changed = 0;
+		for (int i = 0; i < count; ++i)
+		{
+			final Integer last = sent.get(ids[i]);
+			if (force || last == null || last != values[i])
+			{
+				sent.put(ids[i], values[i]);
+				ids[changed] = ids[i];
+				values[changed] = values[i];
+				changed++;
+			}
+		}
+		if (changed == 0) return;
+
+		if (crafter instanceof EntityPlayerMP)
+		{
+			GrowthCraftCore.guiPropertyChannel.sendTo((EntityPlayerMP)crafter, container.windowId, ids, values, changed);
+		}
+		else
+		{
+			for (int i = 0; i < changed; ++i)
+			{
+				crafter.sendProgressBarUpdate(container, ids[i], values[i]);
+			}
+		}
+	}
+}
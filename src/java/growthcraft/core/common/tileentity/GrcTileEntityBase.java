@@ -25,23 +25,31 @@ package growthcraft.core.common.tileentity;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nonnull;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 
+import growthcraft.core.common.tileentity.event.DeltaSyncTracker;
 import growthcraft.core.common.tileentity.event.EventHandler;
 import growthcraft.core.common.tileentity.event.EventFunction;
+import growthcraft.core.GrowthCraftCore;
+import growthcraft.core.profiler.TickProfiler;
 
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.S35PacketUpdateTileEntity;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.server.management.PlayerManager;
+import net.minecraft.world.WorldServer;
 
 /**
  * Extend this base class if you just need a Base tile with the event system.
@@ -62,9 +70,38 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 		}
 	}
 
-	protected static Map<Class<? extends GrcTileEntityBase>, HandlerMap> HANDLERS = new HashMap<Class<? extends GrcTileEntityBase>, HandlerMap>();
+	/**
+	 * Handlers are sorted so that both sides of the connection agree on the
+	 * order of the stream sections: base class handlers first, then by name.
+	 */
+	protected static class HandlerOrder implements Comparator<Method>
+	{
+		private static int depthOf(Class<?> klass)
+		{
+			int depth = 0;
+			for (Class<?> k = klass; k != null; k = k.getSuperclass()) depth++;
+			return depth;
+		}
+
+		@Override
+		public int compare(Method a, Method b)
+		{
+			final int depthA = depthOf(a.getDeclaringClass());
+			final int depthB = depthOf(b.getDeclaringClass());
+			if (depthA != depthB) return depthA < depthB ? -1 : 1;
+			return a.getName().compareTo(b.getName());
+		}
+	}
+
+	// Built once per tile class and shared between the server and client threads
+	protected static final ConcurrentMap<Class<? extends GrcTileEntityBase>, HandlerMap> HANDLERS = new ConcurrentHashMap<Class<? extends GrcTileEntityBase>, HandlerMap>();
+
+	// S35 action ids, full snapshots keep the original id
+	public static final int ACTION_SNAPSHOT = 127;
+	public static final int ACTION_DELTA = 126;
 
 	protected boolean needBlockUpdate = true;
+	protected final DeltaSyncTracker deltaSync = new DeltaSyncTracker();
 
 	public void markForBlockUpdate()
 	{
@@ -73,7 +110,56 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 
 	private void doMarkForUpdate()
 	{
-		worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+		if (useDeltaSync() && worldObj instanceof WorldServer && deltaSync.hasBaseline())
+		{
+			sendDeltaUpdate((WorldServer)worldObj);
+		}
+		else
+		{
+			worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+		}
+	}
+
+	/**
+	 * Should this tile send only its changed sections to players that already
+	 * have it? Players loading the chunk always receive the full snapshot.
+	 *
+	 * @return true, to use delta updates
+	 */
+	protected boolean useDeltaSync()
+	{
+		return GrowthCraftCore.getConfig().tileDeltaSync;
+	}
+
+	private void sendDeltaUpdate(@Nonnull WorldServer world)
+	{
+		final byte[] delta;
+		try
+		{
+			delta = deltaSync.buildDelta(DeltaSyncTracker.captureSections(this, getHandlersFor(EventHandler.EventType.NETWORK_WRITE)));
+		}
+		catch (Throwable t)
+		{
+			System.err.println(t);
+			return;
+		}
+		if (delta == null) return;
+
+		final NBTTagCompound data = new NBTTagCompound();
+		data.setByteArray("P", delta);
+		final S35PacketUpdateTileEntity packet = new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, ACTION_DELTA, data);
+		final PlayerManager manager = world.getPlayerManager();
+		final int chunkX = xCoord >> 4;
+		final int chunkZ = zCoord >> 4;
+		for (Object obj : world.playerEntities)
+		{
+			final EntityPlayerMP player = (EntityPlayerMP)obj;
+			// players with the chunk still queued will get the full snapshot with it
+			if (manager.isPlayerWatchingChunk(player, chunkX, chunkZ))
+			{
+				player.playerNetServerHandler.sendPacket(packet);
+			}
+		}
 	}
 
 	protected void preMarkForUpdate()
@@ -86,15 +172,17 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 	{
 		if (needBlockUpdate)
 		{
+			final long start = TickProfiler.begin();
 			needBlockUpdate = false;
 			preMarkForUpdate();
 			doMarkForUpdate();
+			TickProfiler.end(getClass(), "markForUpdate", this, start);
 		}
 
 		super.updateEntity();
 	}
 
-	protected void addHandler(@Nonnull HandlerMap handlerMap, @Nonnull EventHandler.EventType type, @Nonnull Method method)
+	protected static void addHandler(@Nonnull HandlerMap handlerMap, @Nonnull EventHandler.EventType type, @Nonnull Method method)
 	{
 		if (!handlerMap.containsKey(type))
 		{
@@ -103,23 +191,45 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 		handlerMap.get(type).add(new EventFunction(method));
 	}
 
-	@SuppressWarnings({"unchecked", "rawtypes"})
 	@Nonnull
-	protected HandlerMap getHandlersMap()
+	protected static HandlerMap buildHandlersMap(@Nonnull Class<? extends GrcTileEntityBase> klass)
 	{
-		final Class klass = getClass();
-		HandlerMap cached = HANDLERS.get(klass);
-		if (cached == null)
+		final HandlerMap handlerMap = new HandlerMap();
+		final Method[] methods = klass.getMethods();
+		Arrays.sort(methods, new HandlerOrder());
+		for (Method method : methods)
 		{
-			cached = new HandlerMap();
-			HANDLERS.put(klass, cached);
-			for (Method method : klass.getMethods())
-			{
-				final EventHandler anno = method.getAnnotation(EventHandler.class);
-				if (anno != null) addHandler(cached, anno.type(), method);
-			}
+			final EventHandler anno = method.getAnnotation(EventHandler.class);
+			if (anno != null) addHandler(handlerMap, anno.type(), method);
 		}
-		return cached;
+		return handlerMap;
+	}
+
+	@Nonnull
+	protected static HandlerMap fetchHandlersMap(@Nonnull Class<? extends GrcTileEntityBase> klass)
+	{
+		final HandlerMap cached = HANDLERS.get(klass);
+		if (cached != null) return cached;
+		final HandlerMap built = buildHandlersMap(klass);
+		final HandlerMap existing = HANDLERS.putIfAbsent(klass, built);
+		return existing != null ? existing : built;
+	}
+
+	/**
+	 * Builds the event handlers for the given tile class ahead of time,
+	 * otherwise they are built the first time the class needs them.
+	 *
+	 * @param klass - tile entity class
+	 */
+	public static void registerHandlers(@Nonnull Class<? extends GrcTileEntityBase> klass)
+	{
+		fetchHandlersMap(klass);
+	}
+
+	@Nonnull
+	protected HandlerMap getHandlersMap()
+	{
+		return fetchHandlersMap(getClass());
 	}
 
 	protected List<EventFunction> getHandlersFor(@Nonnull EventHandler.EventType type)
@@ -132,9 +242,9 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 		final List<EventFunction> handlers = getHandlersFor(EventHandler.EventType.NETWORK_WRITE);
 		if (handlers != null)
 		{
-			for (EventFunction func : handlers)
+			for (int i = 0; i < handlers.size(); ++i)
 			{
-				func.writeToStream(this, stream);
+				handlers.get(i).writeToStream(this, stream);
 			}
 		}
 	}
@@ -143,26 +253,28 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 	public Packet getDescriptionPacket()
 	{
 		final NBTTagCompound data = new NBTTagCompound();
-		final ByteBuf stream = Unpooled.buffer();
+		byte[] payload = null;
 
 		try
 		{
-			writeToStream(stream);
-			if (stream.readableBytes() == 0)
-			{
-				return null;
-			}
+			final byte[][] sections = DeltaSyncTracker.captureSections(this, getHandlersFor(EventHandler.EventType.NETWORK_WRITE));
+			if (worldObj != null && !worldObj.isRemote) deltaSync.onSnapshot(sections);
+			payload = DeltaSyncTracker.joinSections(sections);
 		}
 		catch (Throwable t)
 		{
 			System.err.println(t);
 		}
 
+		if (payload == null || payload.length == 0)
+		{
+			return null;
+		}
 
-		// P, for payload
-		data.setByteArray("P", stream.array());
+		// P, for payload, only the written bytes and not the buffer's spare capacity
+		data.setByteArray("P", payload);
 
-		return new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, 127, data);
+		return new S35PacketUpdateTileEntity(xCoord, yCoord, zCoord, ACTION_SNAPSHOT, data);
 	}
 
 	protected boolean readFromStream(ByteBuf stream)
@@ -171,9 +283,9 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 		final List<EventFunction> handlers = getHandlersFor(EventHandler.EventType.NETWORK_READ);
 		if (handlers != null)
 		{
-			for (EventFunction func : handlers)
+			for (int i = 0; i < handlers.size(); ++i)
 			{
-				if (func.readFromStream(this, stream))
+				if (handlers.get(i).readFromStream(this, stream))
 				{
 					shouldUpdate = true;
 				}
@@ -185,13 +297,23 @@ public abstract class GrcTileEntityBase extends TileEntity implements IBlockUpda
 	@Override
 	public void onDataPacket(NetworkManager net, S35PacketUpdateTileEntity packet)
 	{
-		if (packet.func_148853_f() == 127)
+		final int action = packet.func_148853_f();
+		if (action == ACTION_SNAPSHOT || action == ACTION_DELTA)
 		{
 			final NBTTagCompound tag = packet.func_148857_g();
 			if (tag != null)
 			{
-				final ByteBuf stream = Unpooled.copiedBuffer(tag.getByteArray("P"));
-				if (readFromStream(stream))
+				final ByteBuf stream = Unpooled.wrappedBuffer(tag.getByteArray("P"));
+				final boolean shouldUpdate;
+				if (action == ACTION_DELTA)
+				{
+					shouldUpdate = DeltaSyncTracker.readDelta(this, getHandlersFor(EventHandler.EventType.NETWORK_READ), stream);
+				}
+				else
+				{
+					shouldUpdate = readFromStream(stream);
+				}
+				if (shouldUpdate)
 				{
 					doMarkForUpdate();
 				}
@@ -29,6 +29,7 @@ import growthcraft.api.core.fluids.FluidTest;
 import growthcraft.core.common.tileentity.device.FluidTanks;
 import growthcraft.core.common.tileentity.device.IFluidTanks;
 import growthcraft.core.common.tileentity.event.EventHandler;
+import growthcraft.core.profiler.TickProfiler;
 
 import io.netty.buffer.ByteBuf;
 
@@ -70,7 +71,9 @@ public abstract class GrcTileEntityDeviceBase extends GrcTileEntityInventoryBase
 
 		if (!this.worldObj.isRemote)
 		{
+			final long start = TickProfiler.begin();
 			updateDevice();
+			TickProfiler.end(getClass(), "updateDevice", this, start);
 		}
 	}
 
@@ -159,6 +162,14 @@ public abstract class GrcTileEntityDeviceBase extends GrcTileEntityInventoryBase
 		return tanks;
 	}
 
+	/**
+	 * @return modification counter of the tanks, see FluidTanks#getModifiedCount
+	 */
+	public int getTanksModifiedCount()
+	{
+		return tanks.getModifiedCount();
+	}
+
 	@Override
 	public int getTankCount()
 	{
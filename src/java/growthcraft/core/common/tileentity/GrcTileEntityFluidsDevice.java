@@ -29,6 +29,7 @@ import growthcraft.api.core.fluids.FluidTest;
 import growthcraft.core.common.tileentity.device.FluidTanks;
 import growthcraft.core.common.tileentity.device.IFluidTanks;
 import growthcraft.core.common.tileentity.event.EventHandler;
+import growthcraft.core.profiler.TickProfiler;
 
 import io.netty.buffer.ByteBuf;
 
@@ -70,7 +71,9 @@ public abstract class GrcTileEntityFluidsDevice extends GrcTileEntityBase implem
 
 		if (!this.worldObj.isRemote)
 		{
+			final long start = TickProfiler.begin();
 			updateDevice();
+			TickProfiler.end(getClass(), "updateDevice", this, start);
 		}
 	}
 
@@ -64,6 +64,25 @@ public abstract class GrcTileEntityInventoryBase extends GrcTileEntityBase imple
 		needInventoryUpdate = true;
 	}
 
+	/**
+	 * @return modification counter of the inventory, see GrcInternalInventory#getModifiedCount
+	 */
+	public int getInventoryModifiedCount()
+	{
+		return inventory.getModifiedCount();
+	}
+
+	/**
+	 * Containers modify stacks in place and then mark the tile dirty, so the
+	 * inventory is flagged as modified here as well.
+	 */
+	@Override
+	public void markDirty()
+	{
+		inventory.markModified();
+		super.markDirty();
+	}
+
 	@Override
 	public void onInventoryChanged(IInventory inv, int index)
 	{
@@ -83,7 +102,8 @@ public abstract class GrcTileEntityInventoryBase extends GrcTileEntityBase imple
 		if (needInventoryUpdate)
 		{
 			needInventoryUpdate = false;
-			this.markDirty();
+			// the inventory has already bumped its counter
+			super.markDirty();
 		}
 	}
 
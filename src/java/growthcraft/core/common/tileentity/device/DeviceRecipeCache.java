@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.tileentity.device;
+
+import growthcraft.core.common.tileentity.GrcTileEntityDeviceBase;
+
+/**
+ * Remembers a recipe resolved from a device's inventory and tanks, the
+ * recipe is considered stale once either of them has been modified.
+ *
+ * Usage:
+ *   if (cache.isStale()) cache.set(lookupRecipe());
+ *   return cache.get();
+ *
+ * @param <T> type of the recipe
+ */
+public class DeviceRecipeCache<T>
+{
+	private GrcTileEntityDeviceBase device;
+	private boolean valid;
+	private int inventoryVersion;
+	private int tanksVersion;
+	private T recipe;
+
+	public DeviceRecipeCache(GrcTileEntityDeviceBase te)
+	{
+		this.device = te;
+	}
+
+	/**
+	 * @return true, the inputs have changed since the recipe was last set
+	 */
+	public boolean isStale()
+	{
+		if (!valid) return true;
+		// both counters have to be polled, so they can catch up on any changes
+		final boolean inventoryChanged = device.getInventoryModifiedCount() != inventoryVersion;
+		final boolean tanksChanged = device.getTanksModifiedCount() != tanksVersion;
+		return inventoryChanged || tanksChanged;
+	}
+
+	public T get()
+	{
+		return recipe;
+	}
+
+	/**
+	 * @param newRecipe - recipe resolved from the current inputs, may be null
+	 * @return the recipe
+	 */
+	public T set(T newRecipe)
+	{
+		this.recipe = newRecipe;
+		this.inventoryVersion = device.getInventoryModifiedCount();
+		this.tanksVersion = device.getTanksModifiedCount();
+		this.valid = true;
+		return newRecipe;
+	}
+
+	public void invalidate()
+	{
+		this.valid = false;
+		this.recipe = null;
+	}
+}
@@ -39,10 +39,46 @@ import net.minecraftforge.fluids.FluidTankInfo;
 public class FluidTanks implements IFluidTanks, INBTSerializableContext, IStreamable
 {
 	private FluidTank[] tanks;
+	// Changes whenever the contents of the tanks change, see getModifiedCount
+	private int modifiedCount;
+	private FluidStack[] lastFluids;
+	private int[] lastAmounts;
 
 	public FluidTanks(FluidTank[] ts)
 	{
 		this.tanks = ts;
+		this.lastFluids = new FluidStack[ts.length];
+		this.lastAmounts = new int[ts.length];
+	}
+
+	public void markModified()
+	{
+		modifiedCount++;
+	}
+
+	/**
+	 * Returns a counter which changes whenever the contents of the tanks
+	 * change, it can be used to tell if anything derived from the tanks
+	 * needs to be recalculated.
+	 * Since the FluidTanks are exposed, tanks modified directly are caught by
+	 * comparing each tank with the state seen on the previous call.
+	 *
+	 * @return modification counter
+	 */
+	public int getModifiedCount()
+	{
+		for (int i = 0; i < tanks.length; ++i)
+		{
+			final FluidStack stack = tanks[i].getFluid();
+			final int amount = stack != null ? stack.amount : 0;
+			if (stack != lastFluids[i] || amount != lastAmounts[i])
+			{
+				lastFluids[i] = stack;
+				lastAmounts[i] = amount;
+				markModified();
+			}
+		}
+		return modifiedCount;
 	}
 
 	public int getTankCount()
@@ -76,6 +112,7 @@ public class FluidTanks implements IFluidTanks, INBTSerializableContext, IStream
 	public void clearTank(int slot)
 	{
 		tanks[slot].setFluid(null);
+		markModified();
 	}
 
 	@Override
@@ -127,19 +164,24 @@ public class FluidTanks implements IFluidTanks, INBTSerializableContext, IStream
 	@Override
 	public FluidStack drainFluidTank(int slot, int amount, boolean doDrain)
 	{
-		return tanks[slot].drain(amount, doDrain);
+		final FluidStack result = tanks[slot].drain(amount, doDrain);
+		if (doDrain && result != null) markModified();
+		return result;
 	}
 
 	@Override
 	public int fillFluidTank(int slot, FluidStack fluid, boolean doFill)
 	{
-		return tanks[slot].fill(fluid, doFill);
+		final int result = tanks[slot].fill(fluid, doFill);
+		if (doFill && result != 0) markModified();
+		return result;
 	}
 
 	@Override
 	public void setFluidStack(int slot, FluidStack stack)
 	{
 		tanks[slot].setFluid(stack);
+		markModified();
 	}
 
 	@Override
@@ -160,6 +202,7 @@ public class FluidTanks implements IFluidTanks, INBTSerializableContext, IStream
 				tanks[i].readFromNBT(nbt.getCompoundTag("Tank" + i));
 			}
 		}
+		markModified();
 	}
 
 	@Override
@@ -200,6 +243,7 @@ public class FluidTanks implements IFluidTanks, INBTSerializableContext, IStream
 		{
 			StreamUtils.readFluidTank(stream, tanks[i]);
 		}
+		markModified();
 	}
 
 	@Override
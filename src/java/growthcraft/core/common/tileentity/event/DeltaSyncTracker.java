@@ -0,0 +1,179 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.tileentity.event;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import growthcraft.core.common.tileentity.GrcTileEntityBase;
+
+import cpw.mods.fml.common.network.ByteBufUtils;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+
+/**
+ * Tracks the last network sections sent to the players watching a tile, so
+ * that later updates only need to carry the sections that changed.
+ *
+ * Each NETWORK_WRITE handler produces one section, a delta is laid out as:
+ *   varint count, then count times: varint index, varint length, bytes
+ */
+public class DeltaSyncTracker
+{
+	// varints of ints never take more than 5 bytes
+	public static final int VARINT_SIZE = 5;
+
+	private byte[][] baseline;
+	private final BitSet pending = new BitSet();
+
+	@Nonnull
+	public static byte[][] captureSections(@Nonnull GrcTileEntityBase tile, @Nullable List<EventFunction> handlers)
+	{
+		if (handlers == null) return new byte[0][];
+		final byte[][] sections = new byte[handlers.size()][];
+		final ByteBuf stream = Unpooled.buffer();
+		for (int i = 0; i < sections.length; ++i)
+		{
+			stream.clear();
+			handlers.get(i).writeToStream(tile, stream);
+			sections[i] = new byte[stream.readableBytes()];
+			stream.readBytes(sections[i]);
+		}
+		return sections;
+	}
+
+	/**
+	 * @param sections - sections to join
+	 * @return the sections as one continuous payload, as expected by a full read
+	 */
+	@Nonnull
+	public static byte[] joinSections(@Nonnull byte[][] sections)
+	{
+		int size = 0;
+		for (byte[] section : sections) size += section.length;
+		final byte[] result = new byte[size];
+		int offset = 0;
+		for (byte[] section : sections)
+		{
+			System.arraycopy(section, 0, result, offset, section.length);
+			offset += section.length;
+		}
+		return result;
+	}
+
+	public boolean hasBaseline()
+	{
+		return baseline != null;
+	}
+
+	/**
+	 * Call when a full snapshot was handed out (ie. a player loaded the chunk).
+	 * Players that are already watching only know the baseline, so any section
+	 * that differs from it is flagged and goes out with the next delta.
+	 *
+	 * @param sections - sections of the snapshot
+	 */
+	public void onSnapshot(@Nonnull byte[][] sections)
+	{
+		if (baseline == null || baseline.length != sections.length)
+		{
+			this.baseline = sections;
+			pending.clear();
+			return;
+		}
+		for (int i = 0; i < sections.length; ++i)
+		{
+			if (!Arrays.equals(baseline[i], sections[i])) pending.set(i);
+		}
+	}
+
+	/**
+	 * Builds the delta between the baseline and the given sections, the
+	 * sections become the new baseline.
+	 *
+	 * @param sections - current sections of the tile
+	 * @return delta payload, or null if nothing changed
+	 */
+	@Nullable
+	public byte[] buildDelta(@Nonnull byte[][] sections)
+	{
+		if (baseline == null || baseline.length != sections.length)
+		{
+			throw new IllegalStateException("Cannot build a delta without a baseline");
+		}
+		final BitSet dirty = (BitSet)pending.clone();
+		for (int i = 0; i < sections.length; ++i)
+		{
+			if (!Arrays.equals(baseline[i], sections[i])) dirty.set(i);
+		}
+		this.baseline = sections;
+		pending.clear();
+		if (dirty.isEmpty()) return null;
+
+		final ByteBuf stream = Unpooled.buffer();
+		ByteBufUtils.writeVarInt(stream, dirty.cardinality(), VARINT_SIZE);
+		for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1))
+		{
+			ByteBufUtils.writeVarInt(stream, i, VARINT_SIZE);
+			ByteBufUtils.writeVarInt(stream, sections[i].length, VARINT_SIZE);
+			stream.writeBytes(sections[i]);
+		}
+		final byte[] result = new byte[stream.readableBytes()];
+		stream.readBytes(result);
+		return result;
+	}
+
+	/**
+	 * Feeds each section of a delta to its NETWORK_READ handler.
+	 *
+	 * @param tile - tile receiving the delta
+	 * @param handlers - read handlers of the tile
+	 * @param stream - delta payload
+	 * @return true if any handler requested a render update
+	 */
+	@SideOnly(Side.CLIENT)
+	public static boolean readDelta(@Nonnull GrcTileEntityBase tile, @Nullable List<EventFunction> handlers, @Nonnull ByteBuf stream)
+	{
+		if (handlers == null) return false;
+		boolean shouldUpdate = false;
+		final int count = ByteBufUtils.readVarInt(stream, VARINT_SIZE);
+		for (int n = 0; n < count; ++n)
+		{
+			final int index = ByteBufUtils.readVarInt(stream, VARINT_SIZE);
+			final int length = ByteBufUtils.readVarInt(stream, VARINT_SIZE);
+			final ByteBuf section = stream.readSlice(length);
+			if (index < handlers.size())
+			{
+				if (handlers.get(index).readFromStream(tile, section)) shouldUpdate = true;
+			}
+		}
+		return shouldUpdate;
+	}
+}
@@ -23,7 +23,9 @@
  */
 package growthcraft.core.common.tileentity.event;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import javax.annotation.Nonnull;
 
@@ -34,32 +36,54 @@ import growthcraft.core.common.tileentity.GrcTileEntityBase;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
+/**
+ * Wraps an @EventHandler method, the method is resolved to a MethodHandle
+ * once, when the function is created, so calling it does not go through
+ * reflection (no access checks, argument arrays or boxed results).
+ */
 public class EventFunction
 {
-	private Method method;
+	private static final MethodType WRITE_TYPE = MethodType.methodType(void.class, GrcTileEntityBase.class, ByteBuf.class);
+	private static final MethodType READ_TYPE = MethodType.methodType(boolean.class, GrcTileEntityBase.class, ByteBuf.class);
+
+	private final Method method;
+	private final MethodHandle writeHandle;
+	private final MethodHandle readHandle;
 
 	public EventFunction(@Nonnull Method m)
 	{
 		this.method = m;
+		try
+		{
+			final MethodHandle handle = MethodHandles.publicLookup().unreflect(m);
+			// write handlers return nothing, read handlers report if the tile needs a render update
+			this.writeHandle = handle.asType(WRITE_TYPE);
+			this.readHandle = handle.asType(READ_TYPE);
+		}
+		catch (IllegalAccessException e)
+		{
+			throw new IllegalArgumentException("Cannot access event handler " + m, e);
+		}
+	}
+
+	public Method getMethod()
+	{
+		return method;
 	}
 
 	public void writeToStream(GrcTileEntityBase tile, ByteBuf data)
 	{
 		try
 		{
-			this.method.invoke(tile, data);
-		}
-		catch (IllegalAccessException e)
-		{
-			throw new IllegalStateException(e);
+			writeHandle.invokeExact(tile, data);
 		}
-		catch (IllegalArgumentException e)
+		catch (Error e)
 		{
-			throw new IllegalStateException(e);
+			throw e;
 		}
-		catch (InvocationTargetException e)
+		catch (Throwable t)
 		{
-			throw new IllegalStateException(e);
+			throw new IllegalStateException(t);
 		}
 	}
 
@@ -68,19 +92,15 @@ public class EventFunction
 	{
 		try
 		{
-			return (Boolean)this.method.invoke(tile, data);
-		}
-		catch (IllegalAccessException e)
-		{
-			throw new IllegalStateException(e);
+			return (boolean)readHandle.invokeExact(tile, data);
 		}
-		catch (IllegalArgumentException e)
+		catch (Error e)
 		{
-			throw new IllegalStateException(e);
+			throw e;
 		}
-		catch (InvocationTargetException e)
+		catch (Throwable t)
 		{
-			throw new IllegalStateException(e);
+			throw new IllegalStateException(t);
 		}
 	}
 }
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.world;
+
+import java.util.BitSet;
+
+import net.minecraft.world.biome.BiomeGenBase;
+
+/**
+ * Answers whether a world generation feature may generate in a biome with a
+ * single bit lookup by biome id.
+ *
+ * The table is filled on its first lookup rather than when it is created,
+ * by then every mod has registered its biomes and their dictionary types.
+ */
+public abstract class BiomeEligibility
+{
+	private BitSet eligible;
+
+	/**
+	 * Called once per registered biome while the table is filled.
+	 *
+	 * @param biome - a registered biome
+	 * @return true, if the feature may generate in the biome
+	 */
+	protected abstract boolean isBiomeEligible(BiomeGenBase biome);
+
+	private BitSet build()
+	{
+		final BiomeGenBase[] biomes = BiomeGenBase.getBiomeGenArray();
+		final BitSet result = new BitSet(biomes.length);
+		for (BiomeGenBase biome : biomes)
+		{
+			if (biome != null && isBiomeEligible(biome)) result.set(biome.biomeID);
+		}
+		return result;
+	}
+
+	public boolean contains(BiomeGenBase biome)
+	{
+		if (biome == null) return false;
+		if (eligible == null) this.eligible = build();
+		return eligible.get(biome.biomeID);
+	}
+
+	/**
+	 * Refills the table on the next lookup
+	 */
+	public void invalidate()
+	{
+		this.eligible = null;
+	}
+}
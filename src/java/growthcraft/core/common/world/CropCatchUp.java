@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.world;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import javax.annotation.Nonnull;
+
+import growthcraft.api.core.util.RandomUtils;
+import growthcraft.core.common.block.ICropCatchUpBlock;
+
+import net.minecraft.block.Block;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+
+/**
+ * Lets crops catch up on the growth they missed while their chunk was
+ * unloaded.
+ *
+ * Every saved chunk records the world time it was saved at. When the chunk
+ * is loaded again, the elapsed time is queued and, once the chunk and its
+ * neighbours are loaded, every ICropCatchUpBlock in it gets a single
+ * catchUpGrowth call instead of the random ticks it missed.
+ *
+ * A random tick picks 3 of the 4096 positions of a chunk section every tick,
+ * so over n ticks the number of successful growth ticks of a crop is
+ * binomially distributed, which is drawn in one step by drawGrowthSteps.
+ */
+public class CropCatchUp
+{
+	static class Pending
+	{
+		public final int chunkX;
+		public final int chunkZ;
+		public final long savedAt;
+
+		public Pending(int pChunkX, int pChunkZ, long pSavedAt)
+		{
+			this.chunkX = pChunkX;
+			this.chunkZ = pChunkZ;
+			this.savedAt = pSavedAt;
+		}
+	}
+
+	static class PendingList extends ArrayList<Pending>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	static class WorldMap extends HashMap<World, PendingList>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	public static final String NBT_SAVED_AT = "grc_crop_saved_at";
+	public static final double RANDOM_TICK_CHANCE = 3.0 / 4096.0;
+	// crops lit only by the sky see enough light for about half a day
+	public static final float DAYLIGHT_FRACTION = 0.5f;
+
+	private static final CropCatchUp INSTANCE = new CropCatchUp();
+
+	private final Map<World, PendingList> worlds = new WorldMap();
+	private long maxTicks = 168000L;
+
+	public static CropCatchUp instance()
+	{
+		return INSTANCE;
+	}
+
+	/**
+	 * @param ticks - most unloaded ticks a chunk will catch up on
+	 */
+	public void setMaxTicks(long ticks)
+	{
+		this.maxTicks = Math.max(0L, ticks);
+	}
+
+	/**
+	 * Draws how many growth steps a crop takes over the given ticks
+	 *
+	 * @param random - random to draw from
+	 * @param ticks - elapsed ticks
+	 * @param chance - chance of a random tick growing the crop, 0 to 1
+	 * @param max - most steps the crop can take
+	 * @return number of growth steps
+	 */
+	public static int drawGrowthSteps(Random random, long ticks, float chance, int max)
+	{
+		return RandomUtils.binomial(random, ticks, RANDOM_TICK_CHANCE * chance, max);
+	}
+
+	/**
+	 * How much of the elapsed time the position was lit by at least the given
+	 * light level, block light counts all of the time, sky light only for the
+	 * daylight fraction.
+	 *
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @param level - minimum light level
+	 * @return fraction of the time, 0 to 1
+	 */
+	public static float getLitFraction(World world, int x, int y, int z, int level)
+	{
+		if (world.getSavedLightValue(EnumSkyBlock.Block, x, y, z) >= level) return 1.0f;
+		if (world.getSavedLightValue(EnumSkyBlock.Sky, x, y, z) >= level) return DAYLIGHT_FRACTION;
+		return 0.0f;
+	}
+
+	private PendingList getPending(@Nonnull World world)
+	{
+		PendingList list = worlds.get(world);
+		if (list == null)
+		{
+			list = new PendingList();
+			worlds.put(world, list);
+		}
+		return list;
+	}
+
+	private Pending findPending(World world, int chunkX, int chunkZ)
+	{
+		final PendingList list = worlds.get(world);
+		if (list == null) return null;
+		for (Pending pending : list)
+		{
+			if (pending.chunkX == chunkX && pending.chunkZ == chunkZ) return pending;
+		}
+		return null;
+	}
+
+	/**
+	 * Records the save time in the chunk's data, chunks still waiting to
+	 * catch up keep their original time.
+	 *
+	 * @param world - world
+	 * @param chunk - chunk being saved
+	 * @param data - chunk data
+	 */
+	public synchronized void onChunkSave(@Nonnull World world, @Nonnull Chunk chunk, @Nonnull NBTTagCompound data)
+	{
+		final Pending pending = findPending(world, chunk.xPosition, chunk.zPosition);
+		data.setLong(NBT_SAVED_AT, pending != null ? pending.savedAt : world.getTotalWorldTime());
+	}
+
+	/**
+	 * @param world - world
+	 * @param chunk - chunk being loaded
+	 * @param data - chunk data
+	 */
+	public synchronized void onChunkLoad(@Nonnull World world, @Nonnull Chunk chunk, @Nonnull NBTTagCompound data)
+	{
+		if (world.isRemote || !data.hasKey(NBT_SAVED_AT)) return;
+		// an entry left from before the chunk was unloaded is replaced, not doubled
+		removeChunk(world, chunk.xPosition, chunk.zPosition);
+		getPending(world).add(new Pending(chunk.xPosition, chunk.zPosition, data.getLong(NBT_SAVED_AT)));
+	}
+
+	/**
+	 * Unloaded chunks are not removed on ChunkEvent.Unload, forge fires it
+	 * before ChunkDataEvent.Save, and the save still needs the pending entry
+	 * to keep the original time. Entries of chunks that are gone are dropped
+	 * by update instead.
+	 */
+	private void removeChunk(@Nonnull World world, int chunkX, int chunkZ)
+	{
+		final PendingList list = worlds.get(world);
+		if (list == null) return;
+		final Iterator<Pending> it = list.iterator();
+		while (it.hasNext())
+		{
+			final Pending pending = it.next();
+			if (pending.chunkX == chunkX && pending.chunkZ == chunkZ) it.remove();
+		}
+	}
+
+	public synchronized void removeWorld(@Nonnull World world)
+	{
+		worlds.remove(world);
+	}
+
+	private static boolean isNeighbourhoodLoaded(IChunkProvider provider, int chunkX, int chunkZ)
+	{
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dz = -1; dz <= 1; ++dz)
+			{
+				if (!provider.chunkExists(chunkX + dx, chunkZ + dz)) return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<int[]> findCrops(@Nonnull Chunk chunk)
+	{
+		final List<int[]> crops = new ArrayList<int[]>();
+		for (ExtendedBlockStorage storage : chunk.getBlockStorageArray())
+		{
+			// catch up crops tick randomly, sections without random ticking blocks have none
+			if (storage == null || storage.isEmpty() || !storage.getNeedsRandomTick()) continue;
+			for (int y = 0; y < 16; ++y)
+			{
+				for (int z = 0; z < 16; ++z)
+				{
+					for (int x = 0; x < 16; ++x)
+					{
+						final Block block = storage.getBlockByExtId(x, y, z);
+						if (block instanceof ICropCatchUpBlock)
+						{
+							crops.add(new int[] { (chunk.xPosition << 4) + x, storage.getYLocation() + y, (chunk.zPosition << 4) + z });
+						}
+					}
+				}
+			}
+		}
+		return crops;
+	}
+
+	/**
+	 * Lets the queued chunks of the world catch up, chunks whose neighbours
+	 * are not loaded yet stay queued so the crops' surroundings are not
+	 * loaded just to grow them.
+	 *
+	 * @param world - a server world
+	 */
+	public void update(@Nonnull World world)
+	{
+		final List<Pending> ready = new ArrayList<Pending>();
+		synchronized (this)
+		{
+			final PendingList list = worlds.get(world);
+			if (list == null || list.isEmpty()) return;
+			final IChunkProvider provider = world.getChunkProvider();
+			final Iterator<Pending> it = list.iterator();
+			while (it.hasNext())
+			{
+				final Pending pending = it.next();
+				if (!provider.chunkExists(pending.chunkX, pending.chunkZ))
+				{
+					it.remove();
+				}
+				else if (isNeighbourhoodLoaded(provider, pending.chunkX, pending.chunkZ))
+				{
+					it.remove();
+					ready.add(pending);
+				}
+			}
+		}
+
+		final long now = world.getTotalWorldTime();
+		for (Pending pending : ready)
+		{
+			final long ticks = Math.min(now - pending.savedAt, maxTicks);
+			if (ticks <= 0) continue;
+			final Chunk chunk = world.getChunkFromChunkCoords(pending.chunkX, pending.chunkZ);
+			// the crops are collected first, catching up may change the chunk's blocks
+			for (int[] pos : findCrops(chunk))
+			{
+				final Block block = world.getBlock(pos[0], pos[1], pos[2]);
+				if (block instanceof ICropCatchUpBlock)
+				{
+					((ICropCatchUpBlock)block).catchUpGrowth(world, pos[0], pos[1], pos[2], ticks, world.rand);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.world;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import growthcraft.core.common.block.ICropEnvironmentBlock;
+
+import net.minecraft.util.LongHashMap;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+/**
+ * Caches crop growth rates per position, grouped by chunk.
+ *
+ * Every chunk grid keeps a stamp per column, which is bumped whenever a block
+ * in that column or one of its 8 neighbouring columns changes. A cached rate
+ * is valid for as long as its column's stamp is unchanged, so a lookup is a
+ * single stamp compare no matter how large the scan behind the rate is.
+ *
+ * Block changes are reported by CropEnvironmentWorldAccess, changes made
+ * without notifying the world are caught by the entries' maximum age.
+ */
+public class CropEnvironment
+{
+	static class Entry
+	{
+		public ICropEnvironmentBlock crop;
+		public float rate;
+		public int stamp;
+		public long expiresAt;
+	}
+
+	static class EntryMap extends HashMap<Integer, Entry>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	static class ChunkGrid
+	{
+		public final int[] stamps = new int[256];
+		public final EntryMap entries = new EntryMap();
+	}
+
+	static class WorldGrids
+	{
+		public final LongHashMap chunks = new LongHashMap();
+	}
+
+	static class WorldMap extends HashMap<World, WorldGrids>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	private static final CropEnvironment INSTANCE = new CropEnvironment();
+
+	private final Map<World, WorldGrids> worlds = new WorldMap();
+	private boolean enabled = true;
+	private int maxAge = 1200;
+
+	public static CropEnvironment instance()
+	{
+		return INSTANCE;
+	}
+
+	public void setEnabled(boolean bool)
+	{
+		this.enabled = bool;
+		if (!enabled) worlds.clear();
+	}
+
+	/**
+	 * @param age - how many ticks a cached rate may be used for before it is recomputed
+	 */
+	public void setMaxAge(int age)
+	{
+		this.maxAge = Math.max(1, age);
+	}
+
+	private static int columnIndex(int x, int z)
+	{
+		return (x & 15) | ((z & 15) << 4);
+	}
+
+	private static Integer entryKey(int x, int y, int z)
+	{
+		return columnIndex(x, z) | (y << 8);
+	}
+
+	private ChunkGrid getGrid(@Nonnull WorldGrids grids, int x, int z)
+	{
+		return (ChunkGrid)grids.chunks.getValueByKey(ChunkCoordIntPair.chunkXZ2Int(x >> 4, z >> 4));
+	}
+
+	/**
+	 * Starts caching rates for the world
+	 *
+	 * @param world - a server world
+	 */
+	public void addWorld(@Nonnull World world)
+	{
+		if (enabled && !worlds.containsKey(world)) worlds.put(world, new WorldGrids());
+	}
+
+	public void removeWorld(@Nonnull World world)
+	{
+		worlds.remove(world);
+	}
+
+	public void removeChunk(@Nonnull World world, int chunkX, int chunkZ)
+	{
+		final WorldGrids grids = worlds.get(world);
+		if (grids != null) grids.chunks.remove(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+	}
+
+	/**
+	 * Invalidates the cached rates of every position whose column is within
+	 * 1 block of the given position.
+	 *
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 */
+	public void onBlockChanged(@Nonnull World world, int x, int y, int z)
+	{
+		final WorldGrids grids = worlds.get(world);
+		if (grids == null) return;
+		final ChunkGrid own = getGrid(grids, x, z);
+		if (own != null && y >= 0 && y <= 255) own.entries.remove(entryKey(x, y, z));
+		for (int dx = -1; dx <= 1; ++dx)
+		{
+			for (int dz = -1; dz <= 1; ++dz)
+			{
+				final ChunkGrid grid = getGrid(grids, x + dx, z + dz);
+				if (grid != null) grid.stamps[columnIndex(x + dx, z + dz)]++;
+			}
+		}
+	}
+
+	/**
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @param crop - crop at the position
+	 * @return the crop's growth rate, from the cache when it is still valid
+	 */
+	public float getGrowthRate(@Nonnull World world, int x, int y, int z, @Nonnull ICropEnvironmentBlock crop)
+	{
+		final WorldGrids grids = worlds.get(world);
+		if (grids == null || y < 0 || y > 255) return crop.computeGrowthRate(world, x, y, z);
+
+		ChunkGrid grid = getGrid(grids, x, z);
+		if (grid == null)
+		{
+			grid = new ChunkGrid();
+			grids.chunks.add(ChunkCoordIntPair.chunkXZ2Int(x >> 4, z >> 4), grid);
+		}
+
+		final long now = world.getTotalWorldTime();
+		final int stamp = grid.stamps[columnIndex(x, z)];
+		final Integer key = entryKey(x, y, z);
+		Entry entry = grid.entries.get(key);
+		if (entry != null && entry.crop == crop && entry.stamp == stamp && now < entry.expiresAt)
+		{
+			return entry.rate;
+		}
+		if (entry == null)
+		{
+			entry = new Entry();
+			grid.entries.put(key, entry);
+		}
+		entry.crop = crop;
+		entry.rate = crop.computeGrowthRate(world, x, y, z);
+		entry.stamp = stamp;
+		entry.expiresAt = now + maxAge;
+		return entry.rate;
+	}
+}
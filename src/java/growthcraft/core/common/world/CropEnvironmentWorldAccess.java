@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.world;
+
+import growthcraft.core.common.block.ICropEnvironmentBlock;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+import net.minecraft.world.World;
+
+/**
+ * Forwards a server world's block changes to the CropEnvironment.
+ *
+ * Metadata changes of crops are skipped, those are growth stages and do not
+ * change any rate, placing and removing crops is reported by the crops.
+ */
+public class CropEnvironmentWorldAccess implements IWorldAccess
+{
+	private final World world;
+
+	public CropEnvironmentWorldAccess(World pWorld)
+	{
+		this.world = pWorld;
+	}
+
+	@Override
+	public void markBlockForUpdate(int x, int y, int z)
+	{
+		if (world.getBlock(x, y, z) instanceof ICropEnvironmentBlock) return;
+		CropEnvironment.instance().onBlockChanged(world, x, y, z);
+	}
+
+	@Override
+	public void markBlockForRenderUpdate(int x, int y, int z) {}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int x0, int y0, int z0, int x1, int y1, int z1) {}
+
+	@Override
+	public void playSound(String sound, double x, double y, double z, float volume, float pitch) {}
+
+	@Override
+	public void playSoundToNearExcept(EntityPlayer player, String sound, double x, double y, double z, float volume, float pitch) {}
+
+	@Override
+	public void spawnParticle(String name, double x, double y, double z, double vx, double vy, double vz) {}
+
+	@Override
+	public void onEntityCreate(Entity entity) {}
+
+	@Override
+	public void onEntityDestroy(Entity entity) {}
+
+	@Override
+	public void playRecord(String record, int x, int y, int z) {}
+
+	@Override
+	public void broadcastSound(int id, int x, int y, int z, int data) {}
+
+	@Override
+	public void playAuxSFX(EntityPlayer player, int id, int x, int y, int z, int data) {}
+
+	@Override
+	public void destroyBlockPartially(int entityId, int x, int y, int z, int progress) {}
+
+	@Override
+	public void onStaticEntitiesChanged() {}
+}
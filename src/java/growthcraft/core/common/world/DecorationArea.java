@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.common.world;
+
+/**
+ * The blocks a chunk's populate pass may change without loading or
+ * generating any other chunk: the 2x2 chunks starting at the populated one.
+ *
+ * Features are centered on the populated chunk's +8 offset, so they can
+ * reach up to 8 blocks in every direction and stay inside.
+ */
+public class DecorationArea
+{
+	public static final int SIZE = 32;
+
+	public final int minX;
+	public final int minZ;
+
+	public DecorationArea(int chunkX, int chunkZ)
+	{
+		this.minX = chunkX << 4;
+		this.minZ = chunkZ << 4;
+	}
+
+	/**
+	 * @param x - x coord
+	 * @param z - z coord
+	 * @param radius - how far around the coords the feature reaches
+	 * @return true, if the whole footprint is inside the area
+	 */
+	public boolean contains(int x, int z, int radius)
+	{
+		return x - radius >= minX && x + radius < minX + SIZE &&
+			z - radius >= minZ && z + radius < minZ + SIZE;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.eventhandler;
+
+import growthcraft.core.common.world.CropCatchUp;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.relauncher.Side;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Feeds chunk saves and loads to CropCatchUp and runs its queue at the end
+ * of every server world tick, register it with both the forge and fml buses.
+ */
+public class ChunkDataEventCropCatchUp
+{
+	@SubscribeEvent
+	public void onChunkSave(ChunkDataEvent.Save event)
+	{
+		if (event.world.isRemote) return;
+		CropCatchUp.instance().onChunkSave(event.world, event.getChunk(), event.getData());
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkDataEvent.Load event)
+	{
+		CropCatchUp.instance().onChunkLoad(event.world, event.getChunk(), event.getData());
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		CropCatchUp.instance().removeWorld(event.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event)
+	{
+		if (event.phase != TickEvent.Phase.END || event.side != Side.SERVER) return;
+		CropCatchUp.instance().update(event.world);
+	}
+}
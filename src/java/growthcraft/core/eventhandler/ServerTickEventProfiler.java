@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.eventhandler;
+
+import growthcraft.core.GrowthCraftCore;
+import growthcraft.core.profiler.TickProfiler;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+
+/**
+ * Writes the tick profiler report to the log every dumpInterval server ticks.
+ */
+public class ServerTickEventProfiler
+{
+	private final int dumpInterval;
+	private final int reportSize;
+	private int ticks;
+
+	public ServerTickEventProfiler(int pDumpInterval, int pReportSize)
+	{
+		this.dumpInterval = pDumpInterval;
+		this.reportSize = pReportSize;
+	}
+
+	@SubscribeEvent
+	public void onServerTick(TickEvent.ServerTickEvent event)
+	{
+		if (event.phase != TickEvent.Phase.END) return;
+		if (dumpInterval <= 0 || !TickProfiler.isEnabled()) return;
+		if (++ticks < dumpInterval) return;
+		this.ticks = 0;
+		for (String line : TickProfiler.report(reportSize))
+		{
+			GrowthCraftCore.getLogger().info("%s", line);
+		}
+	}
+}
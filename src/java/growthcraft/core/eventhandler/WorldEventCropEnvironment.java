@@ -0,0 +1,58 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.eventhandler;
+
+import growthcraft.core.common.world.CropEnvironment;
+import growthcraft.core.common.world.CropEnvironmentWorldAccess;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+
+/**
+ * Attaches the CropEnvironment to server worlds and drops the cached rates
+ * of chunks and worlds as they unload.
+ */
+public class WorldEventCropEnvironment
+{
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load event)
+	{
+		if (event.world.isRemote) return;
+		CropEnvironment.instance().addWorld(event.world);
+		event.world.addWorldAccess(new CropEnvironmentWorldAccess(event.world));
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		CropEnvironment.instance().removeWorld(event.world);
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload event)
+	{
+		CropEnvironment.instance().removeChunk(event.world, event.getChunk().xPosition, event.getChunk().zPosition);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.network.ByteBufUtils;
+import cpw.mods.fml.common.network.FMLEventChannel;
+import cpw.mods.fml.common.network.FMLNetworkEvent;
+import cpw.mods.fml.common.network.internal.FMLProxyPacket;
+import cpw.mods.fml.common.network.NetworkRegistry;
+import cpw.mods.fml.relauncher.Side;
+import cpw.mods.fml.relauncher.SideOnly;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.inventory.Container;
+
+/**
+ * Carries GUI properties (progress bars) to the client, several properties
+ * are batched into one packet and values are sent as full ints, unlike
+ * vanilla's window property packet which truncates them to shorts.
+ *
+ * Packet layout: windowId (varint), count (varint), then count times:
+ * property id (varint), value (int)
+ */
+public class GuiPropertyChannel
+{
+	public static final String CHANNEL_NAME = "GrCCoreGuiProp";
+
+	private FMLEventChannel channel;
+
+	// Method to call from FMLInitializationEvent
+	public void register()
+	{
+		this.channel = NetworkRegistry.INSTANCE.newEventDrivenChannel(CHANNEL_NAME);
+		channel.register(this);
+	}
+
+	/**
+	 * @param player - player to send to
+	 * @param windowId - id of the player's open container
+	 * @param ids - property ids
+	 * @param values - property values
+	 * @param count - number of properties to send from ids and values
+	 */
+	public void sendTo(EntityPlayerMP player, int windowId, int[] ids, int[] values, int count)
+	{
+		final ByteBuf buffer = Unpooled.buffer(4 + count * 7);
+		ByteBufUtils.writeVarInt(buffer, windowId, 5);
+		ByteBufUtils.writeVarInt(buffer, count, 5);
+		for (int i = 0; i < count; ++i)
+		{
+			ByteBufUtils.writeVarInt(buffer, ids[i], 5);
+			buffer.writeInt(values[i]);
+		}
+		channel.sendTo(new FMLProxyPacket(buffer, CHANNEL_NAME), player);
+	}
+
+	@SideOnly(Side.CLIENT)
+	private void applyToContainer(ByteBuf buffer)
+	{
+		final EntityPlayer player = Minecraft.getMinecraft().thePlayer;
+		if (player == null) return;
+		final Container container = player.openContainer;
+		final int windowId = ByteBufUtils.readVarInt(buffer, 5);
+		// the GUI may have been closed while the packet was on its way
+		if (container == null || container.windowId != windowId) return;
+		final int count = ByteBufUtils.readVarInt(buffer, 5);
+		for (int i = 0; i < count; ++i)
+		{
+			final int id = ByteBufUtils.readVarInt(buffer, 5);
+			final int value = buffer.readInt();
+			container.updateProgressBar(id, value);
+		}
+	}
+
+	@SubscribeEvent
+	@SideOnly(Side.CLIENT)
+	public void onClientPacket(FMLNetworkEvent.ClientCustomPacketEvent event)
+	{
+		applyToContainer(event.packet.payload());
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.profiler;
+
+/**
+ * Log-linear histogram of tick times in nanoseconds, every power of 2 is
+ * split in 8 buckets, so any reported value is within 12.5% of the real one.
+ * Also keeps the slowest samples along with where they happened.
+ */
+public class TickHistogram
+{
+	public static final int SUB_BUCKET_BITS = 3;
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	public static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+	public static final int WORST_COUNT = 5;
+
+	private final long[] buckets = new long[BUCKET_COUNT];
+	private long count;
+	private long total;
+	// slowest samples, sorted slowest first
+	private final long[] worstNanos = new long[WORST_COUNT];
+	private final int[] worstX = new int[WORST_COUNT];
+	private final int[] worstY = new int[WORST_COUNT];
+	private final int[] worstZ = new int[WORST_COUNT];
+
+	public static int bucketFor(long nanos)
+	{
+		if (nanos < SUB_BUCKETS) return (int)Math.max(nanos, 0);
+		final int msb = 63 - Long.numberOfLeadingZeros(nanos);
+		final int sub = (int)(nanos >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (msb - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * @param bucket - bucket index
+	 * @return highest value that lands in the bucket
+	 */
+	public static long bucketUpperBound(int bucket)
+	{
+		if (bucket < SUB_BUCKETS) return bucket;
+		final int msb = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		final long sub = bucket % SUB_BUCKETS;
+		final long low = (1L << msb) | (sub << (msb - SUB_BUCKET_BITS));
+		return low + (1L << (msb - SUB_BUCKET_BITS)) - 1;
+	}
+
+	public void record(long nanos, int x, int y, int z)
+	{
+		buckets[bucketFor(nanos)]++;
+		count++;
+		total += nanos;
+		if (nanos > worstNanos[WORST_COUNT - 1])
+		{
+			int i = WORST_COUNT - 1;
+			while (i > 0 && worstNanos[i - 1] < nanos)
+			{
+				worstNanos[i] = worstNanos[i - 1];
+				worstX[i] = worstX[i - 1];
+				worstY[i] = worstY[i - 1];
+				worstZ[i] = worstZ[i - 1];
+				i--;
+			}
+			worstNanos[i] = nanos;
+			worstX[i] = x;
+			worstY[i] = y;
+			worstZ[i] = z;
+		}
+	}
+
+	public long getCount()
+	{
+		return count;
+	}
+
+	public long getTotal()
+	{
+		return total;
+	}
+
+	public long getMean()
+	{
+		return count > 0 ? total / count : 0;
+	}
+
+	/**
+	 * @param p - percentile in the range 0.0 to 1.0
+	 * @return upper bound of the bucket holding the percentile
+	 */
+	public long getPercentile(double p)
+	{
+		if (count == 0) return 0;
+		final long target = Math.max(1, (long)Math.ceil(p * count));
+		long seen = 0;
+		for (int i = 0; i < buckets.length; ++i)
+		{
+			seen += buckets[i];
+			if (seen >= target) return bucketUpperBound(i);
+		}
+		return worstNanos[0];
+	}
+
+	public long getMax()
+	{
+		return worstNanos[0];
+	}
+
+	public int getWorstCount()
+	{
+		int n = 0;
+		while (n < WORST_COUNT && worstNanos[n] > 0) n++;
+		return n;
+	}
+
+	public long getWorstNanos(int index)
+	{
+		return worstNanos[index];
+	}
+
+	public String getWorstCoords(int index)
+	{
+		return "(" + worstX[index] + ", " + worstY[index] + ", " + worstZ[index] + ")";
+	}
+}
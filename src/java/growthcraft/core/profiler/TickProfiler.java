@@ -0,0 +1,208 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.profiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+import net.minecraft.tileentity.TileEntity;
+
+/**
+ * Records how long Growthcraft tiles and devices take to tick, per class,
+ * section and dimension.
+ *
+ * Only server worlds are recorded, so everything happens on the server
+ * thread. When disabled, begin() and end() cost a field read each.
+ *
+ * Usage:
+ *   final long start = TickProfiler.begin();
+ *   ... work ...
+ *   TickProfiler.end(SomeClass.class, "section", tile, start);
+ */
+public class TickProfiler
+{
+	public static class Entry
+	{
+		public final Class<?> klass;
+		public final String section;
+		public final int dimension;
+		public final TickHistogram histogram = new TickHistogram();
+
+		public Entry(Class<?> pKlass, String pSection, int pDimension)
+		{
+			this.klass = pKlass;
+			this.section = pSection;
+			this.dimension = pDimension;
+		}
+
+		public String getName()
+		{
+			return klass.getSimpleName() + "." + section + " [dim " + dimension + "]";
+		}
+	}
+
+	public static class EntryKey
+	{
+		private final Class<?> klass;
+		private final String section;
+		private final int dimension;
+
+		public EntryKey(Class<?> pKlass, String pSection, int pDimension)
+		{
+			this.klass = pKlass;
+			this.section = pSection;
+			this.dimension = pDimension;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return (klass.hashCode() * 31 + section.hashCode()) * 31 + dimension;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj) return true;
+			if (!(obj instanceof EntryKey)) return false;
+			final EntryKey other = (EntryKey)obj;
+			return klass == other.klass && dimension == other.dimension && section.equals(other.section);
+		}
+	}
+
+	public static class EntryMap extends HashMap<EntryKey, Entry>
+	{
+		public static final long serialVersionUID = 1L;
+	}
+
+	private static volatile boolean enabled;
+	private static EntryMap entries = new EntryMap();
+	private static long startedAt = System.currentTimeMillis();
+
+	private TickProfiler() {}
+
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	public static void setEnabled(boolean b)
+	{
+		enabled = b;
+	}
+
+	/**
+	 * Drops all recorded timings.
+	 */
+	public static void reset()
+	{
+		entries = new EntryMap();
+		startedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * @return the time the profiler was started, 0 if the profiler is off
+	 */
+	public static long begin()
+	{
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * @param klass - class doing the work, usually the tile or device class
+	 * @param section - name of the profiled method
+	 * @param tile - tile being ticked, used for the dimension and coords
+	 * @param start - value returned by begin()
+	 */
+	public static void end(@Nonnull Class<?> klass, @Nonnull String section, @Nonnull TileEntity tile, long start)
+	{
+		if (start == 0 || !enabled) return;
+		final long elapsed = System.nanoTime() - start;
+		if (tile.getWorldObj() == null || tile.getWorldObj().isRemote) return;
+		final int dim = tile.getWorldObj().provider.dimensionId;
+		final EntryKey key = new EntryKey(klass, section, dim);
+		Entry entry = entries.get(key);
+		if (entry == null)
+		{
+			entry = new Entry(klass, section, dim);
+			entries.put(key, entry);
+		}
+		entry.histogram.record(elapsed, tile.xCoord, tile.yCoord, tile.zCoord);
+	}
+
+	/**
+	 * @return recorded entries, most total time first
+	 */
+	public static List<Entry> getSortedEntries()
+	{
+		final List<Entry> result = new ArrayList<Entry>(entries.values());
+		Collections.sort(result, new Comparator<Entry>()
+		{
+			@Override
+			public int compare(Entry a, Entry b)
+			{
+				return Long.compare(b.histogram.getTotal(), a.histogram.getTotal());
+			}
+		});
+		return result;
+	}
+
+	public static String formatNanos(long nanos)
+	{
+		if (nanos >= 1000000L) return String.format("%.2fms", nanos / 1000000.0);
+		if (nanos >= 1000L) return String.format("%.1fus", nanos / 1000.0);
+		return nanos + "ns";
+	}
+
+	/**
+	 * Builds a human readable report of the slowest entries.
+	 *
+	 * @param limit - maximum number of entries to report
+	 * @return report lines
+	 */
+	public static List<String> report(int limit)
+	{
+		final List<String> lines = new ArrayList<String>();
+		final List<Entry> sorted = getSortedEntries();
+		final long seconds = Math.max(1, (System.currentTimeMillis() - startedAt) / 1000);
+		lines.add(String.format("Growthcraft tick profile, %d entries over %ds%s", sorted.size(), seconds, enabled ? "" : " (stopped)"));
+		int n = 0;
+		for (Entry entry : sorted)
+		{
+			if (n++ >= limit) break;
+			final TickHistogram h = entry.histogram;
+			String line = String.format("%s calls=%d total=%s p50=%s p99=%s max=%s",
+				entry.getName(), h.getCount(), formatNanos(h.getTotal()),
+				formatNanos(h.getPercentile(0.50)), formatNanos(h.getPercentile(0.99)), formatNanos(h.getMax()));
+			if (h.getWorstCount() > 0) line += " worst@" + h.getWorstCoords(0);
+			lines.add(line);
+		}
+		return lines;
+	}
+}
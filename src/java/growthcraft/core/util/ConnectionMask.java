@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.core.util;
+
+import java.util.List;
+
+import growthcraft.core.common.block.IBlockRope;
+
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.IBlockAccess;
+import net.minecraftforge.common.util.ForgeDirection;
+
+/**
+ * Helpers for blocks that connect to their neighbours.
+ *
+ * Connections are stored as a 6 bit mask, one bit per ForgeDirection
+ * ordinal, so a block can look at its neighbours once and then use the mask
+ * as an index into precomputed bounding box tables.
+ * Boxes in those tables are float[6] {minX, minY, minZ, maxX, maxY, maxZ}.
+ */
+public class ConnectionMask
+{
+	public static final int DOWN = 1 << ForgeDirection.DOWN.ordinal();
+	public static final int UP = 1 << ForgeDirection.UP.ordinal();
+	public static final int NORTH = 1 << ForgeDirection.NORTH.ordinal();
+	public static final int SOUTH = 1 << ForgeDirection.SOUTH.ordinal();
+	public static final int WEST = 1 << ForgeDirection.WEST.ordinal();
+	public static final int EAST = 1 << ForgeDirection.EAST.ordinal();
+	public static final int HORIZONTAL = NORTH | SOUTH | WEST | EAST;
+	public static final int ALL = DOWN | UP | HORIZONTAL;
+	public static final int SIZE = ALL + 1;
+
+	private ConnectionMask() {}
+
+	public static boolean has(int mask, int bits)
+	{
+		return (mask & bits) != 0;
+	}
+
+	/**
+	 * @param rope - rope block doing the checks
+	 * @param world - world
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @param sides - mask of the sides that should be checked
+	 * @return mask of the sides the rope can connect to
+	 */
+	public static int getRopeMask(IBlockRope rope, IBlockAccess world, int x, int y, int z, int sides)
+	{
+		int mask = 0;
+		for (ForgeDirection dir : ForgeDirection.VALID_DIRECTIONS)
+		{
+			final int bit = 1 << dir.ordinal();
+			if ((sides & bit) == 0) continue;
+			if (rope.canConnectRopeTo(world, x + dir.offsetX, y + dir.offsetY, z + dir.offsetZ)) mask |= bit;
+		}
+		return mask;
+	}
+
+	/**
+	 * Door metadata only holds the facing in the bottom half, the top half
+	 * is looked up from the block below.
+	 *
+	 * @param world - world
+	 * @param x - x coord of the door
+	 * @param y - y coord of the door
+	 * @param z - z coord of the door
+	 * @return door facing (0 - 3)
+	 */
+	public static int getDoorFacing(IBlockAccess world, int x, int y, int z)
+	{
+		int meta = world.getBlockMetadata(x, y, z);
+		if ((meta & 8) != 0)
+		{
+			meta = world.getBlockMetadata(x, y - 1, z);
+		}
+		return meta & 3;
+	}
+
+	public static float[] box(float minX, float minY, float minZ, float maxX, float maxY, float maxZ)
+	{
+		return new float[] { minX, minY, minZ, maxX, maxY, maxZ };
+	}
+
+	/**
+	 * Adds the boxes that intersect the given mask box to the list, this is
+	 * the same thing Block.addCollisionBoxesToList does for its own bounds.
+	 *
+	 * @param boxes - boxes relative to the block
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @param aabb - mask box
+	 * @param list - list to add the boxes to
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static void addCollisionBoxes(float[][] boxes, int x, int y, int z, AxisAlignedBB aabb, List list)
+	{
+		for (float[] b : boxes)
+		{
+			final AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x + b[0], y + b[1], z + b[2], x + b[3], y + b[4], z + b[5]);
+			if (aabb.intersectsWith(box)) list.add(box);
+		}
+	}
+}
@@ -23,6 +23,7 @@
  */
 package growthcraft.core.util;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Random;
 
@@ -40,6 +41,9 @@ public class SchemaToVillage
 	public static interface IVillage
 	{
 		public void placeBlockAtCurrentPositionPub(World world, Block block, int meta, int x, int y, int z, StructureBoundingBox box);
+		public int getXWithOffsetPub(int x, int z);
+		public int getYWithOffsetPub(int y);
+		public int getZWithOffsetPub(int x, int z);
 	}
 
 	public static interface IBlockEntries
@@ -98,41 +102,202 @@ public class SchemaToVillage
 		}
 	}
 
-	public static void drawSchema(IVillage village, World world, Random random, StructureBoundingBox box, String[][] schema, Map<Character, IBlockEntries> map, int offx, int offy, int offz)
+	/**
+	 * A schema that has been flattened into palette indices, with the bounds
+	 * of every layer and row worked out ahead of time.
+	 *
+	 * The block entries are still looked up when drawing, since most of them
+	 * depend on the orientation of the component, but only once per palette
+	 * character instead of once per cell.
+	 * Spaces are always treated as empty cells.
+	 */
+	public static class CompiledSchema
 	{
-		// loop by schema layer
-		for (int y = 0; y < schema.length; ++y)
+		private final int width;
+		private final int height;
+		private final int depth;
+		private final char[] palette;
+		// palette index + 1 for each cell, 0 for empty cells
+		private final byte[] cells;
+		// min and max x of each row, indexed by (y * depth + z), -1 if the row is empty
+		private final int[] rowMinX;
+		private final int[] rowMaxX;
+		// min and max x and z of each layer, -1 if the layer is empty
+		private final int[] layerMinX;
+		private final int[] layerMaxX;
+		private final int[] layerMinZ;
+		private final int[] layerMaxZ;
+
+		public CompiledSchema(String[][] schema)
+		{
+			int w = 0;
+			int d = 0;
+			for (String[] layer : schema)
+			{
+				d = Math.max(d, layer.length);
+				for (String row : layer) w = Math.max(w, row.length());
+			}
+			this.width = w;
+			this.height = schema.length;
+			this.depth = d;
+			this.cells = new byte[width * height * depth];
+			this.rowMinX = new int[height * depth];
+			this.rowMaxX = new int[height * depth];
+			this.layerMinX = new int[height];
+			this.layerMaxX = new int[height];
+			this.layerMinZ = new int[height];
+			this.layerMaxZ = new int[height];
+			Arrays.fill(rowMinX, -1);
+			Arrays.fill(rowMaxX, -1);
+			Arrays.fill(layerMinX, -1);
+			Arrays.fill(layerMaxX, -1);
+			Arrays.fill(layerMinZ, -1);
+			Arrays.fill(layerMaxZ, -1);
+
+			final StringBuilder chars = new StringBuilder();
+			for (int y = 0; y < height; ++y)
+			{
+				final String[] layer = schema[y];
+				for (int z = 0; z < layer.length; ++z)
+				{
+					final String row = layer[z];
+					final int rowIndex = y * depth + z;
+					for (int x = 0; x < row.length(); ++x)
+					{
+						final char c = row.charAt(x);
+						if (c == ' ') continue;
+						int index = chars.indexOf(String.valueOf(c));
+						if (index < 0)
+						{
+							index = chars.length();
+							if (index >= 255)
+							{
+								throw new IllegalArgumentException("Schema uses too many different characters");
+							}
+							chars.append(c);
+						}
+						cells[rowIndex * width + x] = (byte)(index + 1);
+						if (rowMinX[rowIndex] < 0) rowMinX[rowIndex] = x;
+						rowMaxX[rowIndex] = x;
+					}
+					if (rowMinX[rowIndex] >= 0)
+					{
+						if (layerMinX[y] < 0 || rowMinX[rowIndex] < layerMinX[y]) layerMinX[y] = rowMinX[rowIndex];
+						if (rowMaxX[rowIndex] > layerMaxX[y]) layerMaxX[y] = rowMaxX[rowIndex];
+						if (layerMinZ[y] < 0) layerMinZ[y] = z;
+						layerMaxZ[y] = z;
+					}
+				}
+			}
+			this.palette = chars.toString().toCharArray();
+		}
+
+		public int getWidth()
+		{
+			return width;
+		}
+
+		public int getHeight()
+		{
+			return height;
+		}
+
+		public int getDepth()
+		{
+			return depth;
+		}
+
+		private static boolean intersects(IVillage village, StructureBoundingBox box, int x0, int z0, int x1, int z1)
+		{
+			// the corners are rotated by the component, so sort them again afterwards
+			final int ax = village.getXWithOffsetPub(x0, z0);
+			final int az = village.getZWithOffsetPub(x0, z0);
+			final int bx = village.getXWithOffsetPub(x1, z1);
+			final int bz = village.getZWithOffsetPub(x1, z1);
+			return box.intersectsWith(Math.min(ax, bx), Math.min(az, bz), Math.max(ax, bx), Math.max(az, bz));
+		}
+
+		public void draw(IVillage village, World world, Random random, StructureBoundingBox box, Map<Character, IBlockEntries> map, int offx, int offy, int offz)
 		{
-			final String[] layer = schema[y];
-			// then loop by schema layer-row
-			for (int z = 0; z < layer.length; ++z)
+			// resolve the palette, entries with a single block are resolved
+			// once, the rest are picked per cell as before
+			final Block[] blocks = new Block[palette.length];
+			final int[] metas = new int[palette.length];
+			final IBlockEntries[] pickers = new IBlockEntries[palette.length];
+			for (int i = 0; i < palette.length; ++i)
 			{
-				final String row = layer[z];
-				// finally loop by schema layer-row-cell
-				for (int x = 0; x < row.length(); ++x)
+				final IBlockEntries entries = map.get(palette[i]);
+				if (entries instanceof BlockEntry)
 				{
-					int meta = 0;
-					Block block = null;
-					final IBlockEntries entries = map.get(row.charAt(x));
-					// look out for null entries, though by right we should
-					// warn about these.
-					if (entries != null)
+					blocks[i] = ((BlockEntry)entries).getBlock();
+					metas[i] = ((BlockEntry)entries).getMetadata();
+				}
+				else
+				{
+					pickers[i] = entries;
+				}
+			}
+
+			for (int y = 0; y < height; ++y)
+			{
+				if (layerMinX[y] < 0) continue;
+				final int worldY = village.getYWithOffsetPub(offy + y);
+				if (worldY < box.minY || worldY > box.maxY) continue;
+				if (!intersects(village, box, offx + layerMinX[y], offz + layerMinZ[y], offx + layerMaxX[y], offz + layerMaxZ[y])) continue;
+
+				for (int z = layerMinZ[y]; z <= layerMaxZ[y]; ++z)
+				{
+					final int rowIndex = y * depth + z;
+					if (rowMinX[rowIndex] < 0) continue;
+					if (!intersects(village, box, offx + rowMinX[rowIndex], offz + z, offx + rowMaxX[rowIndex], offz + z)) continue;
+
+					final int base = rowIndex * width;
+					for (int x = rowMinX[rowIndex]; x <= rowMaxX[rowIndex]; ++x)
 					{
-						final BlockEntry entry = entries.getBlockEntry(random);
-						// a null entry is possible, for "Ignore the this block"
-						if (entry != null)
+						final int cell = cells[base + x] & 0xFF;
+						if (cell == 0) continue;
+						final int index = cell - 1;
+						Block block = blocks[index];
+						int meta = metas[index];
+						if (pickers[index] != null)
 						{
+							final BlockEntry entry = pickers[index].getBlockEntry(random);
+							// a null entry is possible, for "Ignore the this block"
+							if (entry == null) continue;
 							block = entry.getBlock();
 							meta = entry.getMetadata();
 						}
-					}
-					// null blocks are not placed
-					if (block != null) {
-						village.placeBlockAtCurrentPositionPub(world, block, meta, offx + x, offy + y, offz + z, box);
+						// null blocks are not placed
+						if (block != null)
+						{
+							village.placeBlockAtCurrentPositionPub(world, block, meta, offx + x, offy + y, offz + z, box);
+						}
 					}
 				}
 			}
 		}
+
+		public void draw(IVillage village, World world, Random random, StructureBoundingBox box, Map<Character, IBlockEntries> map)
+		{
+			draw(village, world, random, box, map, 0, 0, 0);
+		}
+	}
+
+	/**
+	 * Compiles a schema for repeated drawing, components should keep the
+	 * result around instead of calling drawSchema with the raw strings.
+	 *
+	 * @param schema - schema layers, rows and cells
+	 * @return compiled schema
+	 */
+	public static CompiledSchema compile(String[][] schema)
+	{
+		return new CompiledSchema(schema);
+	}
+
+	public static void drawSchema(IVillage village, World world, Random random, StructureBoundingBox box, String[][] schema, Map<Character, IBlockEntries> map, int offx, int offy, int offz)
+	{
+		compile(schema).draw(village, world, random, box, map, offx, offy, offz);
 	}
 
 	public static void drawSchema(IVillage village, World world, Random random, StructureBoundingBox box, String[][] schema, Map<Character, IBlockEntries> map)
@@ -13,6 +13,9 @@ public class GrcFishtrapConfig extends ConfigBase
 	@ConfigOption(catergory="Fish Trap", name="Biomes (IDs) That Increases Fish Trap Productivity", desc="Separate the IDs with ';' (without the quote marks)")
 	public String biomesList = "0;7;24";
 
+	@ConfigOption(catergory="Fish Trap", name="Catch Model Recheck Period", desc="How many ticks can a fish trap reuse its catch rate and biome check before reading its surroundings again? Direct neighbour changes always trigger a recheck. (0 to recheck on every catch)")
+	public int catchModelRecheckPeriod = 12000;
+
 
 	@ConfigOption(catergory="Integration", name="Enable Thaumcraft Integration", desc="Should we integrate with Thaumcraft (if available)?")
 	public boolean enableThaumcraftIntegration = true;
@@ -4,6 +4,7 @@ import growthcraft.api.core.log.GrcLogger;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.module.ModuleContainer;
 import growthcraft.api.fishtrap.FishTrapEntry;
+import growthcraft.api.fishtrap.FishTrapRegistry;
 import growthcraft.api.fishtrap.user.UserFishTrapConfig;
 import growthcraft.core.common.definition.BlockDefinition;
 import growthcraft.fishtrap.client.gui.GuiHandlerFishTrap;
@@ -132,5 +133,6 @@ public class GrowthCraftFishTrap
 	public void postload(FMLPostInitializationEvent event)
 	{
 		modules.postInit();
+		FishTrapRegistry.instance().freeze();
 	}
 }
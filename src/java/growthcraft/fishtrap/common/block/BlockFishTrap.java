@@ -61,15 +61,34 @@ public class BlockFishTrap extends BlockContainer
 
 		if (te != null)
 		{
-			if (canCatch(world, x, y, z))
+			updateCatchModel(world, x, y, z, te);
+			if (te.getCachedCanCatch())
 			{
 				doCatch(world, x, y, z, random, te, false);
 			}
 		}
 	}
 
-	private void doCatch(World world, int x, int y, int z, Random random, TileEntityFishTrap te, boolean debugFlag)
+	@Override
+	public void onNeighborBlockChange(World world, int x, int y, int z, Block block)
+	{
+		super.onNeighborBlockChange(world, x, y, z, block);
+		final TileEntity te = world.getTileEntity(x, y, z);
+		if (te instanceof TileEntityFishTrap)
+		{
+			((TileEntityFishTrap)te).invalidateCatchModel();
+		}
+	}
+
+	/**
+	 * The water around the trap and its biome rarely change, so they are only
+	 * read again when a neighbour changes or the recheck period runs out.
+	 */
+	private void updateCatchModel(World world, int x, int y, int z, TileEntityFishTrap te)
 	{
+		final long time = world.getTotalWorldTime();
+		if (te.hasCatchModel(time, GrowthCraftFishTrap.getConfig().catchModelRecheckPeriod)) return;
+
 		float f = this.getCatchRate(world, x, y, z);
 		boolean flag;
 		if (GrowthCraftFishTrap.getConfig().useBiomeDict)
@@ -86,6 +105,12 @@ public class BlockFishTrap extends BlockContainer
 		{
 			f *= 1 + (75 / 100);
 		}
+		te.setCatchModel(canCatch(world, x, y, z), f, time);
+	}
+
+	private void doCatch(World world, int x, int y, int z, Random random, TileEntityFishTrap te, boolean debugFlag)
+	{
+		final float f = te.getCachedCatchRate();
 
 		if (random.nextInt((int)(this.chance / f) + 1) == 0 || debugFlag)
 		{
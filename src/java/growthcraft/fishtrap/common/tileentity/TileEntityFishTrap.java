@@ -15,6 +15,12 @@ public class TileEntityFishTrap extends TileEntity implements IInventory
 	// Other Vars.
 	private String   name;
 
+	// Cached catch model, maintained by BlockFishTrap
+	private boolean catchModelValid;
+	private long catchModelTime;
+	private boolean catchModelCanCatch;
+	private float catchModelRate;
+
 	/************
 	 * UPDATE
 	 ************/
@@ -24,6 +30,39 @@ public class TileEntityFishTrap extends TileEntity implements IInventory
 		return false;
 	}
 
+	/**
+	 * @param worldTime - current total world time
+	 * @param period - how long a model may be reused, in ticks
+	 * @return true if the cached catch model can be used
+	 */
+	public boolean hasCatchModel(long worldTime, int period)
+	{
+		return catchModelValid && worldTime - catchModelTime < period;
+	}
+
+	public void setCatchModel(boolean canCatch, float rate, long worldTime)
+	{
+		this.catchModelCanCatch = canCatch;
+		this.catchModelRate = rate;
+		this.catchModelTime = worldTime;
+		this.catchModelValid = true;
+	}
+
+	public void invalidateCatchModel()
+	{
+		this.catchModelValid = false;
+	}
+
+	public boolean getCachedCanCatch()
+	{
+		return catchModelCanCatch;
+	}
+
+	public float getCachedCatchRate()
+	{
+		return catchModelRate;
+	}
+
 	public boolean canAddStack(ItemStack stack, int index)
 	{
 		if (this.invSlots[index] == null) return true;
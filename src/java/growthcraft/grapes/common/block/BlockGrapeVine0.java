@@ -2,6 +2,7 @@ package growthcraft.grapes.common.block;
 
 import growthcraft.api.core.util.BlockFlags;
 import growthcraft.api.core.util.RenderType;
+import growthcraft.core.common.world.CropCatchUp;
 import growthcraft.grapes.GrowthCraftGrapes;
 
 import cpw.mods.fml.relauncher.Side;
@@ -42,6 +43,18 @@ public class BlockGrapeVine0 extends BlockGrapeVineBase
 		return world.getBlockLightValue(x, y + 1, z) >= 9;
 	}
 
+	@Override
+	protected boolean canCatchUpGrowth(World world, int x, int y, int z)
+	{
+		return true;
+	}
+
+	@Override
+	protected float getCatchUpChance(World world, int x, int y, int z)
+	{
+		return CropCatchUp.getLitFraction(world, x, y + 1, z, 9);
+	}
+
 	@Override
 	protected void doGrowth(World world, int x, int y, int z, int meta)
 	{
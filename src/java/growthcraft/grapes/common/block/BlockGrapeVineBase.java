@@ -2,7 +2,11 @@ package growthcraft.grapes.common.block;
 
 import java.util.Random;
 
+import growthcraft.core.common.block.ICropCatchUpBlock;
 import growthcraft.core.common.block.ICropDataProvider;
+import growthcraft.core.common.block.ICropEnvironmentBlock;
+import growthcraft.core.common.world.CropCatchUp;
+import growthcraft.core.common.world.CropEnvironment;
 import growthcraft.core.integration.AppleCore;
 import growthcraft.core.util.BlockCheck;
 import growthcraft.api.core.util.BlockFlags;
@@ -22,7 +26,7 @@ import net.minecraftforge.common.EnumPlantType;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.util.ForgeDirection;
 
-public abstract class BlockGrapeVineBase extends Block implements IPlantable, ICropDataProvider, IGrowable
+public abstract class BlockGrapeVineBase extends Block implements IPlantable, ICropDataProvider, ICropEnvironmentBlock, ICropCatchUpBlock, IGrowable
 {
 	private ItemStack itemDrop;
 	private float growthRateMultiplier;
@@ -136,12 +140,32 @@ public abstract class BlockGrapeVineBase extends Block implements IPlantable, IC
 		return f;
 	}
 
+	@Override
+	public float computeGrowthRate(World world, int x, int y, int z)
+	{
+		return getGrowthRate(world, x, y, z);
+	}
+
 	@Override
 	public boolean canBlockStay(World world, int x, int y, int z)
 	{
 		return BlockCheck.canSustainPlant(world, x, y - 1, z, ForgeDirection.UP, this);
 	}
 
+	@Override
+	public void onBlockAdded(World world, int x, int y, int z)
+	{
+		super.onBlockAdded(world, x, y, z);
+		CropEnvironment.instance().onBlockChanged(world, x, y, z);
+	}
+
+	@Override
+	public void breakBlock(World world, int x, int y, int z, Block block, int meta)
+	{
+		CropEnvironment.instance().onBlockChanged(world, x, y, z);
+		super.breakBlock(world, x, y, z, block, meta);
+	}
+
 	@Override
 	public void onNeighborBlockChange(World world, int x, int y, int z, Block par5)
 	{
@@ -224,7 +248,7 @@ public abstract class BlockGrapeVineBase extends Block implements IPlantable, IC
 				return;
 
 			final int meta = world.getBlockMetadata(x, y, z);
-			final float f = this.getGrowthRate(world, x, y, z);
+			final float f = CropEnvironment.instance().getGrowthRate(world, x, y, z, this);
 
 			final boolean continueGrowth = random.nextInt((int)(getGrowthRateMultiplier() / f) + 1) == 0;
 			if (Event.Result.ALLOW == allowGrowthResult || continueGrowth)
@@ -234,6 +258,53 @@ public abstract class BlockGrapeVineBase extends Block implements IPlantable, IC
 		}
 	}
 
+	/**
+	 * Are the conditions right for this plant to catch up on missed growth?
+	 * Conditions that only hold for part of the day (light) should be left to
+	 * getCatchUpChance instead.
+	 *
+	 * @param world - world with block
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @return true, it can grow, false otherwise
+	 */
+	protected boolean canCatchUpGrowth(World world, int x, int y, int z)
+	{
+		return canUpdateGrowth(world, x, y, z);
+	}
+
+	/**
+	 * @param world - world with block
+	 * @param x - x coord
+	 * @param y - y coord
+	 * @param z - z coord
+	 * @return fraction of the elapsed time the plant could grow in, 0 to 1
+	 */
+	protected float getCatchUpChance(World world, int x, int y, int z)
+	{
+		return 1.0f;
+	}
+
+	/**
+	 * Growth steps are applied through doGrowth, stopping once the vine turns
+	 * into another block or can no longer grow.
+	 */
+	@Override
+	public void catchUpGrowth(World world, int x, int y, int z, long ticks, Random random)
+	{
+		if (!canCatchUpGrowth(world, x, y, z)) return;
+		final float f = CropEnvironment.instance().getGrowthRate(world, x, y, z, this);
+		final float chance = getCatchUpChance(world, x, y, z) / ((int)(getGrowthRateMultiplier() / f) + 1);
+		// a vine block never takes more than 2 steps before it turns into or places another block
+		final int steps = CropCatchUp.drawGrowthSteps(random, ticks, chance, 2);
+		for (int i = 0; i < steps; ++i)
+		{
+			if (world.getBlock(x, y, z) != this || !canCatchUpGrowth(world, x, y, z)) break;
+			doGrowth(world, x, y, z, world.getBlockMetadata(x, y, z));
+		}
+	}
+
 	/* Can this accept bonemeal? */
 	@Override
 	public boolean func_149851_a(World world, int x, int y, int z, boolean isClient)
@@ -6,6 +6,10 @@ import java.util.Random;
 
 import growthcraft.core.common.block.IBlockRope;
 import growthcraft.core.common.block.ICropDataProvider;
+import growthcraft.core.common.block.ICropCatchUpBlock;
+import growthcraft.core.common.block.ICropEnvironmentBlock;
+import growthcraft.core.common.world.CropCatchUp;
+import growthcraft.core.common.world.CropEnvironment;
 import growthcraft.core.GrowthCraftCore;
 import growthcraft.core.integration.AppleCore;
 import growthcraft.core.util.BlockCheck;
@@ -34,7 +38,7 @@ import net.minecraftforge.common.EnumPlantType;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.util.ForgeDirection;
 
-public class BlockHops extends Block implements IBlockRope, IPlantable, ICropDataProvider, IGrowable
+public class BlockHops extends Block implements IBlockRope, IPlantable, ICropDataProvider, ICropEnvironmentBlock, ICropCatchUpBlock, IGrowable
 {
 	public static class HopsStage
 	{
@@ -104,7 +108,7 @@ public class BlockHops extends Block implements IBlockRope, IPlantable, ICropDat
 				return;
 
 			final int meta = world.getBlockMetadata(x, y, z);
-			final float f = this.getGrowthRateLoop(world, x, y, z);
+			final float f = CropEnvironment.instance().getGrowthRate(world, x, y, z, this);
 
 			if (meta < HopsStage.BIG)
 			{
@@ -130,6 +134,31 @@ public class BlockHops extends Block implements IBlockRope, IPlantable, ICropDat
 		}
 	}
 
+	/**
+	 * Only the bine's own stages are caught up on, spreading to the rope
+	 * above is left to the regular ticks.
+	 */
+	@Override
+	public void catchUpGrowth(World world, int x, int y, int z, long ticks, Random random)
+	{
+		if (!this.canBlockStay(world, x, y, z)) return;
+		final int meta = world.getBlockMetadata(x, y, z);
+		final float f = CropEnvironment.instance().getGrowthRate(world, x, y, z, this);
+		int steps = 0;
+		if (meta < HopsStage.BIG)
+		{
+			steps = CropCatchUp.drawGrowthSteps(random, ticks, 1.0f / ((int)(this.hopVineGrowthRate / f) + 1), HopsStage.BIG - meta);
+		}
+		else if (meta < HopsStage.FRUIT && !canSpreadLeaves(world, x, y, z))
+		{
+			steps = CropCatchUp.drawGrowthSteps(random, ticks, 1.0f / ((int)(this.hopVineFlowerSpawnRate / f) + 1), HopsStage.FRUIT - meta);
+		}
+		for (int i = 0; i < steps; ++i)
+		{
+			incrementGrowth(world, x, y, z, meta + i);
+		}
+	}
+
 	/* Both side */
 	@Override
 	public boolean func_149851_a(World world, int x, int y, int z, boolean isClient)
@@ -164,7 +193,11 @@ public class BlockHops extends Block implements IBlockRope, IPlantable, ICropDat
 		}
 	}
 
-	private float getGrowthRateLoop(World world, int x, int y, int z)
+	/**
+	 * The rate of a bine is taken from its root, up to 4 blocks below it
+	 */
+	@Override
+	public float computeGrowthRate(World world, int x, int y, int z)
 	{
 		if (BlockCheck.canSustainPlant(world, x, y - 1, z, ForgeDirection.UP, this))
 		{
@@ -241,6 +274,20 @@ public class BlockHops extends Block implements IBlockRope, IPlantable, ICropDat
 	/************
 	 * TRIGGERS
 	 ************/
+	@Override
+	public void onBlockAdded(World world, int x, int y, int z)
+	{
+		super.onBlockAdded(world, x, y, z);
+		CropEnvironment.instance().onBlockChanged(world, x, y, z);
+	}
+
+	@Override
+	public void breakBlock(World world, int x, int y, int z, Block block, int meta)
+	{
+		CropEnvironment.instance().onBlockChanged(world, x, y, z);
+		super.breakBlock(world, x, y, z, block, meta);
+	}
+
 	@Override
 	public boolean onBlockActivated(World world, int x, int y, int z, EntityPlayer player, int dir, float par7, float par8, float par9)
 	{
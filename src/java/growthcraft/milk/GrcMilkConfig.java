@@ -89,6 +89,10 @@ public class GrcMilkConfig extends ConfigBase
 	public int cheeseItemPerBlockSlice = 8;
 
 
+	@ConfigOption(catergory="Client", name="Machine Animation Distance", desc="Up to how many blocks away are the butter churn and cheese press animated? Machines further away are drawn without their animation.")
+	public int machineAnimationDistance = 32;
+
+
 	@ConfigOption(catergory="Integration", name="Enable Waila Integration", desc="Should we integrate with Waila (if available)?")
 	public boolean enableWailaIntegration = true;
 
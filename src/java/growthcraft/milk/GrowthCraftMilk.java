@@ -27,6 +27,7 @@ import growthcraft.api.core.log.GrcLogger;
 import growthcraft.api.core.log.ILogger;
 import growthcraft.api.core.module.ModuleContainer;
 import growthcraft.api.milk.MilkRegistry;
+import growthcraft.core.common.tileentity.GrcTileEntityBase;
 import growthcraft.milk.client.handler.GrcMilkHandleTextureStitch;
 import growthcraft.milk.common.CommonProxy;
 import growthcraft.milk.common.tileentity.TileEntityButterChurn;
@@ -132,6 +133,12 @@ public class GrowthCraftMilk
 		GameRegistry.registerTileEntity(TileEntityCheeseVat.class, "grcmilk.tileentity.CheeseVat");
 		GameRegistry.registerTileEntity(TileEntityHangingCurds.class, "grcmilk.tileentity.HangingCurds");
 		GameRegistry.registerTileEntity(TileEntityPancheon.class, "grcmilk.tileentity.Pancheon");
+		GrcTileEntityBase.registerHandlers(TileEntityButterChurn.class);
+		GrcTileEntityBase.registerHandlers(TileEntityCheeseBlock.class);
+		GrcTileEntityBase.registerHandlers(TileEntityCheesePress.class);
+		GrcTileEntityBase.registerHandlers(TileEntityCheeseVat.class);
+		GrcTileEntityBase.registerHandlers(TileEntityHangingCurds.class);
+		GrcTileEntityBase.registerHandlers(TileEntityPancheon.class);
 	}
 
 	@EventHandler
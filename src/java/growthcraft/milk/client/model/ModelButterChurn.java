@@ -1,6 +1,7 @@
 package growthcraft.milk.client.model;
 
 import growthcraft.api.core.util.Easing;
+import growthcraft.core.client.renderer.ModelDisplayList;
 
 import net.minecraft.client.model.ModelBase;
 import net.minecraft.client.model.ModelRenderer;
@@ -14,6 +15,9 @@ import org.lwjgl.opengl.GL11;
 public class ModelButterChurn extends ModelBase
 {
 	public static final float SCALE = 1.0f / 16.0f;
+	private final ModelDisplayList staticList = new ModelDisplayList();
+	// the model with its moving parts fully out (0) and fully in (1)
+	private final ModelDisplayList[] settledLists = { new ModelDisplayList(), new ModelDisplayList() };
 	public ModelRenderer shape1;
 	public ModelRenderer shape1_1;
 	public ModelRenderer shape1_2;
@@ -84,8 +88,12 @@ public class ModelButterChurn extends ModelBase
 	@Override
 	public void render(Entity entity, float progress, float progressDir, float f2, float f3, float f4, float scale)
 	{
-		final float eased = (float)((progressDir < 0) ? Easing.d.cubicIn : Easing.d.cubicOut).call(progress);
+		drawStatic(scale);
+		renderAnimated(progress, progressDir, scale);
+	}
 
+	private void drawStatic(float scale)
+	{
 		this.shape17_4.render(scale);
 		GL11.glPushMatrix();
 		{
@@ -172,6 +180,52 @@ public class ModelButterChurn extends ModelBase
 		GL11.glPopMatrix();
 
 		this.shape17_5.render(scale);
+	}
+
+	/**
+	 * Renders the parts that never move from a display list
+	 *
+	 * @param scale - model scale
+	 */
+	public void renderStatic(float scale)
+	{
+		if (staticList.begin())
+		{
+			drawStatic(scale);
+			staticList.end();
+		}
+	}
+
+	/**
+	 * Renders the whole model from a display list, with its moving parts
+	 * snapped to the nearest end of their animation, used when the machine
+	 * is too far away for the animation to be seen.
+	 *
+	 * @param progress - animation progress
+	 * @param scale - model scale
+	 */
+	public void renderSettled(float progress, float scale)
+	{
+		final int pose = progress >= 0.5f ? 1 : 0;
+		final ModelDisplayList list = settledLists[pose];
+		if (list.begin())
+		{
+			drawStatic(scale);
+			renderAnimated(pose, 1.0f, scale);
+			list.end();
+		}
+	}
+
+	/**
+	 * Renders the plunger
+	 *
+	 * @param progress - animation progress
+	 * @param progressDir - animation direction
+	 * @param scale - model scale
+	 */
+	public void renderAnimated(float progress, float progressDir, float scale)
+	{
+		final float eased = (float)((progressDir < 0) ? Easing.d.cubicIn : Easing.d.cubicOut).call(progress);
 
 		GL11.glPushMatrix();
 		{
@@ -1,5 +1,7 @@
 package growthcraft.milk.client.model;
 
+import growthcraft.core.client.renderer.ModelDisplayList;
+
 import net.minecraft.client.model.ModelBase;
 import net.minecraft.client.model.ModelRenderer;
 import net.minecraft.entity.Entity;
@@ -11,6 +13,7 @@ import net.minecraft.entity.Entity;
 public class ModelCheeseVat extends ModelBase
 {
 	public static final float SCALE = 1.0f / 16.0f;
+	private final ModelDisplayList staticList = new ModelDisplayList();
 	public ModelRenderer base;
 	public ModelRenderer side2;
 	public ModelRenderer side3;
@@ -44,11 +47,30 @@ public class ModelCheeseVat extends ModelBase
 	@Override
 	public void render(Entity entity, float f, float f1, float f2, float f3, float f4, float f5)
 	{
-		this.side1.render(f5);
-		this.side4.render(f5);
-		this.side2.render(f5);
-		this.base.render(f5);
-		this.side3.render(f5);
+		drawStatic(f5);
+	}
+
+	private void drawStatic(float scale)
+	{
+		this.side1.render(scale);
+		this.side4.render(scale);
+		this.side2.render(scale);
+		this.base.render(scale);
+		this.side3.render(scale);
+	}
+
+	/**
+	 * Renders the model from its display list, the model has no moving parts
+	 *
+	 * @param scale - model scale
+	 */
+	public void renderStatic(float scale)
+	{
+		if (staticList.begin())
+		{
+			drawStatic(scale);
+			staticList.end();
+		}
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package growthcraft.milk.client.model;
 
+import growthcraft.core.client.renderer.ModelDisplayList;
+
 import net.minecraft.client.model.ModelBase;
 import net.minecraft.client.model.ModelRenderer;
 import net.minecraft.entity.Entity;
@@ -11,6 +13,7 @@ import net.minecraft.entity.Entity;
 public class ModelPancheon extends ModelBase
 {
 	public static final float SCALE = 1.0f / 16.0f;
+	private final ModelDisplayList staticList = new ModelDisplayList();
 	public ModelRenderer side2;
 	public ModelRenderer base;
 	public ModelRenderer side3;
@@ -40,6 +43,11 @@ public class ModelPancheon extends ModelBase
 
 	@Override
 	public void render(Entity entity, float f, float f1, float f2, float f3, float f4, float scale)
+	{
+		drawStatic(scale);
+	}
+
+	private void drawStatic(float scale)
 	{
 		this.side1.render(scale);
 		this.side3.render(scale);
@@ -48,6 +56,20 @@ public class ModelPancheon extends ModelBase
 		this.side4.render(scale);
 	}
 
+	/**
+	 * Renders the model from its display list, the model has no moving parts
+	 *
+	 * @param scale - model scale
+	 */
+	public void renderStatic(float scale)
+	{
+		if (staticList.begin())
+		{
+			drawStatic(scale);
+			staticList.end();
+		}
+	}
+
 	/**
 	 * This is a helper function from Tabula to set the rotation of model parts
 	 */
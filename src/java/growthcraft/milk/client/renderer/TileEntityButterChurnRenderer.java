@@ -25,18 +25,27 @@ package growthcraft.milk.client.renderer;
 
 import growthcraft.milk.client.model.ModelButterChurn;
 import growthcraft.milk.client.resource.GrcMilkResources;
+import growthcraft.milk.GrowthCraftMilk;
 import growthcraft.milk.common.tileentity.TileEntityButterChurn;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
-import net.minecraft.entity.Entity;
 import net.minecraft.tileentity.TileEntity;
 import org.lwjgl.opengl.GL11;
 
 @SideOnly(Side.CLIENT)
 public class TileEntityButterChurnRenderer extends TileEntitySpecialRenderer
 {
+	private static boolean isAnimated(double x, double y, double z)
+	{
+		final double range = GrowthCraftMilk.getConfig().machineAnimationDistance;
+		final double dx = x + 0.5;
+		final double dy = y + 0.5;
+		final double dz = z + 0.5;
+		return dx * dx + dy * dy + dz * dz <= range * range;
+	}
+
 	@Override
 	public void renderTileEntityAt(TileEntity te, double x, double y, double z, float f)
 	{
@@ -48,7 +57,16 @@ public class TileEntityButterChurnRenderer extends TileEntitySpecialRenderer
 				GL11.glTranslatef((float)x + 0.5F, (float)y + 1.5f, (float)z + 0.5F);
 				GL11.glRotatef(180.0F, 1.0F, 0.0F, 0.0F);
 				this.bindTexture(GrcMilkResources.INSTANCE.textureButterChurn);
-				GrcMilkResources.INSTANCE.modelButterChurn.render((Entity)null, butterChurn.animProgress, butterChurn.animDir, 0.0f, f, 0.0f, ModelButterChurn.SCALE);
+				final ModelButterChurn model = GrcMilkResources.INSTANCE.modelButterChurn;
+				if (isAnimated(x, y, z))
+				{
+					model.renderStatic(ModelButterChurn.SCALE);
+					model.renderAnimated(butterChurn.animProgress, butterChurn.animDir, ModelButterChurn.SCALE);
+				}
+				else
+				{
+					model.renderSettled(butterChurn.animProgress, ModelButterChurn.SCALE);
+				}
 			}
 			GL11.glPopMatrix();
 		}
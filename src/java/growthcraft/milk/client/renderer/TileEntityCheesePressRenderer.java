@@ -25,18 +25,27 @@ package growthcraft.milk.client.renderer;
 
 import growthcraft.milk.client.model.ModelCheesePress;
 import growthcraft.milk.client.resource.GrcMilkResources;
+import growthcraft.milk.GrowthCraftMilk;
 import growthcraft.milk.common.tileentity.TileEntityCheesePress;
 
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
-import net.minecraft.entity.Entity;
 import net.minecraft.tileentity.TileEntity;
 import org.lwjgl.opengl.GL11;
 
 @SideOnly(Side.CLIENT)
 public class TileEntityCheesePressRenderer extends TileEntitySpecialRenderer
 {
+	private static boolean isAnimated(double x, double y, double z)
+	{
+		final double range = GrowthCraftMilk.getConfig().machineAnimationDistance;
+		final double dx = x + 0.5;
+		final double dy = y + 0.5;
+		final double dz = z + 0.5;
+		return dx * dx + dy * dy + dz * dz <= range * range;
+	}
+
 	@Override
 	public void renderTileEntityAt(TileEntity te, double x, double y, double z, float f)
 	{
@@ -48,7 +57,16 @@ public class TileEntityCheesePressRenderer extends TileEntitySpecialRenderer
 				GL11.glTranslatef((float)x + 0.5F, (float)y + 1.5f, (float)z + 0.5F);
 				GL11.glRotatef(180.0F, 1.0F, 0.0F, 0.0F);
 				this.bindTexture(GrcMilkResources.INSTANCE.textureCheesePress);
-				GrcMilkResources.INSTANCE.modelCheesePress.render((Entity)null, cheesePress.animProgress, cheesePress.animDir, 0.0f, f, 0.0f, ModelCheesePress.SCALE);
+				final ModelCheesePress model = GrcMilkResources.INSTANCE.modelCheesePress;
+				if (isAnimated(x, y, z))
+				{
+					model.renderStatic(ModelCheesePress.SCALE);
+					model.renderAnimated(cheesePress.animProgress, cheesePress.animDir, ModelCheesePress.SCALE);
+				}
+				else
+				{
+					model.renderSettled(cheesePress.animProgress, ModelCheesePress.SCALE);
+				}
 			}
 			GL11.glPopMatrix();
 		}
@@ -30,7 +30,6 @@ import growthcraft.milk.common.tileentity.TileEntityPancheon;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
-import net.minecraft.entity.Entity;
 import net.minecraft.tileentity.TileEntity;
 import org.lwjgl.opengl.GL11;
 
@@ -48,7 +47,7 @@ public class TileEntityPancheonRenderer extends TileEntitySpecialRenderer
 				GL11.glTranslatef((float)x + 0.5F, (float)y + 1.5f, (float)z + 0.5F);
 				GL11.glRotatef(180.0F, 1.0F, 0.0F, 0.0F);
 				this.bindTexture(GrcMilkResources.INSTANCE.texturePancheon);
-				GrcMilkResources.INSTANCE.modelPancheon.render((Entity)null, 0.0f, 0.0f, 0.0f, f, 0.0f, ModelPancheon.SCALE);
+				GrcMilkResources.INSTANCE.modelPancheon.renderStatic(ModelPancheon.SCALE);
 			}
 			GL11.glPopMatrix();
 		}
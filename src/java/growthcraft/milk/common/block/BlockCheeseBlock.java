@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import growthcraft.api.core.util.BBox;
 import growthcraft.core.common.block.GrcBlockContainer;
@@ -59,6 +60,9 @@ public class BlockCheeseBlock extends GrcBlockContainer
 	public BlockCheeseBlock()
 	{
 		super(Material.cake);
+		// tiles loaded with their chunk can't schedule their aging, random
+		// ticks pick those up
+		setTickRandomly(true);
 		setBlockName("grcmilk.CheeseBlock");
 		setCreativeTab(GrowthCraftMilk.creativeTab);
 		setTileEntityType(TileEntityCheeseBlock.class);
@@ -81,6 +85,17 @@ public class BlockCheeseBlock extends GrcBlockContainer
 		}
 	}
 
+	@Override
+	public void updateTick(World world, int x, int y, int z, Random random)
+	{
+		super.updateTick(world, x, y, z, random);
+		if (!world.isRemote)
+		{
+			final TileEntityCheeseBlock teCheeseBlock = getTileEntity(world, x, y, z);
+			if (teCheeseBlock != null) teCheeseBlock.onWakeUp();
+		}
+	}
+
 	@Override
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	public void getSubBlocks(Item item, CreativeTabs tab, List list)
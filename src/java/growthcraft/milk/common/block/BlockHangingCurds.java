@@ -181,6 +181,11 @@ public class BlockHangingCurds extends GrcBlockContainer
 				dropBlockAsItem(world, x, y, z, world.getBlockMetadata(x, y, z), 0);
 				world.setBlock(x, y, z, Blocks.air, 0, BlockFlags.UPDATE_AND_SYNC);
 			}
+			else
+			{
+				final TileEntityHangingCurds teHangingCurds = getTileEntity(world, x, y, z);
+				if (teHangingCurds != null) teHangingCurds.onWakeUp();
+			}
 		}
 	}
 
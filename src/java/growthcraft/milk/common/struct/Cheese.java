@@ -33,6 +33,10 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.MathHelper;
 
+/**
+ * Like CheeseCurd, the age of an unaged (waxed) cheese is worked out from the
+ * world time at which it started aging, rather than counted every tick.
+ */
 public class Cheese
 {
 	public boolean needClientUpdate = true;
@@ -44,6 +48,8 @@ public class Cheese
 	private final int cheesePerSlice = GrowthCraftMilk.getConfig().cheeseItemPerBlockSlice;
 	private EnumCheeseType cheese = EnumCheeseType.CHEDDAR;
 	private EnumCheeseStage cheeseStage = EnumCheeseType.CHEDDAR.stages.get(0);
+	// world time at which the cheese was 0 ticks old, or -1 when not yet known
+	private long agingStart = -1L;
 
 	public EnumCheeseType getType()
 	{
@@ -87,9 +93,52 @@ public class Cheese
 		return getSlices() > 0;
 	}
 
-	public float getAgeProgress()
+	public int getAge(long worldTime)
+	{
+		if (!canAge() || agingStart < 0) return age;
+		return (int)Math.max(0L, Math.min(ageMax, worldTime - agingStart));
+	}
+
+	public float getAgeProgress(long worldTime)
+	{
+		return (float)getAge(worldTime) / (float)ageMax;
+	}
+
+	/**
+	 * @return true if the cheese is aging and knows when it started
+	 */
+	public boolean hasAgingStart()
+	{
+		return agingStart >= 0;
+	}
+
+	/**
+	 * Continues aging from the current age, starting at the given world time.
+	 *
+	 * @param worldTime - the world's total time
+	 */
+	public void startAging(long worldTime)
 	{
-		return (float)age / (float)ageMax;
+		this.agingStart = worldTime - age;
+	}
+
+	/**
+	 * Stores the age at the given world time, so that it can be written.
+	 *
+	 * @param worldTime - the world's total time
+	 */
+	public void syncAge(long worldTime)
+	{
+		this.age = getAge(worldTime);
+	}
+
+	/**
+	 * @return world time at which the cheese will be aged, or -1 if it is not aging
+	 */
+	public long getAgedTime()
+	{
+		if (!canAge() || agingStart < 0) return -1L;
+		return agingStart + ageMax;
 	}
 
 	public boolean canAge()
@@ -156,6 +205,7 @@ public class Cheese
 		{
 			this.age = nbt.getInteger("age");
 		}
+		this.agingStart = -1L;
 		if (nbt.hasKey("slices"))
 		{
 			this.slices = nbt.getInteger("slices");
@@ -171,6 +221,7 @@ public class Cheese
 		this.cheese = EnumCheeseType.loadFromStream(stream);
 		this.cheeseStage = EnumCheeseStage.loadFromStream(stream);
 		this.age = stream.readInt();
+		this.agingStart = -1L;
 		this.slices = stream.readInt();
 		this.slicesMax = stream.readInt();
 	}
@@ -184,20 +235,22 @@ public class Cheese
 		stream.writeInt(slicesMax);
 	}
 
-	public void update()
+	/**
+	 * Starts aging if needed and ages the cheese once it is old enough, this
+	 * only needs to be called when the cheese is due to age (see getAgedTime).
+	 *
+	 * @param worldTime - the world's total time
+	 */
+	public void update(long worldTime)
 	{
-		if (!isAged())
+		if (canAge())
 		{
-			if (canAge())
+			if (agingStart < 0) startAging(worldTime);
+			if (worldTime - agingStart >= ageMax)
 			{
-				if (this.age < this.ageMax)
-				{
-					this.age += 1;
-				}
-				else
-				{
-					setStage(EnumCheeseStage.AGED);
-				}
+				this.age = ageMax;
+				this.agingStart = -1L;
+				setStage(EnumCheeseStage.AGED);
 			}
 		}
 	}
@@ -30,6 +30,12 @@ import io.netty.buffer.ByteBuf;
 
 import net.minecraft.nbt.NBTTagCompound;
 
+/**
+ * Curds do not count their age every tick, instead the world time at which
+ * they would have been 0 ticks old is kept, and the age is worked out from
+ * that when it is needed. Only the age is saved, so time spent unloaded or
+ * as an item does not count towards drying.
+ */
 public class CheeseCurd implements INBTSerializableContext
 {
 	public boolean needClientUpdate;
@@ -37,6 +43,8 @@ public class CheeseCurd implements INBTSerializableContext
 	private int age;
 	private int ageMax = 1200;
 	private boolean dried;
+	// world time at which the curd was 0 ticks old, or -1 when not yet known
+	private long agingStart = -1L;
 
 	public EnumCheeseType getType()
 	{
@@ -48,9 +56,53 @@ public class CheeseCurd implements INBTSerializableContext
 		return cheese.meta;
 	}
 
-	public float getAgeProgress()
+	/**
+	 * @return true if the curd knows when it started aging
+	 */
+	public boolean hasAgingStart()
+	{
+		return agingStart >= 0;
+	}
+
+	/**
+	 * Continues aging from the current age, starting at the given world time.
+	 *
+	 * @param worldTime - the world's total time
+	 */
+	public void startAging(long worldTime)
+	{
+		this.agingStart = worldTime - age;
+	}
+
+	public int getAge(long worldTime)
+	{
+		if (dried) return ageMax;
+		if (agingStart < 0) return age;
+		return (int)Math.max(0L, Math.min(ageMax, worldTime - agingStart));
+	}
+
+	/**
+	 * Stores the age at the given world time, so that it can be written.
+	 *
+	 * @param worldTime - the world's total time
+	 */
+	public void syncAge(long worldTime)
 	{
-		return (float)age / ageMax;
+		this.age = getAge(worldTime);
+	}
+
+	/**
+	 * @return world time at which the curd will be dried, or -1 if it is not aging
+	 */
+	public long getDriedTime()
+	{
+		if (dried || agingStart < 0) return -1L;
+		return agingStart + ageMax;
+	}
+
+	public float getAgeProgress(long worldTime)
+	{
+		return (float)getAge(worldTime) / ageMax;
 	}
 
 	public int getRenderColor()
@@ -82,6 +134,7 @@ public class CheeseCurd implements INBTSerializableContext
 		this.cheese = EnumCheeseType.loadFromNBT(nbt);
 		this.dried = nbt.getBoolean("dried");
 		this.age = nbt.getInteger("age");
+		this.agingStart = -1L;
 	}
 
 	public void readFromNBT(NBTTagCompound nbt, String name)
@@ -101,6 +154,7 @@ public class CheeseCurd implements INBTSerializableContext
 		this.cheese = EnumCheeseType.loadFromStream(stream);
 		this.dried = stream.readBoolean();
 		this.age = stream.readInt();
+		this.agingStart = -1L;
 	}
 
 	public void writeToStream(ByteBuf stream)
@@ -110,27 +164,21 @@ public class CheeseCurd implements INBTSerializableContext
 		stream.writeInt(age);
 	}
 
-	public void update()
+	/**
+	 * Starts aging if needed and dries the curd once it is old enough, this
+	 * only needs to be called when the curd is due to dry (see getDriedTime).
+	 *
+	 * @param worldTime - the world's total time
+	 */
+	public void update(long worldTime)
 	{
-		if (dried)
-		{
-			if (age != ageMax)
-			{
-				this.age = ageMax;
-				this.needClientUpdate = true;
-			}
-		}
-		else
+		if (dried) return;
+		if (agingStart < 0) startAging(worldTime);
+		if (worldTime - agingStart >= ageMax)
 		{
-			if (this.age < ageMax)
-			{
-				this.age += 1;
-			}
-			else
-			{
-				this.dried = true;
-				this.needClientUpdate = true;
-			}
+			this.age = ageMax;
+			this.dried = true;
+			this.needClientUpdate = true;
 		}
 	}
 }
@@ -69,6 +69,78 @@ public class TileEntityCheeseBlock extends GrcTileEntityBase implements IItemHan
 		return getCheese().getStageId();
 	}
 
+	public float getAgeProgress()
+	{
+		if (worldObj == null) return cheese.getAgeProgress(0L);
+		return cheese.getAgeProgress(worldObj.getTotalWorldTime());
+	}
+
+	/**
+	 * The cheese block never ticks, it is woken by scheduled block updates
+	 */
+	@Override
+	public boolean canUpdate()
+	{
+		return false;
+	}
+
+	/**
+	 * Ages the cheese if it is due and schedules a block update for the time
+	 * at which it will next be due.
+	 *
+	 * The block is not read from the world, this is also called from validate
+	 * while the chunk may still be loading, in which case the update is
+	 * dropped and the block's random tick schedules it instead.
+	 */
+	private void scheduleAging()
+	{
+		final long now = worldObj.getTotalWorldTime();
+		cheese.update(now);
+		final long agedTime = cheese.getAgedTime();
+		if (agedTime >= 0)
+		{
+			final int delay = (int)Math.max(1L, agedTime - now);
+			worldObj.scheduleBlockUpdate(xCoord, yCoord, zCoord, GrowthCraftMilk.blocks.cheeseBlock.getBlock(), delay);
+		}
+	}
+
+	/**
+	 * Sends the cheese to the clients after it was changed, or removes the
+	 * block once the last slice was taken.
+	 */
+	private void onCheeseChanged()
+	{
+		if (worldObj.isRemote || !cheese.needClientUpdate) return;
+		cheese.needClientUpdate = false;
+		if (cheese.hasSlices())
+		{
+			markDirty();
+			worldObj.markBlockForUpdate(xCoord, yCoord, zCoord);
+		}
+		else
+		{
+			worldObj.setBlockToAir(xCoord, yCoord, zCoord);
+		}
+	}
+
+	@Override
+	public void validate()
+	{
+		super.validate();
+		// covers tiles placed in an already loaded chunk, tiles loaded with
+		// their chunk are rescheduled from the block's random tick
+		if (worldObj != null && !worldObj.isRemote) scheduleAging();
+	}
+
+	/**
+	 * Called from the block's scheduled (and random) updates
+	 */
+	public void onWakeUp()
+	{
+		scheduleAging();
+		onCheeseChanged();
+	}
+
 	/**
 	 * When the tileentity is reloaded from an ItemStack
 	 *
@@ -77,6 +149,12 @@ public class TileEntityCheeseBlock extends GrcTileEntityBase implements IItemHan
 	public void readFromNBTForItem(NBTTagCompound nbt)
 	{
 		cheese.readFromNBT(nbt);
+		// placed from an item, tiles loaded with their chunk have no world yet
+		if (worldObj != null && !worldObj.isRemote)
+		{
+			scheduleAging();
+			onCheeseChanged();
+		}
 	}
 
 	@Override
@@ -88,6 +166,7 @@ public class TileEntityCheeseBlock extends GrcTileEntityBase implements IItemHan
 
 	public void writeToNBTForItem(NBTTagCompound nbt)
 	{
+		if (worldObj != null) cheese.syncAge(worldObj.getTotalWorldTime());
 		cheese.writeToNBT(nbt);
 	}
 
@@ -110,42 +189,31 @@ public class TileEntityCheeseBlock extends GrcTileEntityBase implements IItemHan
 	public boolean readFromStream_CheeseBlock(ByteBuf stream) throws IOException
 	{
 		cheese.readFromStream(stream);
+		// the client keeps aging from the age it was sent, for rendering
+		if (worldObj != null) cheese.startAging(worldObj.getTotalWorldTime());
 		return true;
 	}
 
 	@EventHandler(type=EventHandler.EventType.NETWORK_WRITE)
 	public void writeToStream_CheeseBlock(ByteBuf stream) throws IOException
 	{
+		if (worldObj != null) cheese.syncAge(worldObj.getTotalWorldTime());
 		cheese.writeToStream(stream);
 	}
 
 	@Override
-	public void updateEntity()
+	public boolean tryPlaceItem(EntityPlayer player, ItemStack onHand)
 	{
-		super.updateEntity();
-
-		if (!worldObj.isRemote)
+		if (cheese.tryWaxing(onHand))
 		{
-			cheese.update();
-			if (cheese.needClientUpdate)
+			if (!worldObj.isRemote)
 			{
-				cheese.needClientUpdate = false;
-				if (cheese.hasSlices())
-				{
-					markForBlockUpdate();
-				}
-				else
-				{
-					worldObj.setBlockToAir(xCoord, yCoord, zCoord);
-				}
+				scheduleAging();
+				onCheeseChanged();
 			}
+			return true;
 		}
-	}
-
-	@Override
-	public boolean tryPlaceItem(EntityPlayer player, ItemStack onHand)
-	{
-		return cheese.tryWaxing(onHand);
+		return false;
 	}
 
 	@Override
@@ -159,6 +227,7 @@ public class TileEntityCheeseBlock extends GrcTileEntityBase implements IItemHan
 				ItemUtils.addStackToPlayer(stack, player, false);
 			}
 			cheese.needClientUpdate |= true;
+			onCheeseChanged();
 			return true;
 		}
 		return false;
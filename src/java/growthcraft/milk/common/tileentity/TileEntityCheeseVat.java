@@ -50,12 +50,14 @@ import growthcraft.core.common.tileentity.GrcTileEntityDeviceBase;
 import growthcraft.core.common.tileentity.IItemHandler;
 import growthcraft.core.common.tileentity.ITileHeatedDevice;
 import growthcraft.core.common.tileentity.ITileNamedFluidTanks;
+import growthcraft.core.common.tileentity.ITileNeighbourSensitive;
 import growthcraft.core.common.tileentity.ITileProgressiveDevice;
 import growthcraft.core.util.ItemUtils;
 import growthcraft.milk.common.item.EnumCheeseType;
 import growthcraft.milk.common.tileentity.cheesevat.CheeseVatState;
 import growthcraft.milk.GrowthCraftMilk;
 
+import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.Item;
@@ -67,7 +69,7 @@ import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTank;
 
-public class TileEntityCheeseVat extends GrcTileEntityDeviceBase implements IItemHandler, ITileHeatedDevice, ITileNamedFluidTanks, ITileProgressiveDevice
+public class TileEntityCheeseVat extends GrcTileEntityDeviceBase implements IItemHandler, ITileHeatedDevice, ITileNamedFluidTanks, ITileNeighbourSensitive, ITileProgressiveDevice
 {
 	public static enum FluidTankType
 	{
@@ -165,6 +167,12 @@ public class TileEntityCheeseVat extends GrcTileEntityDeviceBase implements IIte
 		return heatComponent.getHeatMultiplier();
 	}
 
+	@Override
+	public void onNeighbourBlockChange(Block block)
+	{
+		heatComponent.invalidateHeatSource();
+	}
+
 	public void markForRecipeCheck()
 	{
 		this.recheckRecipe = true;
@@ -418,10 +426,12 @@ public class TileEntityCheeseVat extends GrcTileEntityDeviceBase implements IIte
 		}
 		else
 		{
-			if (recheckRecipe)
+			// the flag is kept until the vat is heated, so a change made while
+			// it was cold is still checked once it heats up
+			if (recheckRecipe && isHeated())
 			{
 				this.recheckRecipe = false;
-				if (isHeated()) commitRecipe();
+				commitRecipe();
 			}
 		}
 	}
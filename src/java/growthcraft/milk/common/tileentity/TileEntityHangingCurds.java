@@ -92,7 +92,8 @@ public class TileEntityHangingCurds extends GrcTileEntityBase
 
 	public float getProgress()
 	{
-		return cheeseCurd.getAgeProgress();
+		if (worldObj == null) return cheeseCurd.getAgeProgress(0L);
+		return cheeseCurd.getAgeProgress(worldObj.getTotalWorldTime());
 	}
 
 	public boolean isDried()
@@ -100,6 +101,48 @@ public class TileEntityHangingCurds extends GrcTileEntityBase
 		return cheeseCurd.isDried();
 	}
 
+	/**
+	 * Dries the curd if it is due and schedules a block update for the time
+	 * at which it will be due.
+	 *
+	 * The block is not read from the world, this is also called from validate
+	 * while the chunk may still be loading, in which case the update is
+	 * dropped and the block's random tick schedules it instead.
+	 */
+	private void scheduleDrying()
+	{
+		final long now = worldObj.getTotalWorldTime();
+		cheeseCurd.update(now);
+		final long driedTime = cheeseCurd.getDriedTime();
+		if (driedTime >= 0)
+		{
+			final int delay = (int)Math.max(1L, driedTime - now);
+			worldObj.scheduleBlockUpdate(xCoord, yCoord, zCoord, GrowthCraftMilk.blocks.hangingCurds.getBlock(), delay);
+		}
+	}
+
+	@Override
+	public void validate()
+	{
+		super.validate();
+		// covers tiles placed in an already loaded chunk, tiles loaded with
+		// their chunk are rescheduled from the block's random tick
+		if (worldObj != null && !worldObj.isRemote) scheduleDrying();
+	}
+
+	/**
+	 * Called from the block's scheduled (and random) updates
+	 */
+	public void onWakeUp()
+	{
+		scheduleDrying();
+		if (cheeseCurd.needClientUpdate)
+		{
+			cheeseCurd.needClientUpdate = false;
+			markForBlockUpdate();
+		}
+	}
+
 	@Override
 	public void updateEntity()
 	{
@@ -107,12 +150,6 @@ public class TileEntityHangingCurds extends GrcTileEntityBase
 
 		if (!worldObj.isRemote)
 		{
-			if (cheeseCurd.needClientUpdate)
-			{
-				cheeseCurd.needClientUpdate = false;
-				markForBlockUpdate();
-			}
-			cheeseCurd.update();
 			if (wheyPulsar.update() == PulseStepper.State.PULSE)
 			{
 				final IPancheonTile pancheonTile = getPancheonTile();
@@ -153,6 +190,8 @@ public class TileEntityHangingCurds extends GrcTileEntityBase
 	{
 		cheeseCurd.readFromNBT(nbt);
 		wheyPulsar.readFromNBT(nbt, "whey_pulsar");
+		// placed from an item, tiles loaded with their chunk have no world yet
+		if (worldObj != null && !worldObj.isRemote) scheduleDrying();
 	}
 
 	@Override
@@ -164,6 +203,7 @@ public class TileEntityHangingCurds extends GrcTileEntityBase
 
 	public void writeToNBTForItem(NBTTagCompound nbt)
 	{
+		if (worldObj != null) cheeseCurd.syncAge(worldObj.getTotalWorldTime());
 		cheeseCurd.writeToNBT(nbt);
 		wheyPulsar.writeToNBT(nbt, "whey_pulsar");
 	}
@@ -179,6 +219,8 @@ public class TileEntityHangingCurds extends GrcTileEntityBase
 	public boolean readFromStream_HangingCurds(ByteBuf stream) throws IOException
 	{
 		cheeseCurd.readFromStream(stream);
+		// the client keeps aging from the age it was sent, for rendering
+		if (worldObj != null) cheeseCurd.startAging(worldObj.getTotalWorldTime());
 		wheyPulsar.readFromStream(stream);
 		this.serverStep = stream.readInt();
 		return true;
@@ -187,6 +229,7 @@ public class TileEntityHangingCurds extends GrcTileEntityBase
 	@EventHandler(type=EventHandler.EventType.NETWORK_WRITE)
 	public void writeToStream_HangingCurds(ByteBuf stream) throws IOException
 	{
+		if (worldObj != null) cheeseCurd.syncAge(worldObj.getTotalWorldTime());
 		cheeseCurd.writeToStream(stream);
 		wheyPulsar.writeToStream(stream);
 		stream.writeInt(serverStep);
@@ -26,6 +26,7 @@ package growthcraft.milk.common.tileentity;
 import growthcraft.api.core.fluids.FluidTest;
 import growthcraft.core.common.tileentity.GrcTileEntityFluidsDevice;
 import growthcraft.core.common.tileentity.ITileProgressiveDevice;
+import growthcraft.core.profiler.TickProfiler;
 import growthcraft.milk.common.tileentity.device.Pancheon;
 
 import net.minecraftforge.common.util.ForgeDirection;
@@ -92,7 +93,9 @@ public class TileEntityPancheon extends GrcTileEntityFluidsDevice implements ITi
 	@Override
 	protected void updateDevice()
 	{
+		final long start = TickProfiler.begin();
 		pancheon.update();
+		TickProfiler.end(pancheon.getClass(), "update", this, start);
 	}
 
 	@Override
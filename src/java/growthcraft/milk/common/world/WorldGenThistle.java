@@ -1,6 +1,8 @@
 package growthcraft.milk.common.world;
 
 import cpw.mods.fml.common.IWorldGenerator;
+import growthcraft.api.core.util.BlockFlags;
+import growthcraft.core.common.world.BiomeEligibility;
 import growthcraft.milk.GrowthCraftMilk;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
@@ -15,15 +17,25 @@ import java.util.Random;
  */
 public class WorldGenThistle implements IWorldGenerator
 {
+	static class ThistleBiomes extends BiomeEligibility
+	{
+		@Override
+		protected boolean isBiomeEligible(BiomeGenBase biome)
+		{
+			return "Extreme Hills".equals(biome.biomeName) || "Extreme Hills Edge".equals(biome.biomeName);
+		}
+	}
+
 	private WorldGenerator thistle;
+	private final BiomeEligibility biomes = new ThistleBiomes();
 
 	@Override
 	public void generate(Random random, int chunkX, int chunkZ, World world, IChunkProvider chunkGenerator, IChunkProvider chunkProvider)
 	{
 		if (world.provider.dimensionId == 0)
 		{
-			final BiomeGenBase b = world.getBiomeGenForCoords(chunkX, chunkZ);
-			if (b.biomeName.matches("Extreme Hills") || b.biomeName.matches("Extreme Hills Edge"))
+			final BiomeGenBase b = world.getBiomeGenForCoords(chunkX * 16 + 16, chunkZ * 16 + 16);
+			if (biomes.contains(b))
 			{
 				this.genRandThistle(this.thistle, world, random, chunkX, chunkZ, 10, 64, 255);
 			}
@@ -35,12 +47,13 @@ public class WorldGenThistle implements IWorldGenerator
 		final int heightDiff = maxHeight - minHeight + 1;
 		for (int i = 0; i < chanceToSpawn; ++i)
 		{
-			final int x = chunk_x * 16 + rand.nextInt(16);
-			final int z = chunk_z * 16 + rand.nextInt(16);
+			// offset by 8 into the decoration area, so no neighbour outside of it is notified
+			final int x = chunk_x * 16 + 8 + rand.nextInt(16);
+			final int z = chunk_z * 16 + 8 + rand.nextInt(16);
 			final int y = minHeight + rand.nextInt(heightDiff);
 			if (world.getBlock(x, y - 1, z) == Blocks.grass)
 			{
-				world.setBlock(x, y, z, GrowthCraftMilk.blocks.thistle.getBlock());
+				world.setBlock(x, y, z, GrowthCraftMilk.blocks.thistle.getBlock(), 0, BlockFlags.SYNC);
 			}
 		}
 	}
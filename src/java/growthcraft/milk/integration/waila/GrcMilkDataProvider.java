@@ -150,7 +150,7 @@ public class GrcMilkDataProvider implements IWailaDataProvider
 		{
 			final TileEntityCheeseBlock cheeseBlock = (TileEntityCheeseBlock)te;
 			tag.setBoolean("is_aged", cheeseBlock.getCheese().isAged());
-			tag.setFloat("age_progress", cheeseBlock.getCheese().getAgeProgress());
+			tag.setFloat("age_progress", cheeseBlock.getAgeProgress());
 			tag.setInteger("slices", cheeseBlock.getCheese().getSlices());
 			tag.setInteger("slices_max", cheeseBlock.getCheese().getSlicesMax());
 		}
@@ -4,7 +4,11 @@ import java.util.ArrayList;
 import java.util.Random;
 
 import growthcraft.core.common.block.ICropDataProvider;
+import growthcraft.core.common.block.ICropCatchUpBlock;
+import growthcraft.core.common.block.ICropEnvironmentBlock;
 import growthcraft.core.common.block.IPaddyCrop;
+import growthcraft.core.common.world.CropCatchUp;
+import growthcraft.core.common.world.CropEnvironment;
 import growthcraft.core.integration.AppleCore;
 import growthcraft.api.core.util.BlockFlags;
 import growthcraft.rice.client.renderer.RenderRice;
@@ -25,7 +29,7 @@ import net.minecraft.util.IIcon;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 
-public class BlockRice extends Block implements IPaddyCrop, ICropDataProvider, IGrowable
+public class BlockRice extends Block implements IPaddyCrop, ICropDataProvider, ICropEnvironmentBlock, ICropCatchUpBlock, IGrowable
 {
 	public static class RiceStage
 	{
@@ -98,6 +102,27 @@ public class BlockRice extends Block implements IPaddyCrop, ICropDataProvider, I
 		}
 	}
 
+	/**
+	 * Every growth step drains the paddy, so a crop catches up on at most as
+	 * many steps as its paddy has water.
+	 */
+	@Override
+	public void catchUpGrowth(World world, int x, int y, int z, long ticks, Random random)
+	{
+		if (!this.canBlockStay(world, x, y, z)) return;
+		final int meta = world.getBlockMetadata(x, y, z);
+		final int water = world.getBlockMetadata(x, y - 1, z);
+		if (meta >= RiceStage.MATURE || water <= 0) return;
+
+		final float f = this.getGrowthRate(world, x, y, z);
+		final float chance = CropCatchUp.getLitFraction(world, x, y + 1, z, 9) / ((int)(this.growth / f) + 1);
+		final int steps = CropCatchUp.drawGrowthSteps(random, ticks, chance, Math.min(RiceStage.MATURE - meta, water));
+		for (int i = 0; i < steps; ++i)
+		{
+			growRice(world, x, y, z, meta + i);
+		}
+	}
+
 	/* Both side */
 	@Override
 	public boolean func_149851_a(World world, int x, int y, int z, boolean isClient)
@@ -124,6 +149,12 @@ public class BlockRice extends Block implements IPaddyCrop, ICropDataProvider, I
 	}
 
 	private float getGrowthRate(World world, int x, int y, int z)
+	{
+		return CropEnvironment.instance().getGrowthRate(world, x, y, z, this);
+	}
+
+	@Override
+	public float computeGrowthRate(World world, int x, int y, int z)
 	{
 		float f = 1.0F;
 		final Block l = world.getBlock(x, y, z - 1);
@@ -184,6 +215,20 @@ public class BlockRice extends Block implements IPaddyCrop, ICropDataProvider, I
 	/************
 	 * TRIGGERS
 	 ************/
+	@Override
+	public void onBlockAdded(World world, int x, int y, int z)
+	{
+		super.onBlockAdded(world, x, y, z);
+		CropEnvironment.instance().onBlockChanged(world, x, y, z);
+	}
+
+	@Override
+	public void breakBlock(World world, int x, int y, int z, Block block, int meta)
+	{
+		CropEnvironment.instance().onBlockChanged(world, x, y, z);
+		super.breakBlock(world, x, y, z, block, meta);
+	}
+
 	@Override
 	public void onNeighborBlockChange(World world, int x, int y, int z, Block par5)
 	{
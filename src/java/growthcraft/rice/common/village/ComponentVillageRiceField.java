@@ -79,6 +79,8 @@ public class ComponentVillageRiceField extends StructureVillagePieces.Village im
 		}
 	};
 
+	protected static final SchemaToVillage.CompiledSchema riceFieldCompiled = SchemaToVillage.compile(riceFieldSchema);
+
 	// DO NOT REMOVE
 	public ComponentVillageRiceField() {}
 
@@ -108,6 +110,21 @@ public class ComponentVillageRiceField extends StructureVillagePieces.Village im
 		placeBlockAtCurrentPosition(world, block, meta, x, y, z, box);
 	}
 
+	public int getXWithOffsetPub(int x, int z)
+	{
+		return getXWithOffset(x, z);
+	}
+
+	public int getYWithOffsetPub(int y)
+	{
+		return getYWithOffset(y);
+	}
+
+	public int getZWithOffsetPub(int x, int z)
+	{
+		return getZWithOffset(x, z);
+	}
+
 	public boolean addComponentParts(World world, Random random, StructureBoundingBox box)
 	{
 		if (this.field_143015_k < 0)
@@ -140,7 +157,7 @@ public class ComponentVillageRiceField extends StructureVillagePieces.Village im
 		map.put('|', new BlockEntry(Blocks.log, vert ? 8 : 4));
 		map.put('~', new BlockEntry(Blocks.water));
 
-		SchemaToVillage.drawSchema(this, world, random, box, riceFieldSchema, map, 0, 1, 0);
+		riceFieldCompiled.draw(this, world, random, box, map, 0, 1, 0);
 
 		for (int row = 0; row < 12; ++row)
 		{
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.cellar;
+
+import java.util.concurrent.TimeUnit;
+
+import growthcraft.api.cellar.brewing.BrewingRecipe;
+import growthcraft.api.cellar.brewing.BrewingRegistry;
+import growthcraft.api.cellar.common.Residue;
+import growthcraft.api.cellar.heatsource.HeatSourceRegistry;
+import growthcraft.api.cellar.heatsource.IHeatSourceBlock;
+import growthcraft.api.cellar.yeast.YeastRegistry;
+import growthcraft.benchmark.BenchmarkEnvironment;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lookups done by the cellar devices every tick, against registries filled
+ * with as many entries as a large mod pack would add.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CellarRegistryBenchmark
+{
+	@Param({"32", "512"})
+	public int recipes;
+
+	private final BrewingRegistry brewing = new BrewingRegistry();
+	private final YeastRegistry yeast = new YeastRegistry();
+	private final HeatSourceRegistry heatSources = new HeatSourceRegistry();
+	private FluidStack[] fluids;
+	private ItemStack[] items;
+	private ItemStack missingItem;
+	private int cursor;
+
+	@Setup
+	public void setup()
+	{
+		BenchmarkEnvironment.init();
+		this.fluids = new FluidStack[recipes];
+		this.items = new ItemStack[recipes];
+		final Fluid result = new Fluid("grc_bench_result");
+		FluidRegistry.registerFluid(result);
+		for (int i = 0; i < recipes; ++i)
+		{
+			Fluid fluid = new Fluid("grc_bench_fluid_" + i);
+			if (!FluidRegistry.registerFluid(fluid)) fluid = FluidRegistry.getFluid(fluid.getName());
+			fluids[i] = new FluidStack(fluid, 1000);
+			items[i] = new ItemStack(new Item(), 64);
+			brewing.addBrewing(new FluidStack(fluid, 40), items[i], new FluidStack(result, 40), 200, Residue.newDefault(0.3f));
+			yeast.addYeast(new ItemStack(new Item()));
+		}
+		yeast.addYeast(items[recipes / 2]);
+		this.missingItem = new ItemStack(new Item(), 64);
+		heatSources.addHeatSource(Blocks.fire);
+		heatSources.addHeatSource(Blocks.lava);
+	}
+
+	private int next()
+	{
+		cursor = (cursor + 1) % recipes;
+		return cursor;
+	}
+
+	@Benchmark
+	public BrewingRecipe getBrewingRecipe()
+	{
+		final int i = next();
+		return brewing.getBrewingRecipe(fluids[i], items[i]);
+	}
+
+	@Benchmark
+	public BrewingRecipe getBrewingRecipeMiss()
+	{
+		return brewing.getBrewingRecipe(fluids[next()], missingItem);
+	}
+
+	@Benchmark
+	public boolean isYeast()
+	{
+		return yeast.isYeast(items[next()]);
+	}
+
+	@Benchmark
+	public IHeatSourceBlock getHeatSource()
+	{
+		final Block block = (next() & 1) == 0 ? Blocks.fire : Blocks.stone;
+		return heatSources.getHeatSource(block, 0);
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.item;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import growthcraft.benchmark.BenchmarkEnvironment;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ItemKeyBenchmark
+{
+	@Param({"16", "1024"})
+	public int entries;
+
+	private ItemStack[] stacks;
+	private int cursor;
+	private final Map<ItemKey, Integer> hashMap = new HashMap<ItemKey, Integer>();
+	private final ItemKeyMap<Integer> keyMap = new ItemKeyMap<Integer>();
+
+	@Setup
+	public void setup()
+	{
+		BenchmarkEnvironment.init();
+		this.stacks = new ItemStack[entries];
+		for (int i = 0; i < entries; ++i)
+		{
+			final Item item = new Item();
+			final ItemStack stack = new ItemStack(item, 1, i % 16);
+			if (i % 4 == 0)
+			{
+				final NBTTagCompound tag = new NBTTagCompound();
+				tag.setInteger("id", i);
+				stack.setTagCompound(tag);
+			}
+			stacks[i] = stack;
+			hashMap.put(new ItemKey(stack), i);
+			keyMap.put(stack, i);
+		}
+	}
+
+	private ItemStack nextStack()
+	{
+		final ItemStack stack = stacks[cursor];
+		cursor = (cursor + 1) % stacks.length;
+		return stack;
+	}
+
+	@Benchmark
+	public int newItemKeyHashCode()
+	{
+		return new ItemKey(nextStack()).hashCode();
+	}
+
+	@Benchmark
+	public Integer hashMapLookup()
+	{
+		return hashMap.get(new ItemKey(nextStack()));
+	}
+
+	@Benchmark
+	public Integer itemKeyMapLookup()
+	{
+		return keyMap.get(nextStack());
+	}
+}
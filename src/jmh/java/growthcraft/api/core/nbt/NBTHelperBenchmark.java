@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.nbt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import growthcraft.api.core.effect.EffectChance;
+import growthcraft.api.core.effect.EffectList;
+import growthcraft.api.core.effect.EffectNull;
+import growthcraft.api.core.effect.EffectWeightedRandomList;
+import growthcraft.api.core.effect.IEffect;
+import growthcraft.api.core.stream.StreamUtils;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Round trips of effect lists through NBT, as done when booze effects are
+ * saved and loaded, against the numeric id stream codec.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NBTHelperBenchmark
+{
+	@Param({"1", "16"})
+	public int size;
+
+	private final List<IEffect> effects = new ArrayList<IEffect>();
+	private NBTTagCompound written;
+	private final ByteBuf buffer = Unpooled.buffer();
+	private ByteBuf streamed;
+
+	@Setup
+	public void setup()
+	{
+		for (int i = 0; i < size; ++i)
+		{
+			switch (i % 3)
+			{
+				case 0:
+					effects.add(new EffectChance(new EffectNull()).setChance(0.5f));
+					break;
+				case 1:
+					effects.add(new EffectList().add(new EffectNull()).add(new EffectNull()));
+					break;
+				default:
+					effects.add(new EffectWeightedRandomList().add(1, new EffectNull()).add(3, new EffectNull()));
+					break;
+			}
+		}
+		this.written = NBTHelper.writeEffectsList(new NBTTagCompound(), effects);
+		this.streamed = Unpooled.buffer();
+		StreamUtils.writeEffectsList(streamed, effects);
+	}
+
+	@Benchmark
+	public NBTTagCompound writeEffectsList()
+	{
+		return NBTHelper.writeEffectsList(new NBTTagCompound(), effects);
+	}
+
+	@Benchmark
+	public List<IEffect> loadEffectsList()
+	{
+		final List<IEffect> result = new ArrayList<IEffect>();
+		NBTHelper.loadEffectsList(result, written);
+		return result;
+	}
+
+	@Benchmark
+	public List<IEffect> roundTrip()
+	{
+		final List<IEffect> result = new ArrayList<IEffect>();
+		NBTHelper.loadEffectsList(result, NBTHelper.writeEffectsList(new NBTTagCompound(), effects));
+		return result;
+	}
+
+	@Benchmark
+	public ByteBuf writeEffectsListStream()
+	{
+		buffer.clear();
+		StreamUtils.writeEffectsList(buffer, effects);
+		return buffer;
+	}
+
+	@Benchmark
+	public List<IEffect> readEffectsListStream()
+	{
+		final List<IEffect> result = new ArrayList<IEffect>();
+		StreamUtils.readEffectsList(result, streamed.readerIndex(0));
+		return result;
+	}
+
+	@Benchmark
+	public List<IEffect> roundTripStream()
+	{
+		final List<IEffect> result = new ArrayList<IEffect>();
+		buffer.clear();
+		StreamUtils.writeEffectsList(buffer, effects);
+		StreamUtils.readEffectsList(result, buffer);
+		return result;
+	}
+}
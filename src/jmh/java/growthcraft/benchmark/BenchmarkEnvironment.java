@@ -0,0 +1,49 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.benchmark;
+
+import growthcraft.cellar.GrowthCraftCellar;
+
+import net.minecraft.init.Bootstrap;
+
+/**
+ * Sets up just enough of Minecraft and Growthcraft for the benchmarks to run
+ * without a client or a server: the vanilla block and item registries and the
+ * module instances whose configs the devices read.
+ */
+public class BenchmarkEnvironment
+{
+	private static boolean initialized;
+
+	private BenchmarkEnvironment() {}
+
+	public static synchronized void init()
+	{
+		if (initialized) return;
+		initialized = true;
+		Bootstrap.func_151354_b();
+		// configs are read through the mod instance, the defaults are enough here
+		if (GrowthCraftCellar.instance == null) GrowthCraftCellar.instance = new GrowthCraftCellar();
+	}
+}
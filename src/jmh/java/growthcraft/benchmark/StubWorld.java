@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.Entity;
+import net.minecraft.init.Blocks;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+
+/**
+ * A world without chunks, blocks are kept in a map and everything else is a
+ * no-op, enough for devices that only look at a few blocks around them.
+ */
+public class StubWorld extends World
+{
+	public static class BlockEntry
+	{
+		public final Block block;
+		public final int meta;
+
+		public BlockEntry(Block pBlock, int pMeta)
+		{
+			this.block = pBlock;
+			this.meta = pMeta;
+		}
+	}
+
+	private final Map<Long, BlockEntry> blocks = new HashMap<Long, BlockEntry>();
+	private BiomeGenBase biome = BiomeGenBase.plains;
+
+	public StubWorld()
+	{
+		super(null, "grc_benchmark", new WorldProviderSurface(), new WorldSettings(0L, WorldSettings.GameType.SURVIVAL, false, false, WorldType.FLAT), new Profiler());
+	}
+
+	private static long pack(int x, int y, int z)
+	{
+		return ((long)x & 0x3FFFFFFL) << 38 | ((long)z & 0x3FFFFFFL) << 12 | ((long)y & 0xFFFL);
+	}
+
+	public StubWorld putBlock(int x, int y, int z, Block block, int meta)
+	{
+		blocks.put(pack(x, y, z), new BlockEntry(block, meta));
+		return this;
+	}
+
+	public StubWorld setBiome(BiomeGenBase b)
+	{
+		this.biome = b;
+		return this;
+	}
+
+	@Override
+	protected IChunkProvider createChunkProvider()
+	{
+		return null;
+	}
+
+	@Override
+	protected int func_152379_p()
+	{
+		return 0;
+	}
+
+	@Override
+	public Entity getEntityByID(int id)
+	{
+		return null;
+	}
+
+	@Override
+	public Block getBlock(int x, int y, int z)
+	{
+		final BlockEntry entry = blocks.get(pack(x, y, z));
+		return entry != null ? entry.block : Blocks.air;
+	}
+
+	@Override
+	public int getBlockMetadata(int x, int y, int z)
+	{
+		final BlockEntry entry = blocks.get(pack(x, y, z));
+		return entry != null ? entry.meta : 0;
+	}
+
+	@Override
+	public boolean setBlock(int x, int y, int z, Block block, int meta, int flags)
+	{
+		putBlock(x, y, z, block, meta);
+		return true;
+	}
+
+	@Override
+	public TileEntity getTileEntity(int x, int y, int z)
+	{
+		return null;
+	}
+
+	@Override
+	public BiomeGenBase getBiomeGenForCoords(int x, int z)
+	{
+		return biome;
+	}
+
+	@Override
+	public void markBlockForUpdate(int x, int y, int z) {}
+
+	@Override
+	public void markTileEntityChunkModified(int x, int y, int z, TileEntity te) {}
+
+	@Override
+	public void func_147453_f(int x, int y, int z, Block block) {}
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.cellar.common.tileentity;
+
+import java.util.concurrent.TimeUnit;
+
+import growthcraft.api.cellar.booze.BoozeTag;
+import growthcraft.api.cellar.CellarRegistry;
+import growthcraft.api.cellar.common.Residue;
+import growthcraft.api.core.CoreRegistry;
+import growthcraft.benchmark.BenchmarkEnvironment;
+import growthcraft.benchmark.StubWorld;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One device tick of a working Brew Kettle and Culture Jar, in a stub world.
+ * The benchmark lives in the tile's package so it can call updateDevice.
+ *
+ * Each invocation runs a batch of BATCH ticks, and the devices are refilled
+ * before every batch (outside the measurement), so the ticks measured never
+ * reach the idle path of an empty device. Refilling invalidates the recipe
+ * cache, so the first tick of each batch looks the recipe up again.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CellarDeviceBenchmark
+{
+	private static final int X = 0;
+	private static final int Y = 64;
+	private static final int Z = 0;
+	// far fewer ticks than it takes to use up a refill
+	private static final int BATCH = 64;
+
+	private StubWorld world;
+	private Fluid wort;
+	private TileEntityBrewKettle brewKettle;
+	private TileEntityCultureJar cultureJar;
+
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		BenchmarkEnvironment.init();
+		this.wort = new Fluid("grc_bench_wort");
+		if (!FluidRegistry.registerFluid(wort)) this.wort = FluidRegistry.getFluid(wort.getName());
+		CoreRegistry.instance().fluidDictionary().addFluidTags(wort, BoozeTag.YOUNG);
+		CellarRegistry.instance().heatSource().addHeatSource(Blocks.fire);
+		CellarRegistry.instance().brewing().addBrewing(new FluidStack(FluidRegistry.WATER, 40), new ItemStack(Items.wheat), new FluidStack(wort, 40), 200, Residue.newDefault(0.3f));
+		CellarRegistry.instance().yeast().addYeast(new ItemStack(Items.sugar));
+
+		this.world = new StubWorld();
+		// the brew kettle sits on a fire
+		world.putBlock(X, Y - 1, Z, Blocks.fire, 0);
+
+		this.brewKettle = new TileEntityBrewKettle();
+		brewKettle.setWorldObj(world);
+		brewKettle.xCoord = X;
+		brewKettle.yCoord = Y;
+		brewKettle.zCoord = Z;
+
+		this.cultureJar = new TileEntityCultureJar();
+		cultureJar.setWorldObj(world);
+		cultureJar.xCoord = X + 2;
+		cultureJar.yCoord = Y;
+		cultureJar.zCoord = Z;
+	}
+
+	/**
+	 * Refills the devices before every batch, so they are always working
+	 */
+	@Setup(Level.Invocation)
+	public void refill()
+	{
+		brewKettle.setInventorySlotContents(0, new ItemStack(Items.wheat, 64));
+		brewKettle.setInventorySlotContents(1, null);
+		brewKettle.setFluidStack(0, new FluidStack(FluidRegistry.WATER, brewKettle.getFluidTank(0).getCapacity()));
+		brewKettle.setFluidStack(1, null);
+
+		cultureJar.setInventorySlotContents(0, new ItemStack(Items.sugar, 1));
+		cultureJar.setFluidStack(0, new FluidStack(wort, cultureJar.getFluidTank(0).getCapacity()));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void brewKettleUpdate()
+	{
+		for (int i = 0; i < BATCH; ++i)
+		{
+			brewKettle.updateDevice();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public void cultureJarUpdate()
+	{
+		for (int i = 0; i < BATCH; ++i)
+		{
+			cultureJar.updateDevice();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package growthcraft.api.core.item;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AbstractPackedKeyMapTest
+{
+	static class ObjectKeyMap extends AbstractPackedKeyMap<Object, String>
+	{
+		public String put(Object obj, int meta, String value)
+		{
+			return putEntry(obj, meta, null, value);
+		}
+
+		public String get(Object obj, int meta)
+		{
+			return getEntry(obj, meta, null);
+		}
+
+		public boolean containsKey(Object obj, int meta)
+		{
+			return containsEntry(obj, meta, null);
+		}
+	}
+
+	@Test
+	public void test_putAndGet()
+	{
+		final ObjectKeyMap map = new ObjectKeyMap();
+		final Object a = new Object();
+		final Object b = new Object();
+		assertNull(map.put(a, 0, "a0"));
+		assertNull(map.put(a, 1, "a1"));
+		assertNull(map.put(b, 0, "b0"));
+		assertEquals("a0", map.get(a, 0));
+		assertEquals("a1", map.get(a, 1));
+		assertEquals("b0", map.get(b, 0));
+		assertNull(map.get(b, 1));
+		assertEquals("a0", map.put(a, 0, "a0!"));
+		assertEquals("a0!", map.get(a, 0));
+		assertEquals(3, map.size());
+	}
+
+	@Test
+	public void test_metaCollisionsAreKeptApart()
+	{
+		final ObjectKeyMap map = new ObjectKeyMap();
+		final Object a = new Object();
+		// these metas share the same lower 16 bits, and therefore the same packed key
+		map.put(a, 1, "low");
+		map.put(a, 1 + 0x10000, "high");
+		assertEquals("low", map.get(a, 1));
+		assertEquals("high", map.get(a, 1 + 0x10000));
+		assertFalse(map.containsKey(a, 1 + 0x20000));
+	}
+
+	@Test
+	public void test_grow()
+	{
+		final ObjectKeyMap map = new ObjectKeyMap();
+		final Object[] keys = new Object[1000];
+		for (int i = 0; i < keys.length; ++i)
+		{
+			keys[i] = new Object();
+			map.put(keys[i], i, "v" + i);
+		}
+		assertEquals(keys.length, map.size());
+		for (int i = 0; i < keys.length; ++i)
+		{
+			assertTrue(map.containsKey(keys[i], i));
+			assertEquals("v" + i, map.get(keys[i], i));
+		}
+	}
+}
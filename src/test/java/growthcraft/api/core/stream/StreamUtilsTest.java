@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.stream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import growthcraft.api.core.CoreRegistry;
+import growthcraft.api.core.IEffectRegistry;
+import growthcraft.api.core.effect.AbstractEffect;
+import growthcraft.api.core.effect.EffectChance;
+import growthcraft.api.core.effect.EffectList;
+import growthcraft.api.core.effect.EffectNull;
+import growthcraft.api.core.effect.EffectWeightedRandomList;
+import growthcraft.api.core.effect.IEffect;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class StreamUtilsTest
+{
+	/**
+	 * Effect without IStreamable, the registry falls back to NBT for it
+	 */
+	public static class NBTOnlyEffect extends AbstractEffect
+	{
+		public int value;
+
+		@Override
+		public void apply(World world, Entity entity, Random random, Object data) {}
+
+		@Override
+		protected void getActualDescription(List<String> list) {}
+
+		@Override
+		protected void readFromNBT(NBTTagCompound data)
+		{
+			this.value = data.getInteger("value");
+		}
+
+		@Override
+		protected void writeToNBT(NBTTagCompound data)
+		{
+			data.setInteger("value", value);
+		}
+	}
+
+	@Test
+	public void test_varInt()
+	{
+		final int[] values = { 0, 1, 127, 128, 300, 65535, Integer.MAX_VALUE, -1 };
+		final ByteBuf stream = Unpooled.buffer();
+		for (int v : values) StreamUtils.writeVarInt(stream, v);
+		for (int v : values) assertEquals(v, StreamUtils.readVarInt(stream));
+		assertEquals(0, stream.readableBytes());
+	}
+
+	@Test
+	public void test_effectsList()
+	{
+		final List<IEffect> effects = new ArrayList<IEffect>();
+		effects.add(new EffectChance(new EffectNull()).setChance(0.25f));
+		effects.add(new EffectList().add(new EffectNull()));
+		effects.add(new EffectWeightedRandomList().add(3, new EffectNull()));
+		final ByteBuf stream = Unpooled.buffer();
+		StreamUtils.writeEffectsList(stream, effects);
+
+		final List<IEffect> result = new ArrayList<IEffect>();
+		StreamUtils.readEffectsList(result, stream);
+		assertEquals(0, stream.readableBytes());
+		assertEquals(3, result.size());
+		assertEquals(0.25f, ((EffectChance)result.get(0)).getChance(), 0.0f);
+		assertTrue(((EffectChance)result.get(0)).getEffect() instanceof EffectNull);
+		assertEquals(1, ((EffectList)result.get(1)).size());
+		assertEquals(3, ((EffectWeightedRandomList)result.get(2)).getItemWeight(0));
+	}
+
+	@Test
+	public void test_nbtFallback()
+	{
+		final IEffectRegistry reg = CoreRegistry.instance().getEffectsRegistry();
+		if (reg.getClass("test_nbt_only") == null) reg.register("test_nbt_only", NBTOnlyEffect.class);
+		final NBTOnlyEffect effect = new NBTOnlyEffect();
+		effect.value = 42;
+		final ByteBuf stream = Unpooled.buffer();
+		reg.writeEffectToStream(stream, effect);
+		reg.writeEffectToStream(stream, null);
+
+		final IEffect result = reg.readEffectFromStream(stream);
+		assertTrue(result instanceof NBTOnlyEffect);
+		assertEquals(42, ((NBTOnlyEffect)result).value);
+		assertNull(reg.readEffectFromStream(stream));
+		assertEquals(0, stream.readableBytes());
+	}
+}
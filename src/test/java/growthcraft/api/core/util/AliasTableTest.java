@@ -0,0 +1,51 @@
+package growthcraft.api.core.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AliasTableTest
+{
+	@Test
+	public void test_emptyTable()
+	{
+		final AliasTable<String> table = new AliasTable<String>(Collections.<String>emptyList(), new int[0]);
+		assertTrue(table.isEmpty());
+		assertNull(table.sample(new Random(1)));
+	}
+
+	@Test
+	public void test_zeroWeightsAreNeverPicked()
+	{
+		final AliasTable<String> table = new AliasTable<String>(Arrays.asList("a", "b", "c"), new int[]{ 0, 5, 0 });
+		assertEquals(1, table.size());
+		final Random random = new Random(1);
+		for (int i = 0; i < 1000; ++i)
+		{
+			assertEquals("b", table.sample(random));
+		}
+	}
+
+	@Test
+	public void test_followsWeights()
+	{
+		final AliasTable<Integer> table = new AliasTable<Integer>(Arrays.asList(0, 1, 2, 3), new int[]{ 60, 25, 2, 13 });
+		final int[] counts = new int[4];
+		final Random random = new Random(42);
+		final int samples = 100000;
+		for (int i = 0; i < samples; ++i)
+		{
+			counts[table.sample(random)]++;
+		}
+		assertEquals(0.60, counts[0] / (double)samples, 0.01);
+		assertEquals(0.25, counts[1] / (double)samples, 0.01);
+		assertEquals(0.02, counts[2] / (double)samples, 0.01);
+		assertEquals(0.13, counts[3] / (double)samples, 0.01);
+	}
+}
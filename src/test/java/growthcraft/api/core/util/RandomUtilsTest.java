@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016 IceDragon200
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package growthcraft.api.core.util;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class RandomUtilsTest
+{
+	@Test
+	public void test_binomialEdgeCases()
+	{
+		final Random random = new Random(1);
+		assertEquals(0, RandomUtils.binomial(random, 0, 0.5, 10));
+		assertEquals(0, RandomUtils.binomial(random, 100, 0.0, 10));
+		assertEquals(0, RandomUtils.binomial(random, 100, 0.5, 0));
+		assertEquals(10, RandomUtils.binomial(random, 100, 1.0, 10));
+		assertEquals(4, RandomUtils.binomial(random, 4, 1.0, 10));
+	}
+
+	@Test
+	public void test_binomialIsCapped()
+	{
+		final Random random = new Random(1);
+		for (int i = 0; i < 1000; ++i)
+		{
+			assertEquals(7, RandomUtils.binomial(random, 1000000L, 0.01, 7));
+		}
+	}
+
+	@Test
+	public void test_binomialFollowsMean()
+	{
+		final Random random = new Random(42);
+		final int samples = 100000;
+		long total = 0;
+		for (int i = 0; i < samples; ++i)
+		{
+			total += RandomUtils.binomial(random, 24000L, 3.0 / 4096.0 / 10.0, 100);
+		}
+		assertEquals(24000 * 3.0 / 4096.0 / 10.0, total / (double)samples, 0.02);
+	}
+}